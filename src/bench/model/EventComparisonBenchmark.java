@@ -0,0 +1,124 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+import utilities.TimeUtility;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Compares sorting, conflict scans and time arithmetic on the cached epoch minutes against
+// the LocalDateTime and LocalTime based versions they replaced, which are kept here as baselines
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventComparisonBenchmark {
+    private static final Comparator<DateEvent> BY_START_DATE_TIME = Comparator.comparing(DateEvent::getStartDateTime);
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<DateEvent> sorted;
+    private List<DateEvent> shuffled;
+    private LocalTime[] times;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorted = new ScheduleGenerator(50).dateEvents(size);
+        shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled, new Random(50));
+        times = new LocalTime[1024];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = shuffled.get(i % size).getStartTime();
+        }
+    }
+
+    // EFFECTS: returns difference between two LocalTime the way TimeUtility.diffLocalTimes used to
+    private static LocalTime diffLocalTimesChained(LocalTime time1, LocalTime time2) {
+        if (!time1.isAfter(time2)) {
+            return time2.minusHours(time1.getHour()).minusMinutes(time1.getMinute());
+        } else {
+            return time1.minusHours(time2.getHour()).minusMinutes(time2.getMinute());
+        }
+    }
+
+    @Benchmark
+    public List<DateEvent> sortCached() {
+        List<DateEvent> events = new ArrayList<>(shuffled);
+        events.sort(null);
+        return events;
+    }
+
+    @Benchmark
+    public List<DateEvent> sortByStartDateTime() {
+        List<DateEvent> events = new ArrayList<>(shuffled);
+        events.sort(BY_START_DATE_TIME);
+        return events;
+    }
+
+    @Benchmark
+    public int conflictsCached() {
+        int retVal = 0;
+        for (int i = 0; i < sorted.size() - 1; i++) {
+            if (sorted.get(i + 1).getStartEpochMinute() <= sorted.get(i).getEndEpochMinute()) {
+                retVal++;
+            }
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public int conflictsByDateTime() {
+        int retVal = 0;
+        for (int i = 0; i < sorted.size() - 1; i++) {
+            if (!sorted.get(i + 1).getStartDateTime().isAfter(sorted.get(i).getEndDateTime())) {
+                retVal++;
+            }
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public int lengthMinutes() {
+        int retVal = 0;
+        for (int i = 0; i < times.length; i++) {
+            retVal += shuffled.get(i % size).getLengthMinutes();
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public int lengthTimeChained() {
+        int retVal = 0;
+        for (int i = 0; i < times.length; i++) {
+            DateEvent event = shuffled.get(i % size);
+            retVal += diffLocalTimesChained(event.getStartTime(), event.getEndTime()).getMinute();
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public int diffLocalTimes() {
+        int retVal = 0;
+        for (int i = 1; i < times.length; i++) {
+            retVal += TimeUtility.diffLocalTimes(times[i - 1], times[i]).getMinute();
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public int diffLocalTimesChained() {
+        int retVal = 0;
+        for (int i = 1; i < times.length; i++) {
+            retVal += diffLocalTimesChained(times[i - 1], times[i]).getMinute();
+        }
+        return retVal;
+    }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayTextBenchmark {
+    private static final int YEAR = 2020;
+    private static final LocalDate CURRENT_DATE = LocalDate.of(YEAR, 7, 1);
+
+    // holidays in the year, spread over a tenth as many days so that each day merges about ten of them
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<MultiEvent> merged;
+    private HolidaysContainer holidays;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<MultiEvent> yearHolidays = new ArrayList<>(size);
+        int days = Math.max(1, Math.min(365, size / 10));
+        for (int i = 0; i < size; i++) {
+            yearHolidays.add(new MultiEvent("Holiday " + i, LocalDate.of(YEAR, 1, 1).plusDays(i % days),
+                    LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        }
+        holidays = new HolidaysContainer();
+        Map<Integer, List<MultiEvent>> yearMap = new HashMap<>();
+        yearMap.put(YEAR, yearHolidays);
+        holidays.setHolidaysMap(yearMap);
+        holidays.setSettings(true, false);
+        merged = holidays.getHolidays(YEAR);
+    }
+
+    // the text built the way it was before, with String.concat for every holiday and every merged name
+    @Benchmark
+    public String concatText() {
+        String text = "<html>";
+        for (int i = 0; i < merged.size(); i++) {
+            MultiEvent holiday = merged.get(i);
+            String name = holiday.getName();
+            for (String otherName : holiday.getOtherNames()) {
+                name = name.concat(", " + otherName);
+            }
+            if (holiday.getDate().isBefore(CURRENT_DATE)) {
+                text = text.concat(HolidaysContainer.HTML_DIM_FONT_TAG + "[" + holiday.getTimeString() + "] "
+                        + name + "</font>");
+            } else {
+                text = text.concat("[" + holiday.getTimeString() + "] " + name);
+            }
+            if (i < merged.size() - 1) {
+                text = text.concat("<br>");
+            }
+        }
+        return text.concat("</html>");
+    }
+
+    @Benchmark
+    public String renderText() {
+        return HolidayTextRenderer.render(merged, CURRENT_DATE, true);
+    }
+
+    // what the holidays display costs on every refresh after the first
+    @Benchmark
+    public String memoizedText() {
+        return holidays.getFormattedHolidaysText(YEAR, CURRENT_DATE, true);
+    }
+}
@@ -0,0 +1,33 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiEventBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<MultiEvent> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = new ScheduleGenerator(20).multiEvents(size);
+    }
+
+    // merging links the events of a day together and splitting undoes it,
+    // so doing both keeps the list the same between invocations
+    @Benchmark
+    public List<MultiEvent> mergeThenSplit() {
+        MultiEvent.mergeOrSplitEvents(events, true);
+        MultiEvent.mergeOrSplitEvents(events, false);
+        return events;
+    }
+}
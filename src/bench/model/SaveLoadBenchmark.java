@@ -0,0 +1,56 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveLoadBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"JSON", "BINARY", "PAGED"})
+    private SaveFormat saveFormat;
+
+    private ScheduleContainer schedule;
+    private String fileName;
+    private String saveFileName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        schedule = new ScheduleGenerator(30).schedule(size, 64);
+        fileName = File.createTempFile("bench", ".schedule").getPath();
+        saveFileName = File.createTempFile("bench", ".save").getPath();
+        SaveLoadSystem.saveSchedule(schedule, fileName, saveFormat);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new File(fileName).delete();
+        new File(saveFileName).delete();
+    }
+
+    @Benchmark
+    public ScheduleContainer load() throws IOException {
+        return SaveLoadSystem.loadSchedule(fileName);
+    }
+
+    // loads a paged schedule fully, as opening one alone only reads its directory
+    @Benchmark
+    public int loadAll() throws IOException {
+        return SaveLoadSystem.loadSchedule(fileName).getDateEvents().size();
+    }
+
+    @Benchmark
+    public String save() throws IOException {
+        SaveLoadSystem.saveSchedule(schedule, saveFileName, saveFormat);
+        return saveFileName;
+    }
+}
@@ -0,0 +1,105 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleContainerBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"0", "32", "512"})
+    private int repeats;
+
+    @Param({"1", "31", "366"})
+    private int rangeDays;
+
+    @Param({"false", "true"})
+    private boolean packed;
+
+    private ScheduleContainer schedule;
+    private ScheduleSnapshots snapshots;
+    private ScheduleGenerator generator;
+    private LocalDate[] starts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new ScheduleGenerator(10);
+        schedule = generator.schedule(size, repeats, packed);
+        snapshots = new ScheduleSnapshots(generator.schedule(size, repeats, packed));
+        starts = new LocalDate[1024];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = generator.randomDate(size);
+        }
+    }
+
+    // EFFECTS: returns the start of the next query range, cycling through precomputed dates
+    private LocalDate nextStart() {
+        next = (next + 1) & (starts.length - 1);
+        return starts[next];
+    }
+
+    @Benchmark
+    public Object dateEventsBetweenDates() {
+        LocalDate start = nextStart();
+        return schedule.getDateEventsBetweenDates(start, start.plusDays(rangeDays - 1));
+    }
+
+    @Benchmark
+    public Object repeatEventsBetweenDates() {
+        LocalDate start = nextStart();
+        return schedule.getRepeatEventsBetweenDates(start, start.plusDays(rangeDays - 1));
+    }
+
+    @Benchmark
+    public void occurrencesBetweenDates(Blackhole blackhole) {
+        LocalDate start = nextStart();
+        schedule.getOccurrencesBetweenDates(start, start.plusDays(rangeDays - 1)).forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public int occupancy() {
+        return schedule.getOccupancy(YearMonth.from(nextStart()), true, true);
+    }
+
+    @Benchmark
+    public boolean addThenRemove() {
+        DateEvent event = new DateEvent("Added", nextStart(), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        schedule.addEvent(event);
+        return schedule.removeEvent(event);
+    }
+
+    @Benchmark
+    public boolean snapshotAddThenRemove() {
+        DateEvent event = new DateEvent("Added", nextStart(), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        snapshots.update(copy -> copy.addEvent(event));
+        return snapshots.updateAndGet(copy -> copy.removeEvent(event));
+    }
+
+    @Benchmark
+    public void sort() {
+        schedule.sort();
+    }
+
+    @Benchmark
+    public Object searchDateEvents() {
+        LocalDate start = nextStart();
+        return schedule.searchDateEvents("Event " + (next * 7919 % size), start, start.plusDays(rangeDays - 1));
+    }
+
+    @Benchmark
+    public boolean dateEventConflict() {
+        return schedule.hasDateEventConflict();
+    }
+}
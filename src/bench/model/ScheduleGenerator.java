@@ -0,0 +1,87 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Builds reproducible synthetic schedules for the benchmarks, the same seed always gives the same events
+public class ScheduleGenerator {
+    public static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    // average number of date events on a day that has events, close to a busy real calendar
+    public static final int EVENTS_PER_DAY = 8;
+
+    private final Random random;
+
+    public ScheduleGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    // EFFECTS: returns the number of days size date events are spread over
+    public static int spanDays(int size) {
+        return Math.max(1, size / EVENTS_PER_DAY);
+    }
+
+    // EFFECTS: returns a random start time on a quarter hour
+    private LocalTime randomTime() {
+        return LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+    }
+
+    // EFFECTS: returns a random date in the span of size date events
+    public LocalDate randomDate(int size) {
+        return BASE_DATE.plusDays(random.nextInt(spanDays(size)));
+    }
+
+    // EFFECTS: returns size date events spread over spanDays(size) days from BASE_DATE, sorted
+    public List<DateEvent> dateEvents(int size) {
+        List<DateEvent> retVal = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalTime start = randomTime();
+            retVal.add(new DateEvent("Event " + i, randomDate(size), start,
+                    start.plusMinutes(15 + random.nextInt(8) * 15)));
+        }
+        retVal.sort(null);
+        return retVal;
+    }
+
+    // EFFECTS: returns size multiEvents spread the same way as dateEvents, sorted
+    public List<MultiEvent> multiEvents(int size) {
+        List<MultiEvent> retVal = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            retVal.add(new MultiEvent("Holiday " + i, randomDate(size), LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        }
+        retVal.sort(null);
+        return retVal;
+    }
+
+    // EFFECTS: returns count repeat events, half weekly and half monthly
+    public List<RepeatEvent> repeatEvents(int count) {
+        List<RepeatEvent> retVal = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = randomTime();
+            LocalTime end = start.plusMinutes(30);
+            if (i % 2 == 0) {
+                retVal.add(new WeeklyEvent("Weekly " + i, DayOfWeek.of(1 + random.nextInt(7)), start, end));
+            } else {
+                retVal.add(new MonthlyEvent("Monthly " + i, 1 + random.nextInt(31), start, end));
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns a sorted schedule of size date events and repeats repeat events
+    public ScheduleContainer schedule(int size, int repeats) {
+        return schedule(size, repeats, false);
+    }
+
+    // EFFECTS: returns a sorted schedule of size date events and repeats repeat events,
+    //          with the date events packed into primitive arrays if packed is true
+    public ScheduleContainer schedule(int size, int repeats, boolean packed) {
+        ScheduleContainer retVal = packed ? ScheduleContainer.packed() : new ScheduleContainer();
+        retVal.addDateEvents(dateEvents(size));
+        retVal.addRepeatEvents(repeatEvents(repeats));
+        return retVal;
+    }
+}
@@ -0,0 +1,44 @@
+package utilities;
+
+import model.DateEvent;
+import model.ScheduleGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventUtilityBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"1", "31", "366"})
+    private int rangeDays;
+
+    private List<DateEvent> events;
+    private LocalDate[] starts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScheduleGenerator generator = new ScheduleGenerator(40);
+        events = generator.dateEvents(size);
+        starts = new LocalDate[1024];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = generator.randomDate(size);
+        }
+    }
+
+    @Benchmark
+    public List<DateEvent> eventsBetweenDates() {
+        next = (next + 1) & (starts.length - 1);
+        LocalDate start = starts[next];
+        return EventUtility.eventsBetweenDates(start, start.plusDays(rangeDays - 1), events);
+    }
+}
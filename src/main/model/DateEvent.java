@@ -13,11 +13,16 @@ import static utilities.TimeUtility.*;
 
 @JsonDeserialize(using = DateEventDeserializer.class)
 public class DateEvent extends ScheduleEvent {
-    private LocalDate date;
+    private final LocalDate date;
+    // start and end as minutes since the epoch, so that sorting and conflict checks allocate nothing
+    private final long startEpochMinute;
+    private final long endEpochMinute;
 
     public DateEvent(String name, LocalDate date, LocalTime startTime, LocalTime endTime) {
         super(name, startTime, endTime);
         this.date = date;
+        startEpochMinute = atStartOfDayEpochMinute(date) + getStartMinute();
+        endEpochMinute = atStartOfDayEpochMinute(date) + getEndMinute();
     }
 
     public DateEvent(String name, LocalDateTime startDateTime) {
@@ -26,8 +31,14 @@ public class DateEvent extends ScheduleEvent {
     }
 
     public DateEvent(String name, String date, String startTime, String endTime) {
-        super(name, startTime, endTime);
-        this.date = LocalDate.parse(date, DATE_FORMATTER);
+        this(name, LocalDate.parse(date, DATE_FORMATTER), LocalTime.parse(startTime, TIME_FORMATTER),
+                LocalTime.parse(endTime, TIME_FORMATTER));
+    }
+
+    // EFFECTS: returns a copy of this event with name
+    @Override
+    public DateEvent withName(String name) {
+        return new DateEvent(name, date, startTime, endTime);
     }
 
     // EFFECTS: returns date
@@ -65,9 +76,20 @@ public class DateEvent extends ScheduleEvent {
         return LocalDateTime.of(date, endTime);
     }
 
+    // EFFECTS: returns start of event as minutes since the epoch
+    @JsonIgnore
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    // EFFECTS: returns end of event as minutes since the epoch
+    @JsonIgnore
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
+
     @Override
     public int compareTo(ScheduleEvent o) {
-        DateEvent other = (DateEvent) o;
-        return getStartDateTime().compareTo(other.getStartDateTime());
+        return Long.compare(startEpochMinute, ((DateEvent) o).startEpochMinute);
     }
 }
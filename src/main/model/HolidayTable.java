@@ -0,0 +1,92 @@
+package model;
+
+import utilities.TimeUtility;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// The holidays of one year in order, indexed by day: the holidays of each day and each month are kept as views
+// of the one list, found by the days from the first day of the year, so looking them up allocates nothing.
+// Made once from an unmodifiable list and never changed.
+public class HolidayTable {
+    private final int year;
+    private final long firstEpochDay;
+    private final List<MultiEvent> holidays;
+    // holidays of each day of the year, at the index of its days from the first day of the year
+    private final List<List<MultiEvent>> daySlots;
+    private final List<List<MultiEvent>> monthSlots;
+    // day masks of the holidays in each month, bit (d - 1) is set if there is a holiday on day d
+    private final int[] monthDays;
+
+    // REQUIRES: holidays is unmodifiable and in order of date
+    // EFFECTS: indexes the holidays of year in holidays, leaving out any on another year
+    public HolidayTable(int year, List<MultiEvent> holidays) {
+        this.year = year;
+        this.holidays = holidays;
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        firstEpochDay = firstDay.toEpochDay();
+        int days = firstDay.lengthOfYear();
+
+        // starts[d] is the index of the first holiday on or after day d, starts[days] the end of the year
+        int[] starts = new int[days + 1];
+        int index = 0;
+        for (int day = 0; day <= days; day++) {
+            while (index < holidays.size() && holidays.get(index).getDate().toEpochDay() < firstEpochDay + day) {
+                index++;
+            }
+            starts[day] = index;
+        }
+
+        daySlots = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            daySlots.add(slot(starts[day], starts[day + 1]));
+        }
+        monthSlots = new ArrayList<>(12);
+        monthDays = new int[12];
+        for (int month = 1; month <= 12; month++) {
+            int first = firstDay.withMonth(month).getDayOfYear() - 1;
+            int end = first + YearMonth.of(year, month).lengthOfMonth();
+            monthSlots.add(slot(starts[first], starts[end]));
+            for (int day = first; day < end; day++) {
+                if (starts[day] < starts[day + 1]) {
+                    monthDays[month - 1] |= TimeUtility.dayMask(day - first + 1);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the holidays from index start up to but not including end, sharing the empty list
+    private List<MultiEvent> slot(int start, int end) {
+        return start == end ? Collections.emptyList() : holidays.subList(start, end);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    // EFFECTS: returns all the holidays the table was made from
+    public List<MultiEvent> getHolidays() {
+        return holidays;
+    }
+
+    // REQUIRES: date is in the year of this
+    // EFFECTS: returns the unmodifiable holidays on date
+    public List<MultiEvent> getHolidaysOn(LocalDate date) {
+        return daySlots.get((int) (date.toEpochDay() - firstEpochDay));
+    }
+
+    // REQUIRES: yearMonth is in the year of this
+    // EFFECTS: returns the unmodifiable holidays in yearMonth
+    public List<MultiEvent> getHolidaysIn(YearMonth yearMonth) {
+        return monthSlots.get(yearMonth.getMonthValue() - 1);
+    }
+
+    // REQUIRES: yearMonth is in the year of this
+    // EFFECTS: returns a day mask of the days of yearMonth with holidays, bit (d - 1) is set for day d
+    public int getOccupancy(YearMonth yearMonth) {
+        return monthDays[yearMonth.getMonthValue() - 1];
+    }
+}
@@ -0,0 +1,111 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Renders the holidays of a year as the html text of the holidays display in one pass, and keeps the text of each
+// (year, current date, dim, merge) until told that the holidays of the year changed
+public class HolidayTextRenderer {
+    private final Map<Key, String> texts;
+
+    public HolidayTextRenderer() {
+        texts = new ConcurrentHashMap<>();
+    }
+
+    // EFFECTS: returns the html text of holidays, one per line, with a lighter color for ones before currentDate
+    //          if doDim is true
+    public static String render(List<MultiEvent> holidays, LocalDate currentDate, boolean doDim) {
+        StringBuilder sb = new StringBuilder(16 + 48 * holidays.size());
+        sb.append("<html>");
+        for (int i = 0; i < holidays.size(); i++) {
+            if (i > 0) {
+                sb.append("<br>");
+            }
+            appendHoliday(sb, holidays.get(i), currentDate, doDim);
+        }
+        return sb.append("</html>").toString();
+    }
+
+    // MODIFIES: sb
+    // EFFECTS: appends the text of holiday to sb, with a lighter color if it is before currentDate and doDim
+    private static void appendHoliday(StringBuilder sb, MultiEvent holiday, LocalDate currentDate, boolean doDim) {
+        boolean dim = doDim && holiday.getDate().isBefore(currentDate);
+        if (dim) {
+            sb.append(HolidaysContainer.HTML_DIM_FONT_TAG);
+        }
+        sb.append('[').append(holiday.getTimeString()).append("] ");
+        holiday.appendMergedName(sb);
+        if (dim) {
+            sb.append("</font>");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the text of year rendered from holidays, which is only asked for if it is not kept yet;
+    //          keeps only the latest currentDate of each year
+    public String getText(int year, LocalDate currentDate, boolean doDim, boolean merge,
+                          Supplier<List<MultiEvent>> holidays) {
+        Key key = new Key(year, currentDate, doDim, merge);
+        String text = texts.get(key);
+        if (text == null) {
+            texts.keySet().removeIf(other -> other.year == year && !other.currentDate.equals(currentDate));
+            text = render(holidays.get(), currentDate, doDim);
+            texts.put(key, text);
+        }
+        return text;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops the texts of year, for when its holidays change
+    public void invalidate(int year) {
+        texts.keySet().removeIf(key -> key.year == year);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops all texts
+    public void clear() {
+        texts.clear();
+    }
+
+    // EFFECTS: returns the number of texts kept
+    public int size() {
+        return texts.size();
+    }
+
+    // What a text was rendered for
+    private static final class Key {
+        private final int year;
+        private final LocalDate currentDate;
+        private final boolean doDim;
+        private final boolean merge;
+
+        private Key(int year, LocalDate currentDate, boolean doDim, boolean merge) {
+            this.year = year;
+            this.currentDate = currentDate;
+            this.doDim = doDim;
+            this.merge = merge;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return year == key.year && doDim == key.doDim && merge == key.merge
+                    && currentDate.equals(key.currentDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(year, currentDate, doDim, merge);
+        }
+    }
+}
@@ -1,32 +1,57 @@
 package model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import network.PageReader;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import network.HolidayProvider;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
-import utilities.EventUtility;
+import utilities.TimeUtility;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static model.FormatterPattern.DATE_DASH_FORMATTER;
 
+// Holidays of any number of countries, stored by (country, year) in a single file keyed by
+// HolidayProvider.key(country, year). The holidays shown for a year are those of all the selected countries
+// overlaid on each other, so changing the selection never fetches a country again.
+// The stored lists are never changed once stored; the merged and split views shown for a year are made from them
+// once, indexed by day in a HolidayTable, and kept until the holidays or the selected countries change, so reading
+// holidays changes nothing and readers may run at the same time as long as none runs while holidays are replaced.
+// Holidays are fetched without holding the lock on this, which is only held to store what was fetched and to make
+// a view, so a slow fetch never holds up a reader or a change of settings that locks this.
 public class HolidaysContainer implements SaveLoadSystem {
     public static final String HTML_DIM_FONT_TAG = "<font color=#999999>";
     public static final String COUNTRY_CODE = "CA";
 
-    private Map<Integer, List<MultiEvent>> yearHolidays;
+    // unmodifiable lists of split holidays of each country and year in order, keyed by
+    // HolidayProvider.key(country, year)
+    private Map<String, List<MultiEvent>> countryHolidays;
+    // tables of the holidays of the selected countries for each year, merged and split
+    private final Map<Integer, HolidayTable> mergedViews;
+    private final Map<Integer, HolidayTable> splitViews;
+    private volatile List<String> countries;
+    private final HolidayTextRenderer texts;
     private String saveFile;
     private boolean merge;
     private boolean doWeb;
+    private HolidayProvider provider;
 
     public HolidaysContainer() {
-        yearHolidays = new HashMap<>();
+        countryHolidays = new ConcurrentSkipListMap<>();
+        mergedViews = new ConcurrentHashMap<>();
+        splitViews = new ConcurrentHashMap<>();
+        countries = Collections.singletonList(COUNTRY_CODE);
+        texts = new HolidayTextRenderer();
         saveFile = Settings.DEFAULT_HOLIDAYS_FILE;
+        provider = new HolidayProvider();
     }
 
     @JsonIgnore
@@ -35,17 +60,82 @@ public class HolidaysContainer implements SaveLoadSystem {
         this.doWeb = doWeb;
     }
 
+    // REQUIRES: countries is not empty
+    // MODIFIES: this
+    // EFFECTS: shows the holidays of countries from now on, overlaid in the order given
+    @JsonIgnore
+    public void setCountries(List<String> countries) {
+        if (!this.countries.equals(countries)) {
+            this.countries = Collections.unmodifiableList(new ArrayList<>(countries));
+            clearViews();
+        }
+    }
+
+    @JsonIgnore
+    public List<String> getCountries() {
+        return countries;
+    }
+
     @JsonIgnore
     public void setSaveFile(String saveFile) {
         this.saveFile = saveFile;
     }
 
+    // MODIFIES: this
+    // EFFECTS: fetches holidays from the web with provider from now on, forgetting when years were last fetched
+    @JsonIgnore
+    public void setProvider(HolidayProvider provider) {
+        this.provider = provider;
+    }
+
+    // EFFECTS: returns when each year was last fetched from the web, saved so that a restart does not fetch again
+    public Map<String, HolidayProvider.FetchRecord> getFetchRecords() {
+        return provider.getRecords();
+    }
+
+    public void setFetchRecords(Map<String, HolidayProvider.FetchRecord> fetchRecords) {
+        provider.setRecords(fetchRecords);
+    }
+
+    public Map<String, List<MultiEvent>> getCountryHolidays() {
+        return countryHolidays;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces all holidays with copies of countryHolidays
+    public void setCountryHolidays(Map<String, List<MultiEvent>> countryHolidays) {
+        Map<String, List<MultiEvent>> stored = new ConcurrentSkipListMap<>();
+        for (Map.Entry<String, List<MultiEvent>> entry : countryHolidays.entrySet()) {
+            stored.put(entry.getKey(), toStored(entry.getValue()));
+        }
+        this.countryHolidays = stored;
+        clearViews();
+    }
+
+    // EFFECTS: returns the holidays of the first selected country by year
+    @JsonIgnore
     public Map<Integer, List<MultiEvent>> getHolidaysMap() {
-        return yearHolidays;
+        Map<Integer, List<MultiEvent>> retVal = new TreeMap<>();
+        String prefix = HolidayProvider.keyPrefix(countries.get(0));
+        for (Map.Entry<String, List<MultiEvent>> entry : countryHolidays.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                retVal.put(Integer.parseInt(entry.getKey().substring(prefix.length())), entry.getValue());
+            }
+        }
+        return retVal;
     }
 
+    // MODIFIES: this
+    // EFFECTS: replaces the holidays of the first selected country with copies of yearHolidays, which is also how
+    //          holidays saved before there were several countries are read
+    @JsonProperty("holidaysMap")
     public void setHolidaysMap(Map<Integer, List<MultiEvent>> yearHolidays) {
-        this.yearHolidays = yearHolidays;
+        String country = countries.get(0);
+        countryHolidays.keySet().removeIf(key -> key.startsWith(HolidayProvider.keyPrefix(country)));
+        for (Map.Entry<Integer, List<MultiEvent>> entry : yearHolidays.entrySet()) {
+            countryHolidays.put(HolidayProvider.key(country, entry.getKey()), toStored(entry.getValue()));
+        }
+        clearViews();
     }
 
     @Override
@@ -65,7 +155,9 @@ public class HolidaysContainer implements SaveLoadSystem {
     public boolean load() {
         boolean success = true;
         try {
-            setHolidaysMap(SaveLoadSystem.loadWithJackson(saveFile, HolidaysContainer.class).getHolidaysMap());
+            HolidaysContainer loaded = SaveLoadSystem.loadWithJackson(saveFile, HolidaysContainer.class);
+            setCountryHolidays(loaded.getCountryHolidays());
+            setFetchRecords(loaded.getFetchRecords());
         } catch (IOException e) {
             e.printStackTrace();
             System.out.println("Failed to load holidays.");
@@ -90,77 +182,180 @@ public class HolidaysContainer implements SaveLoadSystem {
                 LocalTime.of(0,0), LocalTime.of(23,59));
     }
 
-    // EFFECTS: returns a formatted text of the holiday with a lighter color for ones before currentDate
-    private static String getFormattedHolidayText(MultiEvent holiday, LocalDate currentDate, boolean doDim) {
-        boolean isBefore = holiday.getDate().isBefore(currentDate);
-        if (doDim && isBefore) {
-            return HTML_DIM_FONT_TAG + "[" + holiday.getTimeString() + "] " + holiday.getMergedName() + "</font>";
-        } else {
-            return "[" + holiday.getTimeString() + "] " + holiday.getMergedName();
+    // MODIFIES: this
+    // EFFECTS: updates the current holidays of each selected country for a year if missing or changed and returns
+    //          them overlaid; a year already fetched is only asked for again once it is older than the provider's
+    //          time to live
+    public List<MultiEvent> getHolidays(int year) {
+        return getTable(year).getHolidays();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates the holidays of a year as getHolidays does and returns them indexed by day
+    private HolidayTable getTable(int year) {
+        prefetchHolidaysInBackground(Collections.singletonList(year)).join();
+        synchronized (this) {
+            Map<Integer, HolidayTable> views = merge ? mergedViews : splitViews;
+            HolidayTable table = views.get(year);
+            if (table == null) {
+                table = new HolidayTable(year, createView(year, merge));
+                views.put(year, table);
+            }
+            return table;
         }
     }
 
     // MODIFIES: this
-    // EFFECTS: updates the current holidays for a year if missing or changed and returns it
-    public List<MultiEvent> getHolidays(int year) {
-        List<MultiEvent> holidays = yearHolidays.get(year);
-        if (doWeb && (holidays == null || holidays.size() < 1)) {
-            String theURL = "https://date.nager.at/api/v2/PublicHolidays/" + year + "/" + COUNTRY_CODE;
-            try {
-                holidays = getHolidaysFrom(new JSONArray(PageReader.readWebPage(theURL)));
-                yearHolidays.put(year, holidays);
-                MultiEvent.mergeEvents(holidays);
-                save();
-            } catch (IOException | JSONException ie) {
-                ie.printStackTrace();
+    // EFFECTS: fetches the holidays of years as prefetchHolidaysInBackground does and returns once they are stored
+    public void prefetchHolidays(Collection<Integer> years) {
+        prefetchHolidaysInBackground(years).join();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fetches the holidays of years for all the selected countries at the same time on the threads of the
+    //          provider if fetching from the web is on, then saves once if any changed; returns a future that is done
+    //          once they are stored, holding the lock on this only while reading what to fetch and storing
+    public CompletableFuture<Void> prefetchHolidaysInBackground(Collection<Integer> years) {
+        List<String> fetchCountries;
+        Set<String> copies = new HashSet<>();
+        HolidayProvider fetcher;
+        synchronized (this) {
+            if (!doWeb) {
+                return CompletableFuture.completedFuture(null);
+            }
+            fetchCountries = countries;
+            for (String country : fetchCountries) {
+                for (int year : years) {
+                    if (hasCopy(country, year)) {
+                        copies.add(HolidayProvider.key(country, year));
+                    }
+                }
+            }
+            fetcher = provider;
+        }
+        return fetcher.fetchAllInBackground(fetchCountries, years, copies::contains)
+                .thenAccept(fetched -> storeFetched(fetchCountries, years, fetched));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores the holidays in the fetched json text of each year of years of each of fetchCountries,
+    //          keyed by HolidayProvider.key, then saves if any were fetched
+    private synchronized void storeFetched(List<String> fetchCountries, Collection<Integer> years,
+                                           Map<String, String> fetched) {
+        if (fetched.isEmpty()) {
+            return;
+        }
+        for (String country : fetchCountries) {
+            for (int year : years) {
+                String json = fetched.get(HolidayProvider.key(country, year));
+                try {
+                    if (json != null) {
+                        putFetched(country, year, json);
+                    }
+                } catch (JSONException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        save();
+    }
+
+    // EFFECTS: returns true if holidays are stored for year of country, even if there are none
+    private boolean hasCopy(String country, int year) {
+        return countryHolidays.containsKey(HolidayProvider.key(country, year));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores the holidays of year of country in the fetched json text
+    private void putFetched(String country, int year, String json) {
+        countryHolidays.put(HolidayProvider.key(country, year), toStored(getHolidaysFrom(new JSONArray(json))));
+        mergedViews.remove(year);
+        splitViews.remove(year);
+        texts.invalidate(year);
+    }
+
+    // EFFECTS: returns the holidays of year of the selected countries in order, merged if merge is true;
+    //          the stored list itself if it is split and of the only selected country, otherwise a new list with
+    //          the country after each name if more than one country is selected
+    private List<MultiEvent> createView(int year, boolean merge) {
+        List<String> viewCountries = countries;
+        if (viewCountries.size() == 1 && !merge) {
+            return storedHolidays(viewCountries.get(0), year);
+        }
+        List<MultiEvent> retVal = new ArrayList<>();
+        for (String country : viewCountries) {
+            String label = viewCountries.size() == 1 ? "" : " (" + country + ")";
+            for (MultiEvent holiday : storedHolidays(country, year)) {
+                retVal.add(new MultiEvent(holiday.getName() + label, holiday.getDate(),
+                        holiday.getStartTime(), holiday.getEndTime()));
             }
         }
-        if (holidays == null) {
-            holidays = new ArrayList<>();
-            yearHolidays.put(year, holidays);
+        retVal.sort(null);
+        if (merge) {
+            MultiEvent.mergeEvents(retVal);
+        }
+        return Collections.unmodifiableList(retVal);
+    }
+
+    // EFFECTS: returns the stored holidays of year of country, empty if there are none
+    private List<MultiEvent> storedHolidays(String country, int year) {
+        List<MultiEvent> holidays = countryHolidays.get(HolidayProvider.key(country, year));
+        return holidays == null ? Collections.emptyList() : holidays;
+    }
+
+    // EFFECTS: returns a new unmodifiable list in order with a split holiday for each name of holidays,
+    //          so that the stored holidays share nothing with the lists given to this
+    private static List<MultiEvent> toStored(List<MultiEvent> holidays) {
+        List<MultiEvent> retVal = new ArrayList<>();
+        for (MultiEvent holiday : holidays) {
+            retVal.add(new MultiEvent(holiday.getName(), holiday.getDate(),
+                    holiday.getStartTime(), holiday.getEndTime()));
+            for (String otherName : holiday.getOtherNames()) {
+                retVal.add(new MultiEvent(otherName, holiday.getDate(), holiday.getStartTime(),
+                        holiday.getEndTime()));
+            }
         }
-        MultiEvent.mergeOrSplitEvents(holidays, merge);
-        return holidays;
+        retVal.sort(null);
+        return Collections.unmodifiableList(retVal);
     }
 
     // MODIFIES: this
-    // EFFECTS: returns a list of all dateEvents in schedule that are in yearMonth
+    // EFFECTS: drops the views and texts, for when the holidays or selected countries change
+    private void clearViews() {
+        mergedViews.clear();
+        splitViews.clear();
+        texts.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates and returns the unmodifiable holidays in yearMonth
     public List<MultiEvent> getHolidaysForYearMonth(YearMonth yearMonth) {
-        List<MultiEvent> holidaysForYear = getHolidays(yearMonth.getYear());
-        return EventUtility.eventsBetweenDates(yearMonth.atDay(1), yearMonth.atEndOfMonth(),
-                holidaysForYear);
+        return getTable(yearMonth.getYear()).getHolidaysIn(yearMonth);
     }
 
     // MODIFIES: this
-    // EFFECTS: updates and returns holidays
+    // EFFECTS: updates and returns the unmodifiable holidays on date
     public List<MultiEvent> getHolidayForDate(LocalDate date) {
-        List<MultiEvent> holidaysForYear = getHolidays(date.getYear());
-        return EventUtility.eventsBetweenDates(date, date, holidaysForYear);
+        return getTable(date.getYear()).getHolidaysOn(date);
     }
 
     // MODIFIES: this
-    // EFFECTS: updates and returns a formatted text of all of a list of holidays
+    // EFFECTS: updates and returns a formatted text of all of a list of holidays, kept until the holidays change
     public String getFormattedHolidaysText(int year, LocalDate currentDate, boolean doDim) {
         List<MultiEvent> holidays = getHolidays(year);
-        String text = "<html>";
-        for (int i = 0; i < holidays.size(); i++) {
-            text = text.concat(getFormattedHolidayText(holidays.get(i), currentDate, doDim));
-            if (i < holidays.size() - 1) {
-                text = text.concat("<br>");
-            }
-        }
-        text = text.concat("</html>");
-        return text;
+        return texts.getText(year, currentDate, doDim, merge, () -> holidays);
     }
 
     // MODIFIES: this
     // EFFECTS: updates and returns an array of booleans for a month, where values correspond to a holiday on that day
     public boolean[] createHasHolidaysForYearMonth(YearMonth yearMonth) {
-        boolean[] hasHolidays = new boolean[yearMonth.lengthOfMonth()];
-        List<MultiEvent> holidaysForMonth = getHolidaysForYearMonth(yearMonth);
-        for (MultiEvent holiday : holidaysForMonth) {
-            hasHolidays[holiday.getDate().getDayOfMonth() - 1] = true;
-        }
-        return hasHolidays;
+        return TimeUtility.toDayArray(getHolidayOccupancy(yearMonth), yearMonth);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a day mask of the days of yearMonth with holidays, bit (d - 1) is set for day d;
+    //          the masks of a year are worked out once and kept until its holidays change
+    public int getHolidayOccupancy(YearMonth yearMonth) {
+        return getTable(yearMonth.getYear()).getOccupancy(yearMonth);
     }
 }
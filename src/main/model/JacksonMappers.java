@@ -0,0 +1,62 @@
+package model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import model.deserializers.ColorDeserializer;
+import model.serializers.ColorSerializer;
+import model.serializers.LocalDateSerializer;
+import model.serializers.LocalTimeSerializer;
+
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class JacksonMappers {
+    private static final ObjectMapper SAVE_MAPPER = createSaveMapper();
+    private static final ObjectMapper LOAD_MAPPER = createLoadMapper();
+    private static final ObjectWriter WRITER = SAVE_MAPPER.writer();
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private JacksonMappers() {
+    }
+
+    // EFFECTS: returns a new object mapper configured for saving
+    private static ObjectMapper createSaveMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleModule simpleModule = new SimpleModule();
+        simpleModule.addSerializer(LocalDate.class, new LocalDateSerializer());
+        simpleModule.addSerializer(LocalTime.class, new LocalTimeSerializer());
+        simpleModule.addSerializer(Color.class, new ColorSerializer());
+        objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+        objectMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        objectMapper.registerModule(simpleModule);
+        return objectMapper;
+    }
+
+    // EFFECTS: returns a new object mapper configured for loading
+    private static ObjectMapper createLoadMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(Color.class, new ColorDeserializer());
+        objectMapper.registerModule(module);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+
+    // EFFECTS: returns the shared (thread-safe) writer used for saving
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    // EFFECTS: returns the shared (thread-safe) reader used for loading valueType
+    public static ObjectReader readerFor(Class<?> valueType) {
+        return READERS.computeIfAbsent(valueType, LOAD_MAPPER::readerFor);
+    }
+}
@@ -19,6 +19,12 @@ public class MonthlyEvent extends RepeatEvent {
         super(name, startTime, endTime, ChronoUnit.MONTHS, dayOfMonth);
     }
 
+    // EFFECTS: returns a copy of this event with name
+    @Override
+    public MonthlyEvent withName(String name) {
+        return new MonthlyEvent(name, getDayOf(), startTime, endTime);
+    }
+
     // EFFECTS: returns the formatted string for the time scale of the event
     @Override
     public String getTimeScaleString() {
@@ -30,4 +36,18 @@ public class MonthlyEvent extends RepeatEvent {
     public boolean isOnDate(LocalDate date) {
         return getDayOf() == date.getDayOfMonth();
     }
+
+    // EFFECTS: returns the first date on or after date that is on dayOfMonth,
+    //          skipping months that are too short to have dayOfMonth
+    @Override
+    public LocalDate nextDateFrom(LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
+        if (date.getDayOfMonth() > getDayOf()) {
+            yearMonth = yearMonth.plusMonths(1);
+        }
+        while (!yearMonth.isValidDay(getDayOf())) {
+            yearMonth = yearMonth.plusMonths(1);
+        }
+        return yearMonth.atDay(getDayOf());
+    }
 }
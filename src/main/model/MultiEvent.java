@@ -54,6 +54,14 @@ public class MultiEvent extends DateEvent {
         }
     }
 
+    // EFFECTS: returns a copy of this event with name, keeping the other names
+    @Override
+    public MultiEvent withName(String name) {
+        MultiEvent retVal = new MultiEvent(name, getDate(), startTime, endTime);
+        retVal.otherNames.addAll(otherNames);
+        return retVal;
+    }
+
     // EFFECTS: returns all of the other names
     public List<String> getOtherNames() {
         return otherNames;
@@ -67,11 +75,20 @@ public class MultiEvent extends DateEvent {
     // EFFECTS: gets the names of all the multiEvents together
     @JsonIgnore
     public String getMergedName() {
-        String retVal = getName();
+        if (otherNames.isEmpty()) {
+            return getName();
+        }
+        return appendMergedName(new StringBuilder()).toString();
+    }
+
+    // MODIFIES: sb
+    // EFFECTS: appends the names of all the multiEvents together to sb and returns it
+    public StringBuilder appendMergedName(StringBuilder sb) {
+        sb.append(getName());
         for (String otherName : otherNames) {
-            retVal = retVal.concat(", " + otherName);
+            sb.append(", ").append(otherName);
         }
-        return retVal;
+        return sb;
     }
 
     // MODIFIES: this
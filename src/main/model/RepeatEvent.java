@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
@@ -45,6 +46,9 @@ public abstract class RepeatEvent extends ScheduleEvent {
         return repeatKey.getTimeScale();
     }
 
+    // EFFECTS: returns the first date on or after date that the event is on, or null if there is none
+    public abstract LocalDate nextDateFrom(LocalDate date);
+
     @Override
     public int compareTo(ScheduleEvent o) {
         RepeatEvent other = (RepeatEvent) o;
@@ -56,6 +60,6 @@ public abstract class RepeatEvent extends ScheduleEvent {
         if (compareDayOf != 0) {
             return compareDayOf;
         }
-        return getStartTime().compareTo(other.getStartTime());
+        return Integer.compare(getStartMinute(), other.getStartMinute());
     }
 }
@@ -0,0 +1,7 @@
+package model;
+
+public enum SaveFormat {
+    JSON,
+    BINARY,
+    PAGED
+}
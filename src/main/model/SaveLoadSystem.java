@@ -1,24 +1,24 @@
 package model;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import model.deserializers.ColorDeserializer;
-import model.serializers.ColorSerializer;
-import model.serializers.LocalDateSerializer;
-import model.serializers.LocalTimeSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import model.storage.BinaryScheduleFormat;
+import model.storage.PagedScheduleFormat;
 
-import java.awt.*;
 import java.io.*;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 
 public interface SaveLoadSystem {
     boolean PRINT_PATH = true;
     boolean PRINT_DATA_ON_SAVE = false;
+    String TEMP_EXTENSION = ".tmp";
 
-    // EFFECTS: saves saveable onto file
+    // writes the contents of a file onto its output stream
+    interface StreamWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    // EFFECTS: saves saveable onto file, serializing it only once
     static <T> void saveWithJackson(T saveable, String fileName) throws IOException {
         if (PRINT_PATH) {
             System.out.println("Attempting to save to: " + fileName);
@@ -26,18 +26,31 @@ public interface SaveLoadSystem {
         if (fileName.isEmpty()) {
             throw new IOException("File Name is empty");
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        SimpleModule simpleModule = new SimpleModule();
-        simpleModule.addSerializer(LocalDate.class, new LocalDateSerializer());
-        simpleModule.addSerializer(LocalTime.class, new LocalTimeSerializer());
-        simpleModule.addSerializer(Color.class, new ColorSerializer());
-        objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
-        objectMapper.registerModule(simpleModule);
-        String jsonText = objectMapper.writeValueAsString(saveable);
+        ObjectWriter objectWriter = JacksonMappers.writer();
         if (PRINT_DATA_ON_SAVE) {
+            String jsonText = objectWriter.writeValueAsString(saveable);
             System.out.println(jsonText);
+            writeAtomically(fileName, outputStream -> outputStream.write(jsonText.getBytes(StandardCharsets.UTF_8)));
+        } else {
+            writeAtomically(fileName, outputStream -> objectWriter.writeValue(outputStream, saveable));
+        }
+    }
+
+    // MODIFIES: the file at fileName
+    // EFFECTS: writes a temporary file next to fileName with streamWriter, syncs it to disk,
+    //          then moves it over fileName so the file is never left half written
+    static void writeAtomically(String fileName, StreamWriter streamWriter) throws IOException {
+        String tempFileName = fileName + TEMP_EXTENSION;
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tempFileName)) {
+            OutputStream outputStream = new BufferedOutputStream(fileOutputStream);
+            streamWriter.write(outputStream);
+            outputStream.flush();
+            fileOutputStream.getFD().sync();
+        } catch (IOException e) {
+            Files.deleteIfExists(Paths.get(tempFileName));
+            throw e;
         }
-        objectMapper.writeValue(new File(fileName), saveable);
+        replaceFile(tempFileName, fileName);
     }
 
     // EFFECTS: loads object from file in path fileName
@@ -48,14 +61,83 @@ public interface SaveLoadSystem {
         if (fileName.isEmpty()) {
             throw new IOException("File Name is empty");
         }
-        try (FileInputStream fileInputStream = new FileInputStream(fileName)) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            SimpleModule module = new SimpleModule();
-            module.addDeserializer(Color.class, new ColorDeserializer());
-            objectMapper.registerModule(module);
-            objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
-            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            return objectMapper.readValue(fileInputStream, valueType);
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(fileName))) {
+            return JacksonMappers.readerFor(valueType).readValue(inputStream);
+        }
+    }
+
+    // EFFECTS: saves schedule onto file in the given format; months of schedule still in a paged file are
+    //          read from it one at a time as they are written, and since the new file is moved over fileName
+    //          rather than written into it, a schedule paged from fileName keeps reading the file it opened
+    static void saveSchedule(ScheduleContainer schedule, String fileName, SaveFormat saveFormat)
+            throws IOException {
+        if (saveFormat == SaveFormat.JSON) {
+            saveWithJackson(schedule, fileName);
+            return;
+        }
+        if (PRINT_PATH) {
+            System.out.println("Attempting to save to: " + fileName);
+        }
+        if (fileName.isEmpty()) {
+            throw new IOException("File Name is empty");
+        }
+        if (saveFormat == SaveFormat.PAGED) {
+            writeAtomically(fileName, outputStream -> PagedScheduleFormat.write(schedule, outputStream));
+        } else {
+            writeAtomically(fileName, outputStream -> BinaryScheduleFormat.write(schedule, outputStream));
+        }
+    }
+
+    // EFFECTS: loads schedule from file in path fileName, in whichever format it was saved
+    static ScheduleContainer loadSchedule(String fileName) throws IOException {
+        SaveFormat saveFormat = detectFormat(fileName);
+        if (saveFormat == SaveFormat.JSON) {
+            return loadWithJackson(fileName, ScheduleContainer.class);
+        }
+        if (PRINT_PATH) {
+            System.out.println("Attempting to load from: " + fileName);
+        }
+        if (saveFormat == SaveFormat.PAGED) {
+            return PagedScheduleFormat.open(fileName);
+        }
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(fileName))) {
+            return BinaryScheduleFormat.read(inputStream);
+        }
+    }
+
+    // EFFECTS: returns the format of the file in path fileName, judged by its first bytes
+    static SaveFormat detectFormat(String fileName) throws IOException {
+        if (fileName.isEmpty()) {
+            throw new IOException("File Name is empty");
+        }
+        try (DataInputStream inputStream = new DataInputStream(new FileInputStream(fileName))) {
+            int magic = inputStream.readInt();
+            if (BinaryScheduleFormat.isMagic(magic)) {
+                return SaveFormat.BINARY;
+            } else if (PagedScheduleFormat.isMagic(magic)) {
+                return SaveFormat.PAGED;
+            }
+        } catch (EOFException e) {
+            // too short to be anything other than JSON
+        }
+        return SaveFormat.JSON;
+    }
+
+    // EFFECTS: rewrites the schedule in file fromFileName onto file toFileName in the given format
+    static void convertSchedule(String fromFileName, String toFileName, SaveFormat saveFormat)
+            throws IOException {
+        saveSchedule(loadSchedule(fromFileName), toFileName, saveFormat);
+    }
+
+    // MODIFIES: the files at fromFileName and toFileName
+    // EFFECTS: moves the file at fromFileName over the file at toFileName, atomically if the file system allows
+    static void replaceFile(String fromFileName, String toFileName) throws IOException {
+        Path from = Paths.get(fromFileName);
+        Path to = Paths.get(toFileName);
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
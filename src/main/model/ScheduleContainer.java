@@ -1,24 +1,100 @@
 package model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import model.deserializers.ScheduleContainerDeserializer;
+import model.index.MonthSegment;
+import model.index.NameIndex;
+import model.index.NameMonths;
+import model.index.TrigramIndex;
+import model.occurrence.ConflictGroup;
+import model.occurrence.Occurrence;
+import model.occurrence.OccurrenceIterator;
+import model.storage.PagedScheduleStore;
 import utilities.EventUtility;
 import utilities.TimeUtility;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Date events are kept in one segment per month, so a change only touches the segment of its month. A copy of the
+// schedule shares with the original every segment, and the repeat events, that the original has given up changing
+// in place; the first change to one of them copies it. Reading never changes the schedule, months still in a paged
+// file are read into segments kept by the file itself.
+@JsonDeserialize(using = ScheduleContainerDeserializer.class)
 public class ScheduleContainer {
-    private List<DateEvent> dateEvents;
+    // search by reading the date events of a range of fewer days than this instead of through the text indexes
+    private static final int SEARCH_SCAN_DAYS = 31;
+
+    // segments of the months with date events in order, a month still in pagedStore maps to null
+    private NavigableMap<YearMonth, MonthSegment> dateEventMonths;
+    private int dateEventCount;
+    // months of the names of the date events in segments, the names of months still in pagedStore are in its index
+    private NameMonths dateEventNames;
+    private final boolean packed;
+    private PagedScheduleStore pagedStore;
     private List<RepeatEvent> repeatEvents;
     private Map<RepeatKey, List<RepeatEvent>> repeatEventsMap;
+    private NameIndex<RepeatEvent> repeatEventNames;
+    // day mask of the days of month that monthly events repeat on
+    private int monthlyDays;
+    // mask of the days of week that weekly events repeat on, bit (d - 1) stands for DayOfWeek.of(d)
+    private int weeklyDays;
+    // segments and repeat events this may change in place are those owned by editToken, which is only replaced
+    // by releaseOwnership; copying this never changes it
+    private Object editToken;
+    private Object repeatEventsOwner;
 
     public ScheduleContainer() {
-        dateEvents = new ArrayList<>();
-        repeatEvents = new ArrayList<>();
-        repeatEventsMap = new HashMap<>();
+        this(false);
+    }
+
+    // EFFECTS: creates a schedule holding the same events as schedule without changing schedule; copies what
+    //          schedule may still change in place and shares the rest, which neither of them changes in place
+    public ScheduleContainer(ScheduleContainer schedule) {
+        Object sourceToken = schedule.editToken;
+        Object copyToken = new Object();
+        packed = schedule.packed;
+        editToken = copyToken;
+        dateEventMonths = new TreeMap<>(schedule.dateEventMonths);
+        dateEventMonths.replaceAll((yearMonth, segment) ->
+                segment != null && segment.isOwnedBy(sourceToken) ? segment.copy(copyToken) : segment);
+        dateEventCount = schedule.dateEventCount;
+        dateEventNames = schedule.dateEventNames.isOwnedBy(sourceToken)
+                ? schedule.dateEventNames.copy(copyToken) : schedule.dateEventNames;
+        pagedStore = schedule.pagedStore;
+        if (schedule.repeatEventsOwner == sourceToken) {
+            clearRepeatEvents();
+            addRepeatEvents(schedule.repeatEvents);
+        } else {
+            repeatEvents = schedule.repeatEvents;
+            repeatEventsMap = schedule.repeatEventsMap;
+            repeatEventNames = schedule.repeatEventNames;
+            monthlyDays = schedule.monthlyDays;
+            weeklyDays = schedule.weeklyDays;
+            repeatEventsOwner = schedule.repeatEventsOwner;
+        }
+    }
+
+    // EFFECTS: creates an empty schedule, keeping date events packed if packed is true
+    private ScheduleContainer(boolean packed) {
+        this.packed = packed;
+        editToken = new Object();
+        clearDateEvents();
+        clearRepeatEvents();
+    }
+
+    // EFFECTS: creates an empty schedule that keeps date events packed in primitive arrays instead of as objects,
+    //          the date events it returns are copies, so subclasses such as MultiEvent lose their extra fields;
+    //          date events are found by name or text with a scan instead of an index
+    public static ScheduleContainer packed() {
+        return new ScheduleContainer(true);
     }
 
     // EFFECTS: returns true if event with eventName is in eventList
@@ -40,9 +116,139 @@ public class ScheduleContainer {
     // EFFECTS: clears all events
     @JsonIgnore
     public void clearScheduleEvents() {
-        dateEvents.clear();
-        repeatEvents.clear();
-        repeatEventsMap.clear();
+        clearDateEvents();
+        clearRepeatEvents();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all date events, leaving any other version to keep the segments it shares
+    private void clearDateEvents() {
+        dateEventMonths = new TreeMap<>();
+        dateEventCount = 0;
+        dateEventNames = new NameMonths(editToken);
+        pagedStore = null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all repeat events, leaving any other version to keep the ones it shares
+    private void clearRepeatEvents() {
+        repeatEvents = new ArrayList<>();
+        repeatEventsMap = new HashMap<>();
+        repeatEventNames = new NameIndex<>();
+        monthlyDays = 0;
+        weeklyDays = 0;
+        repeatEventsOwner = editToken;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the repeat events and their indexes if they are shared with another version,
+    //          so that they can be changed in place
+    private void ownRepeatEvents() {
+        if (repeatEventsOwner != editToken) {
+            List<RepeatEvent> shared = repeatEvents;
+            clearRepeatEvents();
+            addRepeatEvents(shared);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives up changing in place the segments and repeat events this has now, so that copies of this share
+    //          them instead of copying them; a later change to this copies what it changes first
+    void releaseOwnership() {
+        editToken = new Object();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the date events with those of pagedStore, which are only read in
+    //          a month at a time once something needs the date events of that month
+    public void pageFrom(PagedScheduleStore pagedStore) {
+        clearDateEvents();
+        for (YearMonth yearMonth : pagedStore.getYearMonths()) {
+            dateEventMonths.put(yearMonth, null);
+        }
+        dateEventCount = pagedStore.getSize();
+        this.pagedStore = pagedStore;
+    }
+
+    // EFFECTS: returns true if the date events of yearMonth are in memory
+    public boolean isLoaded(YearMonth yearMonth) {
+        return !isInPagedStore(yearMonth) || pagedStore.isRead(yearMonth);
+    }
+
+    // EFFECTS: returns true if the date events of yearMonth are still those in pagedStore
+    private boolean isInPagedStore(YearMonth yearMonth) {
+        return pagedStore != null && dateEventMonths.get(yearMonth) == null && dateEventMonths.containsKey(yearMonth);
+    }
+
+    // EFFECTS: returns true if date events may still be read in from a paged file, which does not change this
+    @JsonIgnore
+    public boolean isPaged() {
+        return pagedStore != null;
+    }
+
+    // EFFECTS: returns the segment of yearMonth, read from the paged file if it is still there,
+    //          or null if there are no date events in yearMonth
+    private MonthSegment getSegment(YearMonth yearMonth) {
+        if (isInPagedStore(yearMonth)) {
+            return pagedStore.getSegment(yearMonth);
+        }
+        return dateEventMonths.get(yearMonth);
+    }
+
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: returns the segments of the months from startDate to endDate that have date events, in order
+    private List<MonthSegment> getSegments(LocalDate startDate, LocalDate endDate) {
+        List<MonthSegment> retVal = new ArrayList<>();
+        for (YearMonth yearMonth : dateEventMonths.subMap(YearMonth.from(startDate), true,
+                YearMonth.from(endDate), true).keySet()) {
+            retVal.add(getSegment(yearMonth));
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the months with date events that lookup finds in the name index of the segments and,
+    //          for the months still in pagedStore, in its name index, in order
+    private NavigableSet<YearMonth> getMonthsNamed(Function<NameMonths, Set<YearMonth>> lookup) {
+        NavigableSet<YearMonth> retVal = new TreeSet<>(lookup.apply(dateEventNames));
+        if (pagedStore != null) {
+            for (YearMonth yearMonth : lookup.apply(pagedStore.getNameMonths())) {
+                if (isInPagedStore(yearMonth)) {
+                    retVal.add(yearMonth);
+                }
+            }
+        }
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the segment of yearMonth for changing in place, copying it first if it is shared
+    //          and making it if there is none
+    private MonthSegment getSegmentToChange(YearMonth yearMonth) {
+        boolean paged = isInPagedStore(yearMonth);
+        MonthSegment retVal = getSegment(yearMonth);
+        if (retVal == null) {
+            retVal = new MonthSegment(packed, editToken);
+        } else if (!retVal.isOwnedBy(editToken)) {
+            retVal = retVal.copy(editToken);
+        } else {
+            return retVal;
+        }
+        dateEventMonths.put(yearMonth, retVal);
+        if (paged) {
+            for (DateEvent event : retVal.getEvents()) {
+                getDateEventNamesToChange().add(event.getName(), yearMonth);
+            }
+        }
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the name index of the segments for changing in place, copying it first if it is shared
+    private NameMonths getDateEventNamesToChange() {
+        if (!dateEventNames.isOwnedBy(editToken)) {
+            dateEventNames = dateEventNames.copy(editToken);
+        }
+        return dateEventNames;
     }
 
     // EFFECTS: returns all events as a list of schedule events
@@ -50,40 +256,51 @@ public class ScheduleContainer {
     public List<ScheduleEvent> getScheduleEvents() {
         List<ScheduleEvent> scheduleEvents = new ArrayList<>();
         scheduleEvents.addAll(repeatEvents);
-        scheduleEvents.addAll(dateEvents);
+        scheduleEvents.addAll(getDateEvents());
         return scheduleEvents;
     }
 
-    // EFFECTS: returns dateEvents
+    // REQUIRES: this is not changed while the view is in use
+    // EFFECTS: returns an unmodifiable view of the date events in order; the events of a month still in a paged
+    //          file are read from it when the view reaches them and are not kept, so going through every event,
+    //          as saving does, does not read the file into memory
     public List<DateEvent> getDateEvents() {
-        return dateEvents;
+        return new MonthsView(dateEventMonths, pagedStore);
     }
 
-    // EFFECTS: returns repeatEvents
+    // EFFECTS: returns an unmodifiable view of repeatEvents
     public List<RepeatEvent> getRepeatEvents() {
-        return repeatEvents;
+        return Collections.unmodifiableList(repeatEvents);
     }
 
     // MODIFIES: this
-    // EFFECTS: copies all events from dateEvents
+    // EFFECTS: copies all events from dateEvents, sorting them once
     public void setDateEvents(List<DateEvent> dateEvents) {
-        this.dateEvents.clear();
+        clearDateEvents();
         addDateEvents(dateEvents);
     }
 
     // MODIFIES; this
-    // EFFECTS; copies all events from repeatEvents
+    // EFFECTS; copies all events from repeatEvents, sorting them once
     public void setRepeatEvents(List<RepeatEvent> repeatEvents) {
-        this.repeatEvents.clear();
-        this.repeatEventsMap.clear();
+        clearRepeatEvents();
         addRepeatEvents(repeatEvents);
     }
 
-    // REQUIRES: index >= 0 and index < dateEvents.size()
-    // EFFECTS: returns event at index of dateEvents
+    // REQUIRES: index >= 0 and index < getDateEventsSize()
+    // EFFECTS: returns event at index of the date events in order, reading in only its month
     @JsonIgnore
     public DateEvent getDateEvent(int index) {
-        return dateEvents.get(index);
+        int position = index;
+        for (Map.Entry<YearMonth, MonthSegment> entry : dateEventMonths.entrySet()) {
+            MonthSegment segment = entry.getValue();
+            int size = segment == null ? pagedStore.getSize(entry.getKey()) : segment.size();
+            if (position < size) {
+                return getSegment(entry.getKey()).getEvents().get(position);
+            }
+            position -= size;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + dateEventCount);
     }
 
     // REQUIRES: index >= 0 and index < repeatEvents.size()
@@ -94,80 +311,135 @@ public class ScheduleContainer {
     }
 
     // MODIFIES: this
-    // EFFECTS: adds d to dateEvents
+    // EFFECTS: inserts d into the date events of its month at its sorted position, after any events at the same time
     @JsonIgnore
     public void addEvent(DateEvent d) {
-        dateEvents.add(d);
-        dateEvents.sort(null);
+        YearMonth yearMonth = YearMonth.from(d.getDate());
+        getSegmentToChange(yearMonth).add(d);
+        getDateEventNamesToChange().add(d.getName(), yearMonth);
+        dateEventCount++;
     }
 
     // MODIFIES: this
-    // EFFECTS: adds r to repeatEvents
+    // EFFECTS: inserts r into repeatEvents at its sorted position, after any equal events
     @JsonIgnore
     public void addEvent(RepeatEvent r) {
-        repeatEvents.add(r);
-        repeatEvents.sort(null);
+        ownRepeatEvents();
+        repeatEvents.add(EventUtility.upperBound(repeatEvents, r), r);
+        addToRepeatEventsMap(r);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds r to the list of its repeat key
+    private void addToRepeatEventsMap(RepeatEvent r) {
         List<RepeatEvent> eventsList = repeatEventsMap.computeIfAbsent(
                 r.getRepeatKey(), k -> new ArrayList<>());
         eventsList.add(r);
+        setRepeatDay(r.getRepeatKey(), true);
+        repeatEventNames.add(r);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets or clears the day that events of key repeat on
+    private void setRepeatDay(RepeatKey key, boolean set) {
+        if (key.getTimeScale().equals(ChronoUnit.MONTHS)) {
+            int bit = TimeUtility.dayMask(key.getDayOf());
+            monthlyDays = set ? monthlyDays | bit : monthlyDays & ~bit;
+        } else if (key.getTimeScale().equals(ChronoUnit.WEEKS)) {
+            int bit = 1 << (key.getDayOf() - 1);
+            weeklyDays = set ? weeklyDays | bit : weeklyDays & ~bit;
+        }
     }
 
     // MODIFIES: this
-    // EFFECTS: adds all event to dateEvents
+    // EFFECTS: adds all event to the date events, sorting them once and merging them into each month at once
     public void addDateEvents(List<DateEvent> events) {
-        for (DateEvent event : events) {
-            addEvent(event);
+        if (events.isEmpty()) {
+            return;
+        }
+        List<DateEvent> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(null);
+        int monthStart = 0;
+        for (int i = 1; i <= sortedEvents.size(); i++) {
+            YearMonth yearMonth = YearMonth.from(sortedEvents.get(monthStart).getDate());
+            if (i == sortedEvents.size() || !YearMonth.from(sortedEvents.get(i).getDate()).equals(yearMonth)) {
+                getSegmentToChange(yearMonth).addAll(sortedEvents.subList(monthStart, i));
+                NameMonths names = getDateEventNamesToChange();
+                for (DateEvent event : sortedEvents.subList(monthStart, i)) {
+                    names.add(event.getName(), yearMonth);
+                }
+                monthStart = i;
+            }
         }
+        dateEventCount += sortedEvents.size();
     }
 
     // MODIFIES: this
-    // EFFECTS: adds all events to repeatEvents
+    // EFFECTS: adds all events to repeatEvents, sorting them once and merging them in
     public void addRepeatEvents(List<RepeatEvent> events) {
-        for (RepeatEvent event : events) {
-            addEvent(event);
+        if (events.isEmpty()) {
+            return;
+        }
+        ownRepeatEvents();
+        List<RepeatEvent> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(null);
+        EventUtility.mergeIn(repeatEvents, sortedEvents);
+        for (RepeatEvent event : sortedEvents) {
+            addToRepeatEventsMap(event);
         }
     }
 
     // MODIFIES: this
-    // EFFECTS: removes the first appearance of dateEvent from dateEvents
+    // EFFECTS: removes dateEvent from the date events, or if it is not there an event with the same values,
+    //          or else the first event at the same time; only copies the segment of its month if it is shared
     public boolean removeEvent(DateEvent dateEvent) {
-        int index = Collections.binarySearch(dateEvents, dateEvent);
-        if (index >= 0) {
-            dateEvents.remove(index);
-            return true;
-        } else {
+        YearMonth yearMonth = YearMonth.from(dateEvent.getDate());
+        MonthSegment segment = getSegment(yearMonth);
+        DateEvent found = segment == null ? null : segment.find(dateEvent);
+        if (found == null) {
             return false;
         }
+        segment = getSegmentToChange(yearMonth);
+        segment.remove(found);
+        getDateEventNamesToChange().remove(found.getName(), yearMonth);
+        dateEventCount--;
+        if (segment.size() == 0) {
+            dateEventMonths.remove(yearMonth);
+        }
+        return true;
     }
 
     // MODIFIES: this
     // EFFECTS: removes the first appearance of repeatEvent from repeatEvents
     public boolean removeEvent(RepeatEvent repeatEvent) {
         List<RepeatEvent> eventsList = repeatEventsMap.get(repeatEvent.getRepeatKey());
-        if (eventsList != null) {
-            if (eventsList.remove(repeatEvent)) {
-                if (eventsList.size() < 1) {
-                    repeatEventsMap.remove(repeatEvent.getRepeatKey());
-                }
-                int index = Collections.binarySearch(repeatEvents, repeatEvent);
-                assert index >= 0;
-                repeatEvents.remove(index);
-                return true;
-            }
+        if (eventsList == null || !eventsList.contains(repeatEvent)) {
+            return false;
         }
-        return false;
+        ownRepeatEvents();
+        eventsList = repeatEventsMap.get(repeatEvent.getRepeatKey());
+        eventsList.remove(repeatEvent);
+        if (eventsList.size() < 1) {
+            repeatEventsMap.remove(repeatEvent.getRepeatKey());
+            setRepeatDay(repeatEvent.getRepeatKey(), false);
+        }
+        int index = EventUtility.indexOfSorted(repeatEvents, repeatEvent);
+        assert index >= 0;
+        repeatEvents.remove(index);
+        repeatEventNames.remove(repeatEvent);
+        return true;
     }
 
     // EFFECTS: returns size of all events together
     @JsonIgnore
     public int getSize() {
-        return dateEvents.size() + repeatEvents.size();
+        return dateEventCount + repeatEvents.size();
     }
 
-    // EFFECTS: returns size of dateEvents
+    // EFFECTS: returns the number of date events
     @JsonIgnore
     public int getDateEventsSize() {
-        return dateEvents.size();
+        return dateEventCount;
     }
 
     // EFFECTS: returns size of repeatEvents
@@ -176,100 +448,265 @@ public class ScheduleContainer {
         return repeatEvents.size();
     }
 
-    // EFFECTS: returns true if event with eventName exists in dateEvents, false otherwise
+    // EFFECTS: returns true if event with eventName exists in the date events, false otherwise
     @JsonIgnore
     public boolean dateEventsContains(String eventName) {
-        return eventsContains(dateEvents, eventName);
+        return dateEventNames.contains(eventName) || !getMonthsNamed(names -> names.getMonths(eventName)).isEmpty();
     }
 
     // EFFECTS: returns true if event with eventName exists in repeatEvents, false otherwise
     @JsonIgnore
     public boolean repeatEventsContains(String eventName) {
-        return eventsContains(repeatEvents, eventName);
+        return repeatEventNames.contains(eventName);
+    }
+
+    // EFFECTS: returns the date events named eventName in order, reading in only the months that have them
+    @JsonIgnore
+    public List<DateEvent> getDateEventsNamed(String eventName) {
+        return getDateEventsNamed(eventName, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: returns the date events named eventName between startDate and endDate in order,
+    //          reading in only the months that have them
+    @JsonIgnore
+    public List<DateEvent> getDateEventsNamed(String eventName, LocalDate startDate, LocalDate endDate) {
+        List<DateEvent> retVal = new ArrayList<>();
+        for (YearMonth yearMonth : getMonthsNamed(names -> names.getMonths(eventName)).subSet(
+                YearMonth.from(startDate), true, YearMonth.from(endDate), true)) {
+            for (DateEvent event : getSegment(yearMonth).getNamed(eventName)) {
+                if (!event.getDate().isBefore(startDate) && !event.getDate().isAfter(endDate)) {
+                    retVal.add(event);
+                }
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the repeat events named eventName in order
+    @JsonIgnore
+    public List<RepeatEvent> getRepeatEventsNamed(String eventName) {
+        return repeatEventNames.get(eventName);
+    }
+
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: returns the repeat events named eventName between startDate and endDate in order
+    @JsonIgnore
+    public List<RepeatEvent> getRepeatEventsNamed(String eventName, LocalDate startDate, LocalDate endDate) {
+        List<RepeatEvent> retVal = new ArrayList<>(getRepeatEventsBetweenDates(startDate, endDate));
+        retVal.removeIf(event -> !eventName.equals(event.getName()));
+        return retVal;
+    }
+
+    // EFFECTS: returns the date events whose name starts with query, or contains it if anywhere is true,
+    //          ignoring case, in order
+    @JsonIgnore
+    public List<DateEvent> findDateEventsByName(String query, boolean anywhere) {
+        List<DateEvent> retVal = new ArrayList<>();
+        for (YearMonth yearMonth : getMonthsNamed(names -> names.getMonthsMatching(query, anywhere))) {
+            retVal.addAll(getSegment(yearMonth).findByName(query, anywhere));
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the repeat events whose name starts with query, or contains it if anywhere is true,
+    //          ignoring case, in order
+    @JsonIgnore
+    public List<RepeatEvent> findRepeatEventsByName(String query, boolean anywhere) {
+        return anywhere ? repeatEventNames.containing(query) : repeatEventNames.withPrefix(query);
+    }
+
+    // EFFECTS: returns the date events between startDate and endDate with a name or other name containing query
+    //          ignoring case, best match first; short ranges are read and matched directly,
+    //          longer ones go through the text index of each month
+    @JsonIgnore
+    public List<DateEvent> searchDateEvents(String query, LocalDate startDate, LocalDate endDate) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) < SEARCH_SCAN_DAYS) {
+            return TrigramIndex.rank(getDateEventsBetweenDates(startDate, endDate), query);
+        }
+        List<DateEvent> matches = new ArrayList<>();
+        for (MonthSegment segment : getSegments(startDate, endDate)) {
+            matches.addAll(segment.search(query,
+                    event -> !event.getDate().isBefore(startDate) && !event.getDate().isAfter(endDate)));
+        }
+        return TrigramIndex.rank(matches, query);
+    }
+
+    // EFFECTS: returns the repeat events between startDate and endDate with a name containing query ignoring case,
+    //          best match first
+    @JsonIgnore
+    public List<RepeatEvent> searchRepeatEvents(String query, LocalDate startDate, LocalDate endDate) {
+        return TrigramIndex.rank(getRepeatEventsBetweenDates(startDate, endDate), query);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces event, which is in this schedule, with a copy of it named name and returns the copy,
+    //          returns null if event was not found; event itself is left as it is, since other versions of the
+    //          schedule may still index it by its name
+    public ScheduleEvent renameEvent(ScheduleEvent event, String name) {
+        ScheduleEvent renamed = event.withName(name);
+        if (event instanceof DateEvent) {
+            if (!removeEvent((DateEvent) event)) {
+                return null;
+            }
+            addEvent((DateEvent) renamed);
+        } else {
+            if (!removeEvent((RepeatEvent) event)) {
+                return null;
+            }
+            addEvent((RepeatEvent) renamed);
+        }
+        return renamed;
     }
 
     // MODIFIES: this
     // EFFECTS: sorts all events by time, ascending order
     @JsonIgnore
     public void sort() {
-        dateEvents.sort(null);
+        for (YearMonth yearMonth : new ArrayList<>(dateEventMonths.keySet())) {
+            getSegmentToChange(yearMonth).sort();
+        }
+        ownRepeatEvents();
         repeatEvents.sort(null);
     }
 
     // EFFECTS: returns a list of all dateEvents in schedule that are in yearMonth
     @JsonIgnore
     public List<DateEvent> getDateEventsForYearMonth(YearMonth yearMonth) {
-        return EventUtility.eventsBetweenDates(yearMonth.atDay(1), yearMonth.atEndOfMonth(), dateEvents);
+        return getDateEventsBetweenDates(yearMonth.atDay(1), yearMonth.atEndOfMonth());
     }
 
     // EFFECTS: returns an array of booleans for a month, where values correspond to whether there is a event on the day
     @JsonIgnore
     public boolean[] hasEvents(YearMonth yearMonth, boolean checkDateEvents, boolean checkRepeatEvents) {
-        boolean[] retVal = new boolean[yearMonth.lengthOfMonth()];
+        return TimeUtility.toDayArray(getOccupancy(yearMonth, checkDateEvents, checkRepeatEvents), yearMonth);
+    }
+
+    // EFFECTS: returns a day mask of the days of yearMonth that have events, bit (d - 1) is set for day d;
+    //          looks up the masks kept up to date on every add and remove, so it does not depend on the size
+    @JsonIgnore
+    public int getOccupancy(YearMonth yearMonth, boolean checkDateEvents, boolean checkRepeatEvents) {
+        int retVal = 0;
         if (checkDateEvents) {
-            setHasEventsForDate(yearMonth, retVal);
+            MonthSegment segment = getSegment(yearMonth);
+            retVal |= segment == null ? 0 : segment.getDays();
         }
         if (checkRepeatEvents) {
-            setHasEventsForRepeat(yearMonth, retVal);
+            retVal |= monthlyDays & TimeUtility.fullMonthMask(yearMonth);
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if ((weeklyDays & (1 << (dayOfWeek.getValue() - 1))) != 0) {
+                    retVal |= TimeUtility.dayOfWeekMask(yearMonth, dayOfWeek);
+                }
+            }
         }
         return retVal;
     }
 
-    // MODIFIES: hasEvents
-    // EFFECTS: for the month, sets the value of hasEvents at date to true if there is a date event on that date
+    // EFFECTS: returns true if any date event exist at the same time as another date event; months still in
+    //          a paged file are checked from the times in it without reading them in
     @JsonIgnore
-    private void setHasEventsForDate(YearMonth yearMonth, boolean[] hasEvents) {
-        List<DateEvent> dateEventsForMonth = getDateEventsForYearMonth(yearMonth);
-        for (DateEvent dateEvent : dateEventsForMonth) {
-            hasEvents[dateEvent.getDate().getDayOfMonth() - 1] = true;
+    public boolean hasDateEventConflict() {
+        for (Map.Entry<YearMonth, MonthSegment> entry : dateEventMonths.entrySet()) {
+            MonthSegment segment = entry.getValue();
+            long conflictPairs = segment == null
+                    ? pagedStore.getConflictPairs(entry.getKey()) : segment.getConflictPairs();
+            if (conflictPairs > 0) {
+                return true;
+            }
         }
+        return false;
     }
 
-    // MODIFIES: hasEvents
-    // EFFECTS: for the month, sets the value of hasEvents at date to true if there is a repeat event on that date
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: returns every group of overlapping occurrences of date and repeat events between startDate and
+    //          endDate in order of start time, found with one sweep over the merged occurrences
     @JsonIgnore
-    private void setHasEventsForRepeat(YearMonth yearMonth, boolean[] hasEvents) {
-        for (RepeatKey key : repeatEventsMap.keySet()) {
-            if (key.getTimeScale().equals(ChronoUnit.MONTHS)) {
-                if (yearMonth.lengthOfMonth() >= key.getDayOf()) {
-                    hasEvents[key.getDayOf() - 1] = true;
-                }
-            } else if (key.getTimeScale().equals(ChronoUnit.WEEKS)) {
-                int diff = TimeUtility.daysBetweenDow(yearMonth.atDay(1).getDayOfWeek(),
-                        DayOfWeek.of(key.getDayOf()));
-                for (int i = 0; i < 6; i++) {
-                    int num = (7 * i) + diff;
-                    if (num < yearMonth.lengthOfMonth()) {
-                        hasEvents[num] = true;
-                    }
-                }
-            }
-        }
+    public List<ConflictGroup> getConflicts(LocalDate startDate, LocalDate endDate) {
+        return ConflictGroup.findConflicts(getOccurrencesBetweenDates(startDate, endDate));
     }
 
-    // EFFECTS: returns true if any date event exist at the same time as another date event
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: returns the occurrences of events other than event itself that overlap an occurrence of event
+    //          between startDate and endDate, in order of start time; only looks up the days event is on,
+    //          so it can be used to check a new event before adding it
     @JsonIgnore
-    public boolean hasDateEventConflict() {
-        List<DateEvent> tempDateEvents = new ArrayList<>(dateEvents);
-        tempDateEvents.sort(null);
-        for (int i = 0; i < tempDateEvents.size(); i++) {
-            DateEvent de = tempDateEvents.get(i);
-            if (i < tempDateEvents.size() - 1) {
-                DateEvent deAfter = tempDateEvents.get(i + 1);
-                if (!deAfter.getStartDateTime().isAfter(de.getEndDateTime())) {
-                    return true;
+    public List<Occurrence> getConflictsWith(ScheduleEvent event, LocalDate startDate, LocalDate endDate) {
+        List<Occurrence> retVal = new ArrayList<>();
+        for (LocalDate date = nextDateOf(event, startDate); date != null && !date.isAfter(endDate);
+                date = date.isBefore(endDate) ? nextDateOf(event, date.plusDays(1)) : null) {
+            Occurrence occurrence = new Occurrence(event, date);
+            List<Occurrence> onDate = new ArrayList<>();
+            MonthSegment segment = getSegment(YearMonth.from(date));
+            if (segment != null) {
+                segment.forEachOverlapping(occurrence.getStartEpochMinute(), occurrence.getEndEpochMinute(),
+                        dateEvent -> {
+                            if (dateEvent != event) {
+                                onDate.add(new Occurrence(dateEvent));
+                            }
+                        });
+            }
+            for (RepeatEvent repeatEvent : getRepeatEventsForDate(date)) {
+                Occurrence other = new Occurrence(repeatEvent, date);
+                if (repeatEvent != event && ConflictGroup.overlaps(occurrence, other)) {
+                    onDate.add(other);
                 }
             }
+            onDate.sort(null);
+            retVal.addAll(onDate);
         }
-        return false;
+        return retVal;
     }
 
+    // EFFECTS: returns the first date on or after date that event is on, or null if there is none
+    private static LocalDate nextDateOf(ScheduleEvent event, LocalDate date) {
+        if (event instanceof RepeatEvent) {
+            return ((RepeatEvent) event).nextDateFrom(date);
+        }
+        LocalDate eventDate = ((DateEvent) event).getDate();
+        return eventDate.isBefore(date) ? null : eventDate;
+    }
 
     // REQUIRES: startDate <= endDate
     // EFFECTS: returns a list of dateEvents for date
     @JsonIgnore
     public List<DateEvent> getDateEventsBetweenDates(LocalDate startDate, LocalDate endDate) {
-        return EventUtility.eventsBetweenDates(startDate, endDate, dateEvents);
+        List<DateEvent> retVal = new ArrayList<>();
+        forEachDateEventBetweenDates(startDate, endDate, retVal::add);
+        return retVal;
+    }
+
+    // REQUIRES: startDate <= endDate
+    // EFFECTS: calls action on each dateEvent between startDate and endDate in order, without copying them
+    @JsonIgnore
+    public void forEachDateEventBetweenDates(LocalDate startDate, LocalDate endDate,
+                                             Consumer<? super DateEvent> action) {
+        for (MonthSegment segment : getSegments(startDate, endDate)) {
+            segment.forEachOverlapping(TimeUtility.atStartOfDayEpochMinute(startDate),
+                    TimeUtility.atEndOfDayEpochMinute(endDate), action);
+        }
+    }
+
+    // REQUIRES: startDateTime <= endDateTime
+    // EFFECTS: returns the dateEvents that overlap the time between startDateTime and endDateTime inclusive
+    @JsonIgnore
+    public List<DateEvent> getDateEventsOverlapping(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<DateEvent> retVal = new ArrayList<>();
+        for (MonthSegment segment : getSegments(startDateTime.toLocalDate(), endDateTime.toLocalDate())) {
+            segment.forEachOverlapping(
+                    TimeUtility.toEpochMinute(startDateTime.toLocalDate(), startDateTime.toLocalTime()),
+                    TimeUtility.toEpochMinute(endDateTime.toLocalDate(), endDateTime.toLocalTime()), retVal::add);
+        }
+        return retVal;
+    }
+
+    // REQUIRES: startDate <= endDate, this is not modified while the iterator is in use
+    // EFFECTS: returns an iterator over every occurrence of the events between startDate and endDate
+    //          in order of start time, repeat events are expanded one occurrence at a time as it is advanced
+    @JsonIgnore
+    public OccurrenceIterator getOccurrencesBetweenDates(LocalDate startDate, LocalDate endDate) {
+        return new OccurrenceIterator(new SegmentsIterator(getSegments(startDate, endDate),
+                TimeUtility.atStartOfDayEpochMinute(startDate), TimeUtility.atEndOfDayEpochMinute(endDate)),
+                repeatEvents, startDate, endDate);
     }
 
     // EFFECTS: returns a list of repeatEvents for date
@@ -301,7 +738,7 @@ public class ScheduleContainer {
         boolean includeAllWeek = ChronoUnit.WEEKS.between(startDate, afterEnd) >= 1;
         boolean sameWeek = startDate.getDayOfWeek().getValue() <= endDate.getDayOfWeek().getValue();
         if (includeAllMonth && includeAllWeek) {
-            return repeatEvents;
+            return Collections.unmodifiableList(repeatEvents);
         }
         return getRepeatEventsBetweenDates(startDate, endDate, includeAllMonth, includeAllWeek, sameMonth, sameWeek);
     }
@@ -329,4 +766,96 @@ public class ScheduleContainer {
         retVal.sort(null);
         return retVal;
     }
+
+    // unmodifiable view of the date events of months one after another, found by a binary search over the number
+    // of events before each month; of the months still in a paged file only the last one reached is kept
+    private static class MonthsView extends AbstractList<DateEvent> {
+        private final YearMonth[] months;
+        // null for a month still in pagedStore
+        private final MonthSegment[] segments;
+        private final PagedScheduleStore pagedStore;
+        // ends[i] is the number of events in the months up to and including month i
+        private final int[] ends;
+        private int readMonth;
+        private List<DateEvent> readEvents;
+
+        private MonthsView(NavigableMap<YearMonth, MonthSegment> dateEventMonths, PagedScheduleStore pagedStore) {
+            months = dateEventMonths.keySet().toArray(new YearMonth[0]);
+            segments = dateEventMonths.values().toArray(new MonthSegment[0]);
+            this.pagedStore = pagedStore;
+            ends = new int[months.length];
+            int end = 0;
+            for (int i = 0; i < months.length; i++) {
+                end += segments[i] == null ? pagedStore.getSize(months[i]) : segments[i].size();
+                ends[i] = end;
+            }
+            readMonth = -1;
+        }
+
+        @Override
+        public DateEvent get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            int month = Arrays.binarySearch(ends, index + 1);
+            if (month < 0) {
+                month = -month - 1;
+            } else {
+                while (month > 0 && ends[month - 1] == index + 1) {
+                    month--;
+                }
+            }
+            int start = month == 0 ? 0 : ends[month - 1];
+            return getEvents(month).get(index - start);
+        }
+
+        // EFFECTS: returns the events of month i, reading them from pagedStore if they are still there
+        private List<DateEvent> getEvents(int month) {
+            if (segments[month] != null) {
+                return segments[month].getEvents();
+            }
+            if (readMonth != month) {
+                readEvents = pagedStore.getEvents(months[month]);
+                readMonth = month;
+            }
+            return readEvents;
+        }
+
+        @Override
+        public int size() {
+            return ends.length == 0 ? 0 : ends[ends.length - 1];
+        }
+    }
+
+    // iterator over the events of segments that overlap [startMinute, endMinute] in order of start time,
+    // going through the segments one after another
+    private static class SegmentsIterator implements Iterator<DateEvent> {
+        private final Iterator<MonthSegment> segments;
+        private final long startMinute;
+        private final long endMinute;
+        private Iterator<DateEvent> current;
+
+        private SegmentsIterator(List<MonthSegment> segments, long startMinute, long endMinute) {
+            this.segments = segments.iterator();
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            current = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && segments.hasNext()) {
+                current = segments.next().overlappingIterator(startMinute, endMinute);
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public DateEvent next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
 }
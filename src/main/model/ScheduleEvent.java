@@ -14,6 +14,9 @@ public abstract class ScheduleEvent implements FormatterPattern, Comparable<Sche
     protected String name;
     protected LocalTime startTime;
     protected LocalTime endTime;
+    // start and end as minutes of the day, so that comparisons and lengths need no LocalTime arithmetic
+    private final int startMinute;
+    private final int endMinute;
 
     // EFFECTS: converts string to time and calls constructor
     public ScheduleEvent(String name, String startTime, String endTime) {
@@ -31,14 +34,20 @@ public abstract class ScheduleEvent implements FormatterPattern, Comparable<Sche
             this.startTime = endTime;
             this.endTime = startTime;
         }
+        startMinute = minuteOfDay(this.startTime);
+        endMinute = minuteOfDay(this.endTime);
     }
 
     // MODIFIES: this
-    // EFFECTS: changes name of event
-    public void setName(String name) {
+    // EFFECTS: changes name of event; only for events in no schedule, since schedules index events by name and
+    //          share them between versions, use ScheduleContainer.renameEvent for those
+    void setName(String name) {
         this.name = name;
     }
 
+    // EFFECTS: returns a copy of this event with name
+    public abstract ScheduleEvent withName(String name);
+
     // EFFECTS: returns name of event
     public String getName() {
         return name;
@@ -55,6 +64,24 @@ public abstract class ScheduleEvent implements FormatterPattern, Comparable<Sche
         return diffLocalTimes(startTime, endTime);
     }
 
+    // EFFECTS: returns length of event in minutes
+    @JsonIgnore
+    public int getLengthMinutes() {
+        return endMinute - startMinute;
+    }
+
+    // EFFECTS: returns start time of event as minutes since the start of the day
+    @JsonIgnore
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    // EFFECTS: returns end time of event as minutes since the start of the day
+    @JsonIgnore
+    public int getEndMinute() {
+        return endMinute;
+    }
+
     // EFFECTS: returns end time of event
     public LocalTime getEndTime() {
         return endTime;
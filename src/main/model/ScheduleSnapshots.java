@@ -0,0 +1,63 @@
+package model;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Copy-on-write versions of a schedule, for reading it on other threads while it is edited. The current version is
+// never changed once published: writers, one at a time, make their change to a copy of it and publish the copy in
+// one step, so readers never lock and always see a whole version. A version gives up changing its segments in
+// place before it is published, so the next copy shares everything but the month it changes with it, and a change
+// costs about the same however large the schedule is.
+// Events are shared between versions, so they must not be changed in place once in a schedule.
+public class ScheduleSnapshots {
+    private volatile ScheduleContainer current;
+    // held by writers, so that a change is never made to a copy of a version another writer is replacing
+    private final Object writeLock = new Object();
+
+    // EFFECTS: publishes schedule as the first version, which must not be changed from now on except through this
+    public ScheduleSnapshots(ScheduleContainer schedule) {
+        schedule.releaseOwnership();
+        current = schedule;
+    }
+
+    // EFFECTS: returns the current version, which must not be changed
+    public ScheduleContainer get() {
+        return current;
+    }
+
+    // EFFECTS: returns what query finds in the current version, without locking
+    public <T> T read(Function<ScheduleContainer, T> query) {
+        return query.apply(current);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a copy of the current version with change made to it
+    public void update(Consumer<ScheduleContainer> change) {
+        updateAndGet(schedule -> {
+            change.accept(schedule);
+            return null;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a copy of the current version with change made to it and returns what change returns
+    public <T> T updateAndGet(Function<ScheduleContainer, T> change) {
+        synchronized (writeLock) {
+            ScheduleContainer copy = new ScheduleContainer(current);
+            T retVal = change.apply(copy);
+            copy.releaseOwnership();
+            current = copy;
+            return retVal;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes schedule as the current version in place of any other, which must not be changed from now
+    //          on except through this
+    public void replace(ScheduleContainer schedule) {
+        synchronized (writeLock) {
+            schedule.releaseOwnership();
+            current = schedule;
+        }
+    }
+}
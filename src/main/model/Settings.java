@@ -5,12 +5,15 @@ import utilities.ColorUtility;
 
 import java.awt.*;
 import java.io.IOException;
+import java.util.*;
+import java.util.List;
 
 public class Settings implements SaveLoadSystem {
     public static final String DEFAULT_DIRECTORY = "calendar_data";
     public static final String DEFAULT_SAVE_FILE = DEFAULT_DIRECTORY + "/saveFile.json";
     public static final String DEFAULT_SETTINGS_FILE = DEFAULT_DIRECTORY + "/settings.json";
     public static final String DEFAULT_HOLIDAYS_FILE = DEFAULT_DIRECTORY + "/holidays.json";
+    public static final SaveFormat DEFAULT_SAVE_FORMAT = SaveFormat.JSON;
     public static final boolean DEFAULT_SHOW_DATE = true;
     public static final boolean DEFAULT_SHOW_REPEAT = true;
     public static final boolean DEFAULT_DIM_PAST_EVENTS = true;
@@ -19,14 +22,17 @@ public class Settings implements SaveLoadSystem {
     public static final boolean DEFAULT_SHOW_HOLIDAYS_ON_EVENTS = true;
     public static final boolean DEFAULT_MERGE_HOLIDAY = true;
     public static final boolean DEFAULT_LOAD_HOLIDAYS_FROM_WEB = false;
+    public static final String DEFAULT_HOLIDAY_COUNTRIES = HolidaysContainer.COUNTRY_CODE;
     public static final boolean DEFAULT_LOAD_ON_START = false;
     public static final boolean DEFAULT_BW_MODE = false;
     public static final boolean DEFAULT_FLIP_TEXT_COLOR = true;
+    public static final boolean DEFAULT_PAINTED_CALENDAR = false;
     public static final Color DEFAULT_HIGHLIGHT_COLOR = ColorUtility.COLOR_3;
     public static final Color DEFAULT_HIGHLIGHT_COLORLESS = Color.GRAY;
 
     private String settingsFile;
     private String saveFile;
+    private SaveFormat saveFormat;
     private boolean showDate;
     private boolean showRepeat;
     private boolean dimPastEvents;
@@ -35,9 +41,11 @@ public class Settings implements SaveLoadSystem {
     private boolean showHolidaysOnEvents;
     private boolean mergeHoliday;
     private boolean loadHolidaysFromWeb;
+    private String holidayCountries;
     private boolean loadOnStart;
     private boolean bwMode;
     private boolean flipTextColor;
+    private boolean paintedCalendar;
     private Color highlightColor;
 
     public Settings() {
@@ -54,6 +62,7 @@ public class Settings implements SaveLoadSystem {
     public void setToDefault() {
         settingsFile = DEFAULT_SETTINGS_FILE;
         saveFile = DEFAULT_SAVE_FILE;
+        saveFormat = DEFAULT_SAVE_FORMAT;
         showDate = DEFAULT_SHOW_DATE;
         showRepeat = DEFAULT_SHOW_REPEAT;
         dimPastEvents = DEFAULT_DIM_PAST_EVENTS;
@@ -62,9 +71,11 @@ public class Settings implements SaveLoadSystem {
         showHolidaysOnEvents = DEFAULT_SHOW_HOLIDAYS_ON_EVENTS;
         mergeHoliday = DEFAULT_MERGE_HOLIDAY;
         loadHolidaysFromWeb = DEFAULT_LOAD_HOLIDAYS_FROM_WEB;
+        holidayCountries = DEFAULT_HOLIDAY_COUNTRIES;
         loadOnStart = DEFAULT_LOAD_ON_START;
         bwMode = DEFAULT_BW_MODE;
         flipTextColor = DEFAULT_FLIP_TEXT_COLOR;
+        paintedCalendar = DEFAULT_PAINTED_CALENDAR;
         highlightColor = DEFAULT_HIGHLIGHT_COLOR;
     }
 
@@ -73,6 +84,7 @@ public class Settings implements SaveLoadSystem {
     public void copy(Settings settings) {
         settingsFile = settings.settingsFile;
         saveFile = settings.saveFile;
+        saveFormat = settings.saveFormat;
         showDate = settings.showDate;
         showRepeat = settings.showRepeat;
         dimPastEvents = settings.dimPastEvents;
@@ -81,9 +93,11 @@ public class Settings implements SaveLoadSystem {
         showHolidaysOnEvents = settings.showHolidaysOnEvents;
         mergeHoliday = settings.mergeHoliday;
         loadHolidaysFromWeb = settings.loadHolidaysFromWeb;
+        holidayCountries = settings.holidayCountries;
         loadOnStart = settings.loadOnStart;
         bwMode = settings.bwMode;
         flipTextColor = settings.flipTextColor;
+        paintedCalendar = settings.paintedCalendar;
         highlightColor = settings.highlightColor;
     }
 
@@ -102,13 +116,17 @@ public class Settings implements SaveLoadSystem {
                 && (showHolidaysOnEvents == settings.showHolidaysOnEvents)
                 && (mergeHoliday == settings.mergeHoliday) && (loadHolidaysFromWeb == settings.loadHolidaysFromWeb)
                 && (loadOnStart == settings.loadOnStart) && (bwMode == settings.bwMode)
-                && (flipTextColor == settings.flipTextColor) && (saveFile.equals(settings.saveFile))
+                && (flipTextColor == settings.flipTextColor) && (paintedCalendar == settings.paintedCalendar)
+                && (saveFile.equals(settings.saveFile))
+                && (holidayCountries.equals(settings.holidayCountries))
+                && (saveFormat == settings.saveFormat)
                 && highlightColor.equals(settings.highlightColor));
     }
 
     @Override
     public int hashCode() {
         int result = saveFile.hashCode();
+        result = 31 * result + saveFormat.hashCode();
         result = 31 * result + (showDate ? 1 : 0);
         result = 31 * result + (showRepeat ? 1 : 0);
         result = 31 * result + (dimPastEvents ? 1 : 0);
@@ -117,9 +135,11 @@ public class Settings implements SaveLoadSystem {
         result = 31 * result + (showHolidaysOnEvents ? 1 : 0);
         result = 31 * result + (mergeHoliday ? 1 : 0);
         result = 31 * result + (loadHolidaysFromWeb ? 1 : 0);
+        result = 31 * result + holidayCountries.hashCode();
         result = 31 * result + (loadOnStart ? 1 : 0);
         result = 31 * result + (bwMode ? 1 : 0);
         result = 31 * result + (flipTextColor ? 1 : 0);
+        result = 31 * result + (paintedCalendar ? 1 : 0);
         result = 31 * result + highlightColor.hashCode();
         return result;
     }
@@ -169,6 +189,10 @@ public class Settings implements SaveLoadSystem {
         return saveFile;
     }
 
+    public SaveFormat getSaveFormat() {
+        return saveFormat;
+    }
+
     public boolean isShowDate() {
         return showDate;
     }
@@ -201,6 +225,26 @@ public class Settings implements SaveLoadSystem {
         return loadHolidaysFromWeb;
     }
 
+    public String getHolidayCountries() {
+        return holidayCountries;
+    }
+
+    // EFFECTS: returns the distinct upper case country codes in holidayCountries, in order,
+    //          or the default country if there are none
+    @JsonIgnore
+    public List<String> getHolidayCountryList() {
+        Set<String> retVal = new LinkedHashSet<>();
+        for (String country : holidayCountries.split("[,\\s]+")) {
+            if (!country.isEmpty()) {
+                retVal.add(country.toUpperCase(Locale.ROOT));
+            }
+        }
+        if (retVal.isEmpty()) {
+            retVal.add(DEFAULT_HOLIDAY_COUNTRIES);
+        }
+        return new ArrayList<>(retVal);
+    }
+
     public boolean isLoadOnStart() {
         return loadOnStart;
     }
@@ -217,6 +261,10 @@ public class Settings implements SaveLoadSystem {
         return flipTextColor;
     }
 
+    public boolean isPaintedCalendar() {
+        return paintedCalendar;
+    }
+
     public void setSettingsFile(String settingsFile) {
         this.settingsFile = settingsFile;
     }
@@ -225,6 +273,10 @@ public class Settings implements SaveLoadSystem {
         this.saveFile = saveFile;
     }
 
+    public void setSaveFormat(SaveFormat saveFormat) {
+        this.saveFormat = saveFormat;
+    }
+
     public void setShowDate(boolean showDate) {
         this.showDate = showDate;
     }
@@ -257,6 +309,11 @@ public class Settings implements SaveLoadSystem {
         this.loadHolidaysFromWeb = loadHolidaysFromWeb;
     }
 
+    // EFFECTS: sets the countries to show holidays of, as country codes separated by commas or spaces
+    public void setHolidayCountries(String holidayCountries) {
+        this.holidayCountries = holidayCountries;
+    }
+
     public void setLoadOnStart(boolean loadOnStart) {
         this.loadOnStart = loadOnStart;
     }
@@ -269,6 +326,10 @@ public class Settings implements SaveLoadSystem {
         this.flipTextColor = flipTextColor;
     }
 
+    public void setPaintedCalendar(boolean paintedCalendar) {
+        this.paintedCalendar = paintedCalendar;
+    }
+
     public void setHighlightColor(Color highlightColor) {
         this.highlightColor = highlightColor;
     }
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 
 import static utilities.TimeUtility.*;
 
@@ -28,6 +29,12 @@ public class WeeklyEvent extends RepeatEvent {
         super(name, startTime, endTime, ChronoUnit.WEEKS, dayOfWeek.getValue());
     }
 
+    // EFFECTS: returns a copy of this event with name
+    @Override
+    public WeeklyEvent withName(String name) {
+        return new WeeklyEvent(name, getDayOfWeek(), startTime, endTime);
+    }
+
     // EFFECTS: returns dayOfWeek
     @JsonIgnore
     public DayOfWeek getDayOfWeek() {
@@ -46,4 +53,10 @@ public class WeeklyEvent extends RepeatEvent {
         return date.getDayOfWeek() == getDayOfWeek();
     }
 
+    // EFFECTS: returns the first date on or after date that is of dayOfWeek
+    @Override
+    public LocalDate nextDateFrom(LocalDate date) {
+        return date.with(TemporalAdjusters.nextOrSame(getDayOfWeek()));
+    }
+
 }
@@ -2,8 +2,8 @@ package model.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.awt.*;
@@ -14,12 +14,37 @@ public class ColorDeserializer extends StdDeserializer<Color> {
         super(Color.class);
     }
 
+    // EFFECTS: creates a Color from jsonParser, reading tokens directly
     @Override
     public Color deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
-        JsonNode colorNode = jsonParser.getCodec().readTree(jsonParser);
-        return new Color(colorNode.get("red").asInt(), colorNode.get("green").asInt(),
-                colorNode.get("blue").asInt(), colorNode.get("alpha").asInt());
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        int alpha = 255;
+        for (JsonToken token = EventDeserializer.startObject(jsonParser); token == JsonToken.FIELD_NAME;
+                token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            switch (field) {
+                case "red":
+                    red = jsonParser.getIntValue();
+                    break;
+                case "green":
+                    green = jsonParser.getIntValue();
+                    break;
+                case "blue":
+                    blue = jsonParser.getIntValue();
+                    break;
+                case "alpha":
+                    alpha = jsonParser.getIntValue();
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return new Color(red, green, blue, alpha);
     }
 
 }
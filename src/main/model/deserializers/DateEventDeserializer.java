@@ -2,34 +2,52 @@ package model.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import model.DateEvent;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
-public class DateEventDeserializer extends StdDeserializer<DateEvent> {
+public class DateEventDeserializer extends EventDeserializer<DateEvent> {
     public DateEventDeserializer() {
         super(DateEvent.class);
     }
 
-    // EFFECTS: creates a DateEvent from jsonParser
+    // EFFECTS: creates a DateEvent from jsonParser, reading tokens directly
     @Override
     public DateEvent deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-        String name = node.get("name").asText();
-        int startDateYear = node.get("date").get("year").asInt();
-        int startDateMonth = node.get("date").get("monthValue").asInt();
-        int startDateDay = node.get("date").get("dayOfMonth").asInt();
-        int startTimeHour = node.get("startTime").get("hour").asInt();
-        int startTimeMinute = node.get("startTime").get("minute").asInt();
-        int endTimeHour = node.get("endTime").get("hour").asInt();
-        int endTimeMinute = node.get("endTime").get("minute").asInt();
-        return new DateEvent(name, LocalDate.of(startDateYear, startDateMonth, startDateDay),
-                LocalTime.of(startTimeHour, startTimeMinute), LocalTime.of(endTimeHour, endTimeMinute));
+        String name = null;
+        LocalDate date = null;
+        LocalTime startTime = null;
+        LocalTime endTime = null;
+        for (JsonToken token = startObject(jsonParser); token == JsonToken.FIELD_NAME;
+                token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            switch (field) {
+                case "name":
+                    name = jsonParser.getText();
+                    break;
+                case "date":
+                    date = readDate(jsonParser);
+                    break;
+                case "startTime":
+                    startTime = readTime(jsonParser);
+                    break;
+                case "endTime":
+                    endTime = readTime(jsonParser);
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return new DateEvent(require(name, "name", deserializationContext),
+                require(date, "date", deserializationContext),
+                require(startTime, "startTime", deserializationContext),
+                require(endTime, "endTime", deserializationContext));
     }
 }
@@ -0,0 +1,83 @@
+package model.deserializers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public abstract class EventDeserializer<T> extends StdDeserializer<T> {
+    protected EventDeserializer(Class<T> valueClass) {
+        super(valueClass);
+    }
+
+    // EFFECTS: moves jsonParser past the start of the current object,
+    //          returns the token of the first field (or the end of the object)
+    protected static JsonToken startObject(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        }
+        return token;
+    }
+
+    // REQUIRES: jsonParser is at the start of an object written by LocalDateSerializer
+    // EFFECTS: reads the object into a LocalDate, ignoring any other fields
+    protected static LocalDate readDate(JsonParser jsonParser) throws IOException {
+        int year = 0;
+        int monthValue = 1;
+        int dayOfMonth = 1;
+        for (String field = jsonParser.nextFieldName(); field != null; field = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            switch (field) {
+                case "year":
+                    year = jsonParser.getIntValue();
+                    break;
+                case "monthValue":
+                    monthValue = jsonParser.getIntValue();
+                    break;
+                case "dayOfMonth":
+                    dayOfMonth = jsonParser.getIntValue();
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return LocalDate.of(year, monthValue, dayOfMonth);
+    }
+
+    // REQUIRES: jsonParser is at the start of an object written by LocalTimeSerializer
+    // EFFECTS: reads the object into a LocalTime, ignoring any other fields
+    protected static LocalTime readTime(JsonParser jsonParser) throws IOException {
+        int hour = 0;
+        int minute = 0;
+        for (String field = jsonParser.nextFieldName(); field != null; field = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            switch (field) {
+                case "hour":
+                    hour = jsonParser.getIntValue();
+                    break;
+                case "minute":
+                    minute = jsonParser.getIntValue();
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    // EFFECTS: reports an error if value of field is missing, returns value otherwise
+    protected <V> V require(V value, String field, DeserializationContext deserializationContext)
+            throws IOException {
+        if (value == null) {
+            return deserializationContext.reportInputMismatch(this, "Missing field '%s'", field);
+        }
+        return value;
+    }
+}
@@ -2,11 +2,8 @@ package model.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import model.DateEvent;
 import model.MultiEvent;
 
 import java.io.IOException;
@@ -15,28 +12,65 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
-public class MultiEventDeserializer extends StdDeserializer<MultiEvent> {
+public class MultiEventDeserializer extends EventDeserializer<MultiEvent> {
     public MultiEventDeserializer() {
         super(MultiEvent.class);
     }
 
-    // EFFECTS: creates a DateEvent from jsonParser
+    // EFFECTS: creates a MultiEvent from jsonParser, reading tokens directly
     @Override
     public MultiEvent deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-        String name = node.get("name").asText();
-        int startDateYear = node.get("date").get("year").asInt();
-        int startDateMonth = node.get("date").get("monthValue").asInt();
-        int startDateDay = node.get("date").get("dayOfMonth").asInt();
-        int startTimeHour = node.get("startTime").get("hour").asInt();
-        int startTimeMinute = node.get("startTime").get("minute").asInt();
-        int endTimeHour = node.get("endTime").get("hour").asInt();
-        int endTimeMinute = node.get("endTime").get("minute").asInt();
-        List<String> otherNames = new ObjectMapper().convertValue(node.get("otherNames"), ArrayList.class);
-        MultiEvent newMultiEvent = new MultiEvent(name, LocalDate.of(startDateYear, startDateMonth, startDateDay),
-                LocalTime.of(startTimeHour, startTimeMinute), LocalTime.of(endTimeHour, endTimeMinute));
+        String name = null;
+        LocalDate date = null;
+        LocalTime startTime = null;
+        LocalTime endTime = null;
+        List<String> otherNames = new ArrayList<>();
+        for (JsonToken token = startObject(jsonParser); token == JsonToken.FIELD_NAME;
+                token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            switch (field) {
+                case "name":
+                    name = jsonParser.getText();
+                    break;
+                case "date":
+                    date = readDate(jsonParser);
+                    break;
+                case "startTime":
+                    startTime = readTime(jsonParser);
+                    break;
+                case "endTime":
+                    endTime = readTime(jsonParser);
+                    break;
+                case "otherNames":
+                    readNames(jsonParser, otherNames);
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        MultiEvent newMultiEvent = new MultiEvent(require(name, "name", deserializationContext),
+                require(date, "date", deserializationContext),
+                require(startTime, "startTime", deserializationContext),
+                require(endTime, "endTime", deserializationContext));
         newMultiEvent.setOtherNames(otherNames);
         return newMultiEvent;
     }
+
+    // MODIFIES: names
+    // EFFECTS: adds each string of the array at jsonParser to names
+    private static void readNames(JsonParser jsonParser, List<String> names) throws IOException {
+        if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            jsonParser.skipChildren();
+            return;
+        }
+        for (String name = jsonParser.nextTextValue(); jsonParser.currentToken() != JsonToken.END_ARRAY;
+                name = jsonParser.nextTextValue()) {
+            if (name != null) {
+                names.add(name);
+            }
+        }
+    }
 }
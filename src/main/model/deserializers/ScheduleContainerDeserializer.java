@@ -0,0 +1,73 @@
+package model.deserializers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import model.DateEvent;
+import model.RepeatEvent;
+import model.ScheduleContainer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ScheduleContainerDeserializer extends StdDeserializer<ScheduleContainer> {
+    public static final int BATCH_SIZE = 4096;
+
+    public ScheduleContainerDeserializer() {
+        super(ScheduleContainer.class);
+    }
+
+    // EFFECTS: creates a ScheduleContainer from jsonParser, streaming the events into it in batches
+    @Override
+    public ScheduleContainer deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException, JsonProcessingException {
+        ScheduleContainer scheduleContainer = new ScheduleContainer();
+        for (JsonToken token = EventDeserializer.startObject(jsonParser); token == JsonToken.FIELD_NAME;
+                token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            switch (field) {
+                case "dateEvents":
+                    readInBatches(jsonParser, deserializationContext, DateEvent.class,
+                            scheduleContainer::addDateEvents);
+                    break;
+                case "repeatEvents":
+                    readInBatches(jsonParser, deserializationContext, RepeatEvent.class,
+                            scheduleContainer::addRepeatEvents);
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return scheduleContainer;
+    }
+
+    // EFFECTS: reads the array at jsonParser one element at a time,
+    //          giving every BATCH_SIZE elements (and the remainder) to batchConsumer
+    private static <T> void readInBatches(JsonParser jsonParser, DeserializationContext deserializationContext,
+                                          Class<T> type, Consumer<List<T>> batchConsumer) throws IOException {
+        if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            jsonParser.skipChildren();
+            return;
+        }
+        JsonDeserializer<Object> deserializer = deserializationContext.findRootValueDeserializer(
+                deserializationContext.constructType(type));
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(type.cast(deserializer.deserialize(jsonParser, deserializationContext)));
+            if (batch.size() >= BATCH_SIZE) {
+                batchConsumer.accept(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+}
@@ -2,33 +2,52 @@ package model.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import model.WeeklyEvent;
 
 import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
-public class WeeklyEventDeserializer extends StdDeserializer<WeeklyEvent> {
+public class WeeklyEventDeserializer extends EventDeserializer<WeeklyEvent> {
     public WeeklyEventDeserializer() {
         super(WeeklyEvent.class);
     }
 
-    // EFFECTS: creates a WeeklyEvent from jsonParser
+    // EFFECTS: creates a WeeklyEvent from jsonParser, reading tokens directly
     @Override
     public WeeklyEvent deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-        String name = node.get("name").asText();
-        int dayOfWeek = node.get("dayOf").asInt();
-        int startTimeHour = node.get("startTime").get("hour").asInt();
-        int startTimeMinute = node.get("startTime").get("minute").asInt();
-        int endTimeHour = node.get("endTime").get("hour").asInt();
-        int endTimeMinute = node.get("endTime").get("minute").asInt();
-        return new WeeklyEvent(name, DayOfWeek.of(dayOfWeek),
-                LocalTime.of(startTimeHour, startTimeMinute), LocalTime.of(endTimeHour, endTimeMinute));
+        String name = null;
+        Integer dayOf = null;
+        LocalTime startTime = null;
+        LocalTime endTime = null;
+        for (JsonToken token = startObject(jsonParser); token == JsonToken.FIELD_NAME;
+                token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            switch (field) {
+                case "name":
+                    name = jsonParser.getText();
+                    break;
+                case "dayOf":
+                    dayOf = jsonParser.getIntValue();
+                    break;
+                case "startTime":
+                    startTime = readTime(jsonParser);
+                    break;
+                case "endTime":
+                    endTime = readTime(jsonParser);
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+        return new WeeklyEvent(require(name, "name", deserializationContext),
+                DayOfWeek.of(require(dayOf, "dayOf", deserializationContext)),
+                require(startTime, "startTime", deserializationContext),
+                require(endTime, "endTime", deserializationContext));
     }
-
 }
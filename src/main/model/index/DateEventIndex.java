@@ -0,0 +1,48 @@
+package model.index;
+
+import model.DateEvent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface DateEventIndex {
+
+    // MODIFIES: this
+    // EFFECTS: adds event to the index, after any events with the same start
+    void add(DateEvent event);
+
+    // MODIFIES: this
+    // EFFECTS: removes event (the same instance) from the index, returns true if it was found
+    boolean remove(DateEvent event);
+
+    // MODIFIES: this
+    // EFFECTS: removes all events from the index
+    void clear();
+
+    // REQUIRES: sortedEvents is sorted
+    // MODIFIES: this
+    // EFFECTS: replaces the contents of the index with sortedEvents
+    void build(List<DateEvent> sortedEvents);
+
+    // EFFECTS: returns the number of events in the index
+    int size();
+
+    // REQUIRES: startMinute <= endMinute
+    // EFFECTS: calls action, in order of start time, on every event that overlaps [startMinute, endMinute]
+    void forEachOverlapping(long startMinute, long endMinute, Consumer<? super DateEvent> action);
+
+    // REQUIRES: startMinute <= endMinute, the index is not modified while the iterator is in use
+    // EFFECTS: returns an iterator over the events that overlap [startMinute, endMinute] in order of start time,
+    //          finding each event only when it is asked for
+    Iterator<DateEvent> overlappingIterator(long startMinute, long endMinute);
+
+    // REQUIRES: startMinute <= endMinute
+    // EFFECTS: returns the events that overlap [startMinute, endMinute], in order of start time
+    default List<DateEvent> getOverlapping(long startMinute, long endMinute) {
+        List<DateEvent> retVal = new ArrayList<>();
+        forEachOverlapping(startMinute, endMinute, retVal::add);
+        return retVal;
+    }
+}
@@ -0,0 +1,303 @@
+package model.index;
+
+import model.DateEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+public class IntervalTreeIndex implements DateEventIndex {
+    private Node root;
+    private int size;
+    private boolean removed;
+
+    // node of an AVL tree keyed on start, with maxEnd being the latest end within its subtree
+    private static class Node {
+        private final DateEvent event;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(DateEvent event) {
+            this.event = event;
+            start = event.getStartEpochMinute();
+            end = event.getEndEpochMinute();
+            maxEnd = end;
+            height = 1;
+        }
+    }
+
+    public IntervalTreeIndex() {
+        root = null;
+        size = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds event to the tree, after any events with the same start
+    @Override
+    public void add(DateEvent event) {
+        root = insert(root, new Node(event));
+        size++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event (the same instance) from the tree, returns true if it was found
+    @Override
+    public boolean remove(DateEvent event) {
+        removed = false;
+        root = remove(root, event.getStartEpochMinute(), event);
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all events from the tree
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    // REQUIRES: sortedEvents is sorted
+    // MODIFIES: this
+    // EFFECTS: replaces the tree with a perfectly balanced tree of sortedEvents
+    @Override
+    public void build(List<DateEvent> sortedEvents) {
+        root = build(sortedEvents, 0, sortedEvents.size() - 1);
+        size = sortedEvents.size();
+    }
+
+    // EFFECTS: returns the number of events in the tree
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: startMinute <= endMinute
+    // EFFECTS: calls action, in order of start time, on every event that overlaps [startMinute, endMinute]
+    @Override
+    public void forEachOverlapping(long startMinute, long endMinute, Consumer<? super DateEvent> action) {
+        forEachOverlapping(root, startMinute, endMinute, action);
+    }
+
+    // REQUIRES: startMinute <= endMinute, the tree is not modified while the iterator is in use
+    // EFFECTS: returns an iterator over the events that overlap [startMinute, endMinute] in order of start time
+    @Override
+    public Iterator<DateEvent> overlappingIterator(long startMinute, long endMinute) {
+        return new OverlappingIterator(root, startMinute, endMinute);
+    }
+
+    // in order walk of the tree with an explicit stack, pruned the same way as forEachOverlapping
+    private static class OverlappingIterator implements Iterator<DateEvent> {
+        private final Deque<Node> path;
+        private final long startMinute;
+        private final long endMinute;
+        private DateEvent next;
+
+        private OverlappingIterator(Node root, long startMinute, long endMinute) {
+            path = new ArrayDeque<>();
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            pushLeft(root);
+            next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public DateEvent next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            DateEvent retVal = next;
+            next = advance();
+            return retVal;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: pushes node and its left descendants, stopping at subtrees that end before startMinute
+        private void pushLeft(Node node) {
+            while (node != null && node.maxEnd >= startMinute) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: walks to the next overlapping event and returns it, or null if there are no more
+        private DateEvent advance() {
+            while (!path.isEmpty()) {
+                Node node = path.pop();
+                if (node.start > endMinute) {
+                    path.clear();
+                    return null;
+                }
+                pushLeft(node.right);
+                if (node.end >= startMinute) {
+                    return node.event;
+                }
+            }
+            return null;
+        }
+    }
+
+    // EFFECTS: visits the overlapping events of the subtree at node in order,
+    //          skipping subtrees that end before startMinute or start after endMinute
+    private static void forEachOverlapping(Node node, long startMinute, long endMinute,
+                                           Consumer<? super DateEvent> action) {
+        if (node == null || node.maxEnd < startMinute) {
+            return;
+        }
+        forEachOverlapping(node.left, startMinute, endMinute, action);
+        if (node.start > endMinute) {
+            return;
+        }
+        if (node.end >= startMinute) {
+            action.accept(node.event);
+        }
+        forEachOverlapping(node.right, startMinute, endMinute, action);
+    }
+
+    // EFFECTS: returns a balanced subtree of events between lo and hi inclusive
+    private static Node build(List<DateEvent> sortedEvents, int lo, int hi) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        Node node = new Node(sortedEvents.get(mid));
+        node.left = build(sortedEvents, lo, mid - 1);
+        node.right = build(sortedEvents, mid + 1, hi);
+        update(node);
+        return node;
+    }
+
+    // EFFECTS: inserts newNode into the subtree at node and returns the new root of the subtree
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.start < node.start) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event from the subtree at node and returns the new root of the subtree,
+    //          events with the same start can be on either side of a node so both are searched
+    private Node remove(Node node, long start, DateEvent event) {
+        if (node == null) {
+            return null;
+        }
+        if (start < node.start) {
+            node.left = remove(node.left, start, event);
+        } else if (start > node.start) {
+            node.right = remove(node.right, start, event);
+        } else if (node.event == event) {
+            removed = true;
+            return removeNode(node);
+        } else {
+            node.left = remove(node.left, start, event);
+            if (!removed) {
+                node.right = remove(node.right, start, event);
+            }
+        }
+        return rebalance(node);
+    }
+
+    // EFFECTS: returns the subtree at node with node itself taken out, replaced by its successor
+    private static Node removeNode(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeMin(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    // EFFECTS: returns the subtree at node without its leftmost node
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    // EFFECTS: returns height of the subtree at node
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    // MODIFIES: node
+    // EFFECTS: recalculates the height and latest end of node from its children
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    // EFFECTS: rotates the subtree at node to restore the height balance and returns the new root
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    // EFFECTS: rotates the subtree at node to the left and returns the new root
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    // EFFECTS: rotates the subtree at node to the right and returns the new root
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+}
@@ -0,0 +1,342 @@
+package model.index;
+
+import model.DateEvent;
+import utilities.EventUtility;
+import utilities.TimeUtility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// The date events of one month in order, with the indexes over them: by time, by name and by text in their names,
+// the days of the month that have events and the number of overlapping pairs. Date events never span days, so each
+// one is in exactly one month, and a schedule is its month segments in order.
+// Only the schedule that owns a segment changes it. A segment with no owner, read from a file, or one whose owner
+// has given it up to share it between versions of a schedule, is never changed again; a schedule changes a copy of
+// it instead.
+public class MonthSegment {
+    // rebuild the index instead of inserting one by one when adding at least 1/BULK_REBUILD_RATIO of the events
+    private static final int BULK_REBUILD_RATIO = 8;
+
+    private final Object owner;
+    private final List<DateEvent> events;
+    private final DateEventIndex index;
+    // null when the events are packed so that they are not kept as objects
+    private final NameIndex<DateEvent> names;
+    private final TrigramIndex<DateEvent> text;
+    // bit (d - 1) is set if there is an event on day d
+    private int days;
+    // number of pairs of events that overlap, kept up to date on every add and remove
+    private long conflictPairs;
+
+    // EFFECTS: creates an empty segment that only owner changes, packing its events into primitive arrays
+    //          if packed is true
+    public MonthSegment(boolean packed, Object owner) {
+        this.owner = owner;
+        if (packed) {
+            PackedDateEventList packedEvents = new PackedDateEventList();
+            events = packedEvents;
+            index = packedEvents.asIndex();
+            names = null;
+            text = null;
+        } else {
+            events = new ArrayList<>();
+            index = new IntervalTreeIndex();
+            names = new NameIndex<>();
+            text = new TrigramIndex<>();
+        }
+    }
+
+    // REQUIRES: sortedEvents is sorted and all of it is in one month
+    // EFFECTS: returns a segment of sortedEvents with no owner, which is never changed
+    public static MonthSegment of(List<DateEvent> sortedEvents) {
+        MonthSegment retVal = new MonthSegment(false, null);
+        retVal.addAll(sortedEvents);
+        return retVal;
+    }
+
+    // EFFECTS: creates a copy of segment that only owner changes, copying its indexes instead of rebuilding them
+    private MonthSegment(MonthSegment segment, Object owner) {
+        this.owner = owner;
+        if (segment.isPacked()) {
+            PackedDateEventList packedEvents = new PackedDateEventList((PackedDateEventList) segment.events);
+            events = packedEvents;
+            index = packedEvents.asIndex();
+            names = null;
+            text = null;
+        } else {
+            events = new ArrayList<>(segment.events);
+            index = new IntervalTreeIndex();
+            index.build(events);
+            names = new NameIndex<>(segment.names);
+            text = new TrigramIndex<>(segment.text);
+        }
+        days = segment.days;
+        conflictPairs = segment.conflictPairs;
+    }
+
+    // EFFECTS: returns a segment with the same events as this that only owner changes
+    public MonthSegment copy(Object owner) {
+        return new MonthSegment(this, owner);
+    }
+
+    // EFFECTS: returns true if owner may change this
+    public boolean isOwnedBy(Object owner) {
+        return this.owner != null && this.owner == owner;
+    }
+
+    // EFFECTS: returns true if the events are packed, so that the events returned are copies
+    public boolean isPacked() {
+        return names == null;
+    }
+
+    // REQUIRES: event is in the month of this segment
+    // MODIFIES: this
+    // EFFECTS: inserts event at its sorted position, after any events at the same time
+    public void add(DateEvent event) {
+        conflictPairs += countOverlapping(event);
+        events.add(EventUtility.upperBound(events, event), event);
+        index.add(event);
+        markDay(event);
+        if (names != null) {
+            names.add(event);
+            text.add(event);
+        }
+    }
+
+    // REQUIRES: sortedEvents is sorted and all of it is in the month of this segment
+    // MODIFIES: this
+    // EFFECTS: adds all of sortedEvents, merging them in at once
+    public void addAll(List<DateEvent> sortedEvents) {
+        if (sortedEvents.isEmpty()) {
+            return;
+        }
+        boolean rebuild = sortedEvents.size() * BULK_REBUILD_RATIO >= events.size() + sortedEvents.size();
+        if (!rebuild) {
+            for (DateEvent event : sortedEvents) {
+                conflictPairs += countOverlapping(event);
+            }
+            conflictPairs += countConflictPairs(sortedEvents);
+        }
+        EventUtility.mergeIn(events, sortedEvents);
+        for (DateEvent event : sortedEvents) {
+            markDay(event);
+            if (names != null) {
+                names.add(event);
+                text.add(event);
+            }
+        }
+        if (rebuild) {
+            index.build(events);
+            conflictPairs = countConflictPairs(events);
+        } else {
+            for (DateEvent event : sortedEvents) {
+                index.add(event);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event, or if it is not here an event with the same values, or else the first event at the
+    //          same time, returns true if one was found
+    public boolean remove(DateEvent event) {
+        int position = indexOf(event);
+        if (position < 0) {
+            return false;
+        }
+        DateEvent removed = events.remove(position);
+        index.remove(removed);
+        conflictPairs -= countOverlapping(removed);
+        if (index.getOverlapping(TimeUtility.atStartOfDayEpochMinute(removed.getDate()),
+                TimeUtility.atEndOfDayEpochMinute(removed.getDate())).isEmpty()) {
+            days &= ~TimeUtility.dayMask(removed.getDate().getDayOfMonth());
+        }
+        if (names != null) {
+            names.remove(removed);
+            text.remove(removed);
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sorts the events by time again
+    public void sort() {
+        events.sort(null);
+        index.build(events);
+    }
+
+    // EFFECTS: returns the event that remove would remove for event, or null if there is none
+    public DateEvent find(DateEvent event) {
+        int position = indexOf(event);
+        return position < 0 ? null : events.get(position);
+    }
+
+    // EFFECTS: returns the index of event in events, preferring the same instance, then an event with the same name
+    //          and times, then the first event at the same time, or -1 if there is none
+    private int indexOf(DateEvent event) {
+        int first = EventUtility.lowerBound(events, event);
+        int sameValue = -1;
+        for (int i = first; i < events.size(); i++) {
+            DateEvent other = events.get(i);
+            if (other.compareTo(event) != 0) {
+                break;
+            } else if (other == event) {
+                return i;
+            } else if (sameValue < 0 && other.checkSameName(event)
+                    && other.getEndTime().equals(event.getEndTime())) {
+                sameValue = i;
+            }
+        }
+        if (sameValue >= 0) {
+            return sameValue;
+        }
+        if (first < events.size() && events.get(first).compareTo(event) == 0) {
+            return first;
+        }
+        return -1;
+    }
+
+    // EFFECTS: returns the number of events
+    public int size() {
+        return events.size();
+    }
+
+    // EFFECTS: returns an unmodifiable view of the events in order
+    public List<DateEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    // EFFECTS: returns a day mask of the days with events, bit (d - 1) is set for day d
+    public int getDays() {
+        return days;
+    }
+
+    // EFFECTS: returns the number of pairs of events that overlap
+    public long getConflictPairs() {
+        return conflictPairs;
+    }
+
+    // REQUIRES: startMinute <= endMinute
+    // EFFECTS: calls action, in order of start time, on every event that overlaps [startMinute, endMinute]
+    public void forEachOverlapping(long startMinute, long endMinute, Consumer<? super DateEvent> action) {
+        index.forEachOverlapping(startMinute, endMinute, action);
+    }
+
+    // REQUIRES: startMinute <= endMinute, this is not changed while the iterator is in use
+    // EFFECTS: returns an iterator over the events that overlap [startMinute, endMinute] in order of start time
+    public Iterator<DateEvent> overlappingIterator(long startMinute, long endMinute) {
+        return index.overlappingIterator(startMinute, endMinute);
+    }
+
+    // EFFECTS: returns true if an event is named name
+    public boolean containsName(String name) {
+        if (names == null) {
+            return !filterByName(events, name::equals).isEmpty();
+        }
+        return names.contains(name);
+    }
+
+    // EFFECTS: returns the events named name in order
+    public List<DateEvent> getNamed(String name) {
+        if (names == null) {
+            return filterByName(events, name::equals);
+        }
+        return names.get(name);
+    }
+
+    // EFFECTS: returns the events whose name starts with query, or contains it if anywhere is true, ignoring case,
+    //          in order
+    public List<DateEvent> findByName(String query, boolean anywhere) {
+        if (names == null) {
+            return filterByName(events, nameMatcher(query, anywhere));
+        }
+        return anywhere ? names.containing(query) : names.withPrefix(query);
+    }
+
+    // EFFECTS: returns the events that pass filter with a name or other name containing query ignoring case,
+    //          best match first
+    public List<DateEvent> search(String query, Predicate<? super DateEvent> filter) {
+        if (text == null) {
+            List<DateEvent> passed = new ArrayList<>();
+            for (DateEvent event : events) {
+                if (filter.test(event)) {
+                    passed.add(event);
+                }
+            }
+            return TrigramIndex.rank(passed, query);
+        }
+        return text.search(query, filter);
+    }
+
+    // EFFECTS: returns a test of whether a name starts with query, or contains it if anywhere is true, ignoring case
+    static Predicate<String> nameMatcher(String query, boolean anywhere) {
+        String folded = NameIndex.fold(query);
+        if (anywhere) {
+            return name -> NameIndex.fold(name).contains(folded);
+        }
+        return name -> NameIndex.fold(name).startsWith(folded);
+    }
+
+    // EFFECTS: returns the events in eventList whose name passes nameTest, in the same order
+    private static List<DateEvent> filterByName(List<DateEvent> eventList, Predicate<String> nameTest) {
+        List<DateEvent> retVal = new ArrayList<>();
+        for (DateEvent event : eventList) {
+            if (nameTest.test(event.getName())) {
+                retVal.add(event);
+            }
+        }
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the day of event as having an event
+    private void markDay(DateEvent event) {
+        days |= TimeUtility.dayMask(event.getDate().getDayOfMonth());
+    }
+
+    // EFFECTS: returns the number of events in the index that overlap event
+    private int countOverlapping(DateEvent event) {
+        int[] count = new int[1];
+        index.forEachOverlapping(event.getStartEpochMinute(), event.getEndEpochMinute(), overlapping -> count[0]++);
+        return count[0];
+    }
+
+    // REQUIRES: sortedEvents is sorted
+    // EFFECTS: returns the number of pairs of events in sortedEvents that overlap
+    private static long countConflictPairs(List<DateEvent> sortedEvents) {
+        int size = sortedEvents.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            DateEvent event = sortedEvents.get(i);
+            starts[i] = event.getStartEpochMinute();
+            ends[i] = event.getEndEpochMinute();
+        }
+        return countConflictPairs(starts, ends);
+    }
+
+    // REQUIRES: starts is sorted, starts and ends are the start and end minutes of the same events, each end is at
+    //           or after its start
+    // MODIFIES: ends
+    // EFFECTS: returns the number of pairs of the events that overlap, in O(n log n), sorting ends;
+    //          the event at i overlaps an earlier event at j exactly when end j >= start i, and every event
+    //          from i on ends at or after start i, so the earlier overlaps are those ending at or after start i
+    //          minus the (n - i) events from i on
+    public static long countConflictPairs(long[] starts, long[] ends) {
+        int size = starts.length;
+        Arrays.sort(ends);
+        long retVal = 0;
+        int endsBefore = 0;
+        for (int i = 0; i < size; i++) {
+            while (endsBefore < size && ends[endsBefore] < starts[i]) {
+                endsBefore++;
+            }
+            retVal += (size - endsBefore) - (size - i);
+        }
+        return retVal;
+    }
+}
@@ -0,0 +1,160 @@
+package model.index;
+
+import model.ScheduleEvent;
+import utilities.EventUtility;
+
+import java.util.*;
+
+// Index of events by name, a hash map for exact names and a sorted map of lower case names for
+// case-insensitive prefix search; the events of each name are kept in the order of compareTo,
+// and search results are returned in that order too
+public class NameIndex<T extends ScheduleEvent> {
+    private final Map<String, List<T>> byName;
+    private final NavigableMap<String, Set<String>> byFoldedName;
+
+    public NameIndex() {
+        byName = new HashMap<>();
+        byFoldedName = new TreeMap<>();
+    }
+
+    // EFFECTS: creates an index of the same events as index, copying its lists as they are
+    public NameIndex(NameIndex<T> index) {
+        byName = new HashMap<>();
+        for (Map.Entry<String, List<T>> entry : index.byName.entrySet()) {
+            byName.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        byFoldedName = new TreeMap<>(index.byFoldedName);
+        for (Map.Entry<String, Set<String>> entry : byFoldedName.entrySet()) {
+            entry.setValue(new HashSet<>(entry.getValue()));
+        }
+    }
+
+    // EFFECTS: returns name in the form used for case-insensitive search
+    public static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds event under its name, after any events of the same name that are equal to it
+    public void add(T event) {
+        List<T> events = byName.get(event.getName());
+        if (events == null) {
+            events = new ArrayList<>();
+            byName.put(event.getName(), events);
+            byFoldedName.computeIfAbsent(fold(event.getName()), k -> new HashSet<>()).add(event.getName());
+        }
+        events.add(EventUtility.upperBound(events, event), event);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event from under name, preferring the same instance over an event equal to it with the same
+    //          end time, returns true if one was found
+    public boolean remove(T event, String name) {
+        List<T> events = byName.get(name);
+        if (events == null) {
+            return false;
+        }
+        int index = indexOf(events, event);
+        if (index < 0) {
+            return false;
+        }
+        events.remove(index);
+        if (events.isEmpty()) {
+            byName.remove(name);
+            Set<String> names = byFoldedName.get(fold(name));
+            names.remove(name);
+            if (names.isEmpty()) {
+                byFoldedName.remove(fold(name));
+            }
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event from under its name, returns true if it was found
+    public boolean remove(T event) {
+        return remove(event, event.getName());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all events
+    public void clear() {
+        byName.clear();
+        byFoldedName.clear();
+    }
+
+    // EFFECTS: returns the events named name in order, or an empty list if there are none
+    public List<T> get(String name) {
+        List<T> events = byName.get(name);
+        return events == null ? Collections.emptyList() : Collections.unmodifiableList(events);
+    }
+
+    // EFFECTS: returns the first event named name, or null if there are none
+    public T getFirst(String name) {
+        List<T> events = byName.get(name);
+        return events == null ? null : events.get(0);
+    }
+
+    // EFFECTS: returns true if an event is named name
+    public boolean contains(String name) {
+        return byName.containsKey(name);
+    }
+
+    // EFFECTS: returns the number of distinct names
+    public int nameCount() {
+        return byName.size();
+    }
+
+    // EFFECTS: returns the events whose name starts with prefix ignoring case, in order
+    public List<T> withPrefix(String prefix) {
+        String folded = fold(prefix);
+        List<T> retVal = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : byFoldedName.tailMap(folded, true).entrySet()) {
+            if (!entry.getKey().startsWith(folded)) {
+                break;
+            }
+            addAllNamed(entry.getValue(), retVal);
+        }
+        retVal.sort(null);
+        return retVal;
+    }
+
+    // EFFECTS: returns the events whose name contains part ignoring case, in order;
+    //          checks each distinct name once rather than each event
+    public List<T> containing(String part) {
+        String folded = fold(part);
+        List<T> retVal = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : byFoldedName.entrySet()) {
+            if (entry.getKey().contains(folded)) {
+                addAllNamed(entry.getValue(), retVal);
+            }
+        }
+        retVal.sort(null);
+        return retVal;
+    }
+
+    // MODIFIES: events
+    // EFFECTS: adds the events of each of names to events
+    private void addAllNamed(Set<String> names, List<T> events) {
+        for (String name : names) {
+            events.addAll(byName.get(name));
+        }
+    }
+
+    // EFFECTS: returns the index of event in the sorted events, preferring the same instance,
+    //          or -1 if neither it nor an equal event with the same end time is there
+    private static <T extends ScheduleEvent> int indexOf(List<T> events, T event) {
+        int sameValue = -1;
+        for (int i = EventUtility.lowerBound(events, event); i < events.size(); i++) {
+            T other = events.get(i);
+            if (other.compareTo(event) != 0) {
+                break;
+            } else if (other == event) {
+                return i;
+            } else if (sameValue < 0 && other.getEndTime().equals(event.getEndTime())) {
+                sameValue = i;
+            }
+        }
+        return sameValue;
+    }
+}
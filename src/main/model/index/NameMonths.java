@@ -0,0 +1,106 @@
+package model.index;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Predicate;
+
+// Index of the months that date events of each name are in, with the number of events of that name in each month,
+// so that a name is looked up without going through every month. Like a MonthSegment, only the owner of the index
+// changes it; a copy shares the months of each name with the original until it changes them
+public class NameMonths {
+    private final Object owner;
+    private final Map<String, Months> byName;
+
+    // months of one name, changed in place only by the index that owns them
+    private static class Months {
+        private final Object owner;
+        private final NavigableMap<YearMonth, Integer> counts;
+
+        private Months(Object owner, NavigableMap<YearMonth, Integer> counts) {
+            this.owner = owner;
+            this.counts = counts;
+        }
+    }
+
+    // EFFECTS: creates an empty index that only owner changes
+    public NameMonths(Object owner) {
+        this.owner = owner;
+        byName = new HashMap<>();
+    }
+
+    // EFFECTS: creates a copy of index that only owner changes, sharing the months of each name
+    private NameMonths(NameMonths index, Object owner) {
+        this.owner = owner;
+        byName = new HashMap<>(index.byName);
+    }
+
+    // EFFECTS: returns an index of the same names as this that only owner changes
+    public NameMonths copy(Object owner) {
+        return new NameMonths(this, owner);
+    }
+
+    // EFFECTS: returns true if owner may change this
+    public boolean isOwnedBy(Object owner) {
+        return this.owner != null && this.owner == owner;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records one more date event named name in yearMonth
+    public void add(String name, YearMonth yearMonth) {
+        getCountsToChange(name).merge(yearMonth, 1, Integer::sum);
+    }
+
+    // REQUIRES: a date event named name was added in yearMonth and not yet removed
+    // MODIFIES: this
+    // EFFECTS: records one less date event named name in yearMonth
+    public void remove(String name, YearMonth yearMonth) {
+        NavigableMap<YearMonth, Integer> counts = getCountsToChange(name);
+        if (counts.merge(yearMonth, -1, Integer::sum) == 0) {
+            counts.remove(yearMonth);
+        }
+        if (counts.isEmpty()) {
+            byName.remove(name);
+        }
+    }
+
+    // EFFECTS: returns true if a date event is named name
+    public boolean contains(String name) {
+        return byName.containsKey(name);
+    }
+
+    // EFFECTS: returns the months with date events named name, in order
+    public NavigableSet<YearMonth> getMonths(String name) {
+        Months months = byName.get(name);
+        return months == null ? Collections.emptyNavigableSet()
+                : Collections.unmodifiableNavigableSet(months.counts.navigableKeySet());
+    }
+
+    // EFFECTS: returns the months with date events whose name starts with query, or contains it if anywhere is true,
+    //          ignoring case, in order; checks each distinct name once rather than each event
+    public NavigableSet<YearMonth> getMonthsMatching(String query, boolean anywhere) {
+        Predicate<String> matcher = MonthSegment.nameMatcher(query, anywhere);
+        NavigableSet<YearMonth> retVal = new TreeSet<>();
+        for (Map.Entry<String, Months> entry : byName.entrySet()) {
+            if (matcher.test(entry.getKey())) {
+                retVal.addAll(entry.getValue().counts.keySet());
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the number of distinct names
+    public int nameCount() {
+        return byName.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the months of name for changing in place, copying them first if they are shared
+    private NavigableMap<YearMonth, Integer> getCountsToChange(String name) {
+        Months months = byName.get(name);
+        if (months == null || months.owner != owner) {
+            months = new Months(owner, months == null ? new TreeMap<>() : new TreeMap<>(months.counts));
+            byName.put(name, months);
+        }
+        return months.counts;
+    }
+}
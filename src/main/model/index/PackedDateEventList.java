@@ -0,0 +1,321 @@
+package model.index;
+
+import model.DateEvent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static utilities.TimeUtility.MINUTES_PER_DAY;
+import static utilities.TimeUtility.minuteOfDay;
+
+// List of date events stored as parallel primitive arrays (epoch day, start and end minute of the day, name index)
+// instead of one object per event, about 12 bytes per event with each name stored once.
+// get returns a new DateEvent view of the stored values every time, built from shared LocalTimes,
+// so changes to a returned event are not written back and events are not the same instance twice.
+public class PackedDateEventList extends AbstractList<DateEvent> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final LocalTime[] TIMES = new LocalTime[MINUTES_PER_DAY];
+
+    static {
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            TIMES[i] = LocalTime.of(i / 60, i % 60);
+        }
+    }
+
+    private int[] epochDays;
+    private short[] startMinutes;
+    private short[] endMinutes;
+    private int[] nameIndexes;
+    private int size;
+    private final List<String> names;
+    private final Map<String, Integer> nameTable;
+
+    public PackedDateEventList() {
+        epochDays = new int[INITIAL_CAPACITY];
+        startMinutes = new short[INITIAL_CAPACITY];
+        endMinutes = new short[INITIAL_CAPACITY];
+        nameIndexes = new int[INITIAL_CAPACITY];
+        size = 0;
+        names = new ArrayList<>();
+        nameTable = new HashMap<>();
+    }
+
+    // EFFECTS: creates a list with the same events as list, copying the packed values without making any views
+    public PackedDateEventList(PackedDateEventList list) {
+        epochDays = list.epochDays.clone();
+        startMinutes = list.startMinutes.clone();
+        endMinutes = list.endMinutes.clone();
+        nameIndexes = list.nameIndexes.clone();
+        size = list.size;
+        names = new ArrayList<>(list.names);
+        nameTable = new HashMap<>(list.nameTable);
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns a view of the event at index
+    @Override
+    public DateEvent get(int index) {
+        checkIndex(index, size);
+        return new DateEvent(names.get(nameIndexes[index]), LocalDate.ofEpochDay(epochDays[index]),
+                TIMES[startMinutes[index]], TIMES[endMinutes[index]]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: the date of event has an epoch day that fits in an int
+    // MODIFIES: this
+    // EFFECTS: stores the values of event at index, replacing the event there, returns a view of the old event
+    @Override
+    public DateEvent set(int index, DateEvent event) {
+        DateEvent retVal = get(index);
+        store(index, event);
+        return retVal;
+    }
+
+    // REQUIRES: the date of event has an epoch day that fits in an int
+    // MODIFIES: this
+    // EFFECTS: stores the values of event at index, shifting the later events back
+    @Override
+    public void add(int index, DateEvent event) {
+        checkIndex(index, size + 1);
+        if (size == epochDays.length) {
+            grow();
+        }
+        int moved = size - index;
+        System.arraycopy(epochDays, index, epochDays, index + 1, moved);
+        System.arraycopy(startMinutes, index, startMinutes, index + 1, moved);
+        System.arraycopy(endMinutes, index, endMinutes, index + 1, moved);
+        System.arraycopy(nameIndexes, index, nameIndexes, index + 1, moved);
+        size++;
+        modCount++;
+        store(index, event);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the event at index and returns a view of it
+    @Override
+    public DateEvent remove(int index) {
+        DateEvent retVal = get(index);
+        int moved = size - index - 1;
+        System.arraycopy(epochDays, index + 1, epochDays, index, moved);
+        System.arraycopy(startMinutes, index + 1, startMinutes, index, moved);
+        System.arraycopy(endMinutes, index + 1, endMinutes, index, moved);
+        System.arraycopy(nameIndexes, index + 1, nameIndexes, index, moved);
+        size--;
+        modCount++;
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all events and names
+    @Override
+    public void clear() {
+        size = 0;
+        names.clear();
+        nameTable.clear();
+        modCount++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sorts the events, when comparator is null they are sorted by start with a stable merge sort
+    //          over the packed values, without making any views
+    @Override
+    public void sort(Comparator<? super DateEvent> comparator) {
+        if (comparator != null) {
+            super.sort(comparator);
+            return;
+        }
+        long[] keys = new long[size];
+        boolean sorted = true;
+        for (int i = 0; i < size; i++) {
+            keys[i] = startKey(i);
+            sorted &= i == 0 || keys[i - 1] <= keys[i];
+        }
+        if (!sorted) {
+            permute(sortedOrder(keys));
+        }
+        modCount++;
+    }
+
+    // EFFECTS: returns an index over this list that reads the packed values directly, adding to and removing from
+    //          the index do nothing as the list itself is changed by the container
+    public DateEventIndex asIndex() {
+        return new PackedIndex();
+    }
+
+    // EFFECTS: throws IndexOutOfBoundsException unless 0 <= index < bound
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the values of event into slot index, adding its name to the name table if it is new
+    private void store(int index, DateEvent event) {
+        epochDays[index] = Math.toIntExact(event.getDate().toEpochDay());
+        startMinutes[index] = (short) minuteOfDay(event.getStartTime());
+        endMinutes[index] = (short) minuteOfDay(event.getEndTime());
+        nameIndexes[index] = nameTable.computeIfAbsent(event.getName(), name -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: doubles the capacity of the arrays
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        startMinutes = Arrays.copyOf(startMinutes, capacity);
+        endMinutes = Arrays.copyOf(endMinutes, capacity);
+        nameIndexes = Arrays.copyOf(nameIndexes, capacity);
+    }
+
+    // EFFECTS: returns the start of the event at index as minutes since the epoch
+    private long startKey(int index) {
+        return (long) epochDays[index] * MINUTES_PER_DAY + startMinutes[index];
+    }
+
+    // EFFECTS: returns the end of the event at index as minutes since the epoch
+    private long endKey(int index) {
+        return (long) epochDays[index] * MINUTES_PER_DAY + endMinutes[index];
+    }
+
+    // EFFECTS: returns the indexes of keys in ascending order of key, equal keys keep their order
+    private static int[] sortedOrder(long[] keys) {
+        int[] order = new int[keys.length];
+        int[] buffer = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int width = 1; width < order.length; width *= 2) {
+            for (int lo = 0; lo < order.length; lo += 2 * width) {
+                int mid = Math.min(lo + width, order.length);
+                int hi = Math.min(lo + 2 * width, order.length);
+                int i = lo;
+                int j = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (i < mid && (j >= hi || keys[order[i]] <= keys[order[j]])) {
+                        buffer[k] = order[i++];
+                    } else {
+                        buffer[k] = order[j++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rearranges the events so that the event at i is the one that was at order[i]
+    private void permute(int[] order) {
+        int[] newEpochDays = new int[epochDays.length];
+        short[] newStartMinutes = new short[epochDays.length];
+        short[] newEndMinutes = new short[epochDays.length];
+        int[] newNameIndexes = new int[epochDays.length];
+        for (int i = 0; i < size; i++) {
+            newEpochDays[i] = epochDays[order[i]];
+            newStartMinutes[i] = startMinutes[order[i]];
+            newEndMinutes[i] = endMinutes[order[i]];
+            newNameIndexes[i] = nameIndexes[order[i]];
+        }
+        epochDays = newEpochDays;
+        startMinutes = newStartMinutes;
+        endMinutes = newEndMinutes;
+        nameIndexes = newNameIndexes;
+    }
+
+    // REQUIRES: the list is sorted
+    // EFFECTS: returns the index of the first event on or after epochDay
+    private int firstOnOrAfter(long epochDay) {
+        int start = 0;
+        int end = size;
+        while (start < end) {
+            int picker = (start + end) >>> 1;
+            if (epochDays[picker] < epochDay) {
+                start = picker + 1;
+            } else {
+                end = picker;
+            }
+        }
+        return start;
+    }
+
+    // Since events never span days, an event that overlaps a minute starts on the day of that minute or later,
+    // so a range query is a binary search for that day followed by a scan until events start after the range.
+    private class PackedIndex implements DateEventIndex {
+        @Override
+        public void add(DateEvent event) {
+        }
+
+        @Override
+        public boolean remove(DateEvent event) {
+            return true;
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void build(List<DateEvent> sortedEvents) {
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void forEachOverlapping(long startMinute, long endMinute, Consumer<? super DateEvent> action) {
+            for (int i = firstOnOrAfter(Math.floorDiv(startMinute, MINUTES_PER_DAY));
+                    i < size && startKey(i) <= endMinute; i++) {
+                if (endKey(i) >= startMinute) {
+                    action.accept(get(i));
+                }
+            }
+        }
+
+        @Override
+        public Iterator<DateEvent> overlappingIterator(long startMinute, long endMinute) {
+            return new Iterator<DateEvent>() {
+                private int next = advance(firstOnOrAfter(Math.floorDiv(startMinute, MINUTES_PER_DAY)));
+
+                // EFFECTS: returns the first index from i on of an event overlapping the range, or size if none
+                private int advance(int i) {
+                    while (i < size && startKey(i) <= endMinute) {
+                        if (endKey(i) >= startMinute) {
+                            return i;
+                        }
+                        i++;
+                    }
+                    return size;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public DateEvent next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    DateEvent retVal = get(next);
+                    next = advance(next + 1);
+                    return retVal;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package model.index;
+
+import model.MultiEvent;
+import model.ScheduleEvent;
+import utilities.EventUtility;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+// Full-text index of events by name and, for multiEvents, other names. Each distinct lower case text is a term,
+// and every sequence of three characters of a term maps to the sorted ids of the terms that contain it.
+// A query intersects the lists of its trigrams, smallest first, then checks the few terms left,
+// so its cost depends on the number of distinct names rather than the number of events.
+// Changes to the names of an event while it is indexed are not seen; remove it first and add it back.
+public class TrigramIndex<T extends ScheduleEvent> {
+    public static final int NO_MATCH = -1;
+    // score of a match in an other name rather than the name, added to the score of where in the text it is
+    private static final int OTHER_NAME_SCORE = 4;
+
+    private final Map<String, Term> terms;
+    private final List<Term> termsById;
+    private final Deque<Integer> freeIds;
+    private final Map<Long, Postings> postings;
+
+    public TrigramIndex() {
+        terms = new HashMap<>();
+        termsById = new ArrayList<>();
+        freeIds = new ArrayDeque<>();
+        postings = new HashMap<>();
+    }
+
+    // EFFECTS: creates an index of the same events as index, copying its terms and trigram lists as they are
+    //          instead of working out the trigrams of every name again
+    public TrigramIndex(TrigramIndex<T> index) {
+        terms = new HashMap<>();
+        termsById = new ArrayList<>(index.termsById.size());
+        for (Term term : index.termsById) {
+            Term copy = term == null ? null : new Term(term);
+            termsById.add(copy);
+            if (copy != null) {
+                terms.put(copy.text, copy);
+            }
+        }
+        freeIds = new ArrayDeque<>(index.freeIds);
+        postings = new HashMap<>();
+        for (Map.Entry<Long, Postings> entry : index.postings.entrySet()) {
+            postings.put(entry.getKey(), new Postings(entry.getValue()));
+        }
+    }
+
+    // EFFECTS: returns how well event matches foldedQuery, from 0 for a name equal to it up, or NO_MATCH if neither
+    //          the name nor any other name contains it; foldedQuery is lower case as from NameIndex.fold
+    public static int score(ScheduleEvent event, String foldedQuery) {
+        int retVal = textScore(NameIndex.fold(event.getName()), foldedQuery);
+        if (retVal == NO_MATCH && event instanceof MultiEvent) {
+            for (String otherName : ((MultiEvent) event).getOtherNames()) {
+                int otherScore = textScore(NameIndex.fold(otherName), foldedQuery);
+                if (otherScore != NO_MATCH && (retVal == NO_MATCH || otherScore + OTHER_NAME_SCORE < retVal)) {
+                    retVal = otherScore + OTHER_NAME_SCORE;
+                }
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the events in events that match query ignoring case, best match first,
+    //          equal matches in the order of compareTo
+    public static <T extends ScheduleEvent> List<T> rank(Collection<T> events, String query) {
+        String folded = NameIndex.fold(query);
+        List<Scored<T>> scored = new ArrayList<>();
+        for (T event : events) {
+            int score = score(event, folded);
+            if (score != NO_MATCH) {
+                scored.add(new Scored<>(event, score));
+            }
+        }
+        return sortScored(scored);
+    }
+
+    // EFFECTS: returns 0 if text equals query, 1 if it starts with it, 2 if a word in it does, 3 if text contains it
+    //          anywhere else, NO_MATCH otherwise
+    private static int textScore(String text, String query) {
+        int index = text.indexOf(query);
+        if (index < 0) {
+            return NO_MATCH;
+        } else if (index == 0) {
+            return text.length() == query.length() ? 0 : 1;
+        }
+        for (; index > 0; index = text.indexOf(query, index + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(index - 1))) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds event under its name and other names
+    public void add(T event) {
+        termFor(NameIndex.fold(event.getName())).add(event, true);
+        for (String otherName : otherNamesOf(event)) {
+            termFor(NameIndex.fold(otherName)).add(event, false);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event from under its name and other names, preferring the same instance over an event equal
+    //          to it with the same end time, returns true if it was found under its name
+    public boolean remove(T event) {
+        boolean retVal = removeFrom(NameIndex.fold(event.getName()), event, true);
+        for (String otherName : otherNamesOf(event)) {
+            removeFrom(NameIndex.fold(otherName), event, false);
+        }
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all events
+    public void clear() {
+        terms.clear();
+        termsById.clear();
+        freeIds.clear();
+        postings.clear();
+    }
+
+    // EFFECTS: returns the number of distinct lower case texts
+    public int termCount() {
+        return terms.size();
+    }
+
+    // EFFECTS: returns the events with a name or other name containing query ignoring case, best match first
+    public List<T> search(String query) {
+        return search(query, event -> true);
+    }
+
+    // EFFECTS: returns the events that pass filter with a name or other name containing query ignoring case,
+    //          best match first: names equal to query, then starting with it, then with a word starting with it,
+    //          then any other, each before the same for other names, equal matches in the order of compareTo
+    public List<T> search(String query, Predicate<? super T> filter) {
+        String folded = NameIndex.fold(query);
+        Map<T, Integer> bestScores = new HashMap<>();
+        for (Term term : matchingTerms(folded)) {
+            int score = textScore(term.text, folded);
+            addScores(term.named, score, filter, bestScores);
+            addScores(term.otherNamed, score + OTHER_NAME_SCORE, filter, bestScores);
+        }
+        List<Scored<T>> scored = new ArrayList<>(bestScores.size());
+        for (Map.Entry<T, Integer> entry : bestScores.entrySet()) {
+            scored.add(new Scored<>(entry.getKey(), entry.getValue()));
+        }
+        return sortScored(scored);
+    }
+
+    // EFFECTS: returns the terms containing foldedQuery, going through the trigram lists when it is long enough
+    private List<Term> matchingTerms(String foldedQuery) {
+        List<Term> retVal = new ArrayList<>();
+        if (foldedQuery.length() < 3) {
+            for (Term term : terms.values()) {
+                if (term.text.contains(foldedQuery)) {
+                    retVal.add(term);
+                }
+            }
+            return retVal;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (long trigram : trigramsOf(foldedQuery)) {
+            Postings list = postings.get(trigram);
+            if (list == null) {
+                return retVal;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] candidates = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = lists.get(i).retainIn(candidates, count);
+        }
+        for (int i = 0; i < count; i++) {
+            Term term = termsById.get(candidates[i]);
+            if (term.text.contains(foldedQuery)) {
+                retVal.add(term);
+            }
+        }
+        return retVal;
+    }
+
+    // MODIFIES: bestScores
+    // EFFECTS: records score for each of events that passes filter, unless it already has a better one
+    private void addScores(List<T> events, int score, Predicate<? super T> filter, Map<T, Integer> bestScores) {
+        for (T event : events) {
+            if (filter.test(event)) {
+                bestScores.merge(event, score, Math::min);
+            }
+        }
+    }
+
+    // EFFECTS: returns the events of scored, lowest score first then in the order of compareTo
+    private static <T extends ScheduleEvent> List<T> sortScored(List<Scored<T>> scored) {
+        scored.sort(null);
+        List<T> retVal = new ArrayList<>(scored.size());
+        for (Scored<T> entry : scored) {
+            retVal.add(entry.event);
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the other names of event if it is a multiEvent, an empty list otherwise
+    private static List<String> otherNamesOf(ScheduleEvent event) {
+        if (event instanceof MultiEvent) {
+            return ((MultiEvent) event).getOtherNames();
+        }
+        return Collections.emptyList();
+    }
+
+    // EFFECTS: returns the distinct trigrams of text, each as its three characters packed into a long
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> retVal = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            retVal.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return retVal;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the term for text, creating it and adding it to the trigram lists if it is new
+    private Term termFor(String text) {
+        Term term = terms.get(text);
+        if (term == null) {
+            int id = freeIds.isEmpty() ? termsById.size() : freeIds.pop();
+            term = new Term(id, text);
+            if (id == termsById.size()) {
+                termsById.add(term);
+            } else {
+                termsById.set(id, term);
+            }
+            terms.put(text, term);
+            for (long trigram : trigramsOf(text)) {
+                postings.computeIfAbsent(trigram, k -> new Postings()).add(id);
+            }
+        }
+        return term;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes event from the term for text, dropping the term once it has no events,
+    //          returns true if it was found
+    private boolean removeFrom(String text, T event, boolean named) {
+        Term term = terms.get(text);
+        if (term == null || !term.remove(event, named)) {
+            return false;
+        }
+        if (term.named.isEmpty() && term.otherNamed.isEmpty()) {
+            terms.remove(text);
+            termsById.set(term.id, null);
+            freeIds.push(term.id);
+            for (long trigram : trigramsOf(text)) {
+                Postings list = postings.get(trigram);
+                list.remove(term.id);
+                if (list.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+        return true;
+    }
+
+    // A distinct lower case text with the events that have it as their name and as an other name, each in order
+    private class Term {
+        private final int id;
+        private final String text;
+        private final List<T> named;
+        private final List<T> otherNamed;
+
+        private Term(int id, String text) {
+            this.id = id;
+            this.text = text;
+            named = new ArrayList<>();
+            otherNamed = new ArrayList<>();
+        }
+
+        private Term(Term term) {
+            id = term.id;
+            text = term.text;
+            named = new ArrayList<>(term.named);
+            otherNamed = new ArrayList<>(term.otherNamed);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: adds event to the named or other named events, after any events equal to it
+        private void add(T event, boolean isName) {
+            List<T> events = isName ? named : otherNamed;
+            events.add(EventUtility.upperBound(events, event), event);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: removes event from the named or other named events, preferring the same instance over an event
+        //          equal to it with the same end time, returns true if one was found
+        private boolean remove(T event, boolean isName) {
+            List<T> events = isName ? named : otherNamed;
+            int sameValue = -1;
+            for (int i = EventUtility.lowerBound(events, event); i < events.size(); i++) {
+                T other = events.get(i);
+                if (other.compareTo(event) != 0) {
+                    break;
+                } else if (other == event) {
+                    sameValue = i;
+                    break;
+                } else if (sameValue < 0 && other.getEndTime().equals(event.getEndTime())) {
+                    sameValue = i;
+                }
+            }
+            if (sameValue < 0) {
+                return false;
+            }
+            events.remove(sameValue);
+            return true;
+        }
+    }
+
+    // Sorted term ids in a growable array
+    private static class Postings {
+        private int[] ids;
+        private int size;
+
+        private Postings() {
+            ids = new int[4];
+        }
+
+        private Postings(Postings postings) {
+            ids = postings.ids.clone();
+            size = postings.size;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: adds id, keeping ids sorted
+        private void add(int id) {
+            int index = -Arrays.binarySearch(ids, 0, size, id) - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: removes id if it is there
+        private void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        // REQUIRES: the first count of candidates are sorted
+        // MODIFIES: candidates
+        // EFFECTS: keeps only the first count candidates that are also in this, at the front, returns how many
+        private int retainIn(int[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count; i++) {
+                int index = Arrays.binarySearch(ids, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+    }
+
+    // An event with how well it matched a query, ordered by score then by the event
+    private static class Scored<T extends ScheduleEvent> implements Comparable<Scored<T>> {
+        private final T event;
+        private final int score;
+
+        private Scored(T event, int score) {
+            this.event = event;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Scored<T> other) {
+            int retVal = Integer.compare(score, other.score);
+            return retVal != 0 ? retVal : event.compareTo(other.event);
+        }
+    }
+}
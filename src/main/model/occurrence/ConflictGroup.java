@@ -0,0 +1,74 @@
+package model.occurrence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+// A run of occurrences where each one overlaps at least one earlier occurrence of the run,
+// so the whole group is busy without a gap from its first start to its latest end
+public class ConflictGroup {
+    private final List<Occurrence> occurrences;
+    private long endEpochMinute;
+
+    // EFFECTS: creates a group that starts with first
+    private ConflictGroup(Occurrence first) {
+        occurrences = new ArrayList<>();
+        occurrences.add(first);
+        endEpochMinute = first.getEndEpochMinute();
+    }
+
+    // REQUIRES: sortedOccurrences iterates in order of start time
+    // EFFECTS: returns every group of two or more overlapping occurrences in order of start time,
+    //          by sweeping once through sortedOccurrences while keeping the latest end of the current group
+    public static List<ConflictGroup> findConflicts(Iterator<Occurrence> sortedOccurrences) {
+        List<ConflictGroup> retVal = new ArrayList<>();
+        ConflictGroup current = null;
+        while (sortedOccurrences.hasNext()) {
+            Occurrence occurrence = sortedOccurrences.next();
+            if (current != null && occurrence.getStartEpochMinute() <= current.endEpochMinute) {
+                current.occurrences.add(occurrence);
+                current.endEpochMinute = Math.max(current.endEpochMinute, occurrence.getEndEpochMinute());
+            } else {
+                addIfConflict(retVal, current);
+                current = new ConflictGroup(occurrence);
+            }
+        }
+        addIfConflict(retVal, current);
+        return retVal;
+    }
+
+    // MODIFIES: groups
+    // EFFECTS: adds group to groups if it has more than one occurrence
+    private static void addIfConflict(List<ConflictGroup> groups, ConflictGroup group) {
+        if (group != null && group.occurrences.size() > 1) {
+            groups.add(group);
+        }
+    }
+
+    // EFFECTS: returns true if the two occurrences share at least a minute
+    public static boolean overlaps(Occurrence occurrence1, Occurrence occurrence2) {
+        return occurrence1.getStartEpochMinute() <= occurrence2.getEndEpochMinute()
+                && occurrence2.getStartEpochMinute() <= occurrence1.getEndEpochMinute();
+    }
+
+    // EFFECTS: returns the occurrences of the group in order of start time
+    public List<Occurrence> getOccurrences() {
+        return Collections.unmodifiableList(occurrences);
+    }
+
+    // EFFECTS: returns the number of occurrences in the group
+    public int size() {
+        return occurrences.size();
+    }
+
+    // EFFECTS: returns the start of the first occurrence as minutes since the epoch
+    public long getStartEpochMinute() {
+        return occurrences.get(0).getStartEpochMinute();
+    }
+
+    // EFFECTS: returns the latest end of the occurrences as minutes since the epoch
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
+}
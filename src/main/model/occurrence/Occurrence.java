@@ -0,0 +1,85 @@
+package model.occurrence;
+
+import model.DateEvent;
+import model.ScheduleEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static utilities.TimeUtility.toEpochMinute;
+
+public class Occurrence implements Comparable<Occurrence> {
+    private final ScheduleEvent event;
+    private final LocalDate date;
+    private final long startEpochMinute;
+
+    // REQUIRES: event is on date
+    // EFFECTS: creates the occurrence of event on date
+    public Occurrence(ScheduleEvent event, LocalDate date) {
+        this.event = event;
+        this.date = date;
+        startEpochMinute = toEpochMinute(date, event.getStartTime());
+    }
+
+    // EFFECTS: creates the occurrence of a date event on its own date
+    public Occurrence(DateEvent event) {
+        this(event, event.getDate());
+    }
+
+    // EFFECTS: returns the event this is an occurrence of
+    public ScheduleEvent getEvent() {
+        return event;
+    }
+
+    // EFFECTS: returns the date of the occurrence
+    public LocalDate getDate() {
+        return date;
+    }
+
+    // EFFECTS: returns the name of the event
+    public String getName() {
+        return event.getName();
+    }
+
+    // EFFECTS: returns start time of the event
+    public LocalTime getStartTime() {
+        return event.getStartTime();
+    }
+
+    // EFFECTS: returns end time of the event
+    public LocalTime getEndTime() {
+        return event.getEndTime();
+    }
+
+    // EFFECTS: returns start date time of the occurrence
+    public LocalDateTime getStartDateTime() {
+        return LocalDateTime.of(date, event.getStartTime());
+    }
+
+    // EFFECTS: returns end date time of the occurrence
+    public LocalDateTime getEndDateTime() {
+        return LocalDateTime.of(date, event.getEndTime());
+    }
+
+    // EFFECTS: returns start of the occurrence as minutes since the epoch
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    // EFFECTS: returns end of the occurrence as minutes since the epoch
+    public long getEndEpochMinute() {
+        return toEpochMinute(date, event.getEndTime());
+    }
+
+    // EFFECTS: returns true if the occurrence comes from a repeating event
+    public boolean isRepeat() {
+        return !(event instanceof DateEvent);
+    }
+
+    // EFFECTS: orders occurrences by start time only
+    @Override
+    public int compareTo(Occurrence o) {
+        return Long.compare(startEpochMinute, o.startEpochMinute);
+    }
+}
@@ -0,0 +1,140 @@
+package model.occurrence;
+
+import model.DateEvent;
+import model.RepeatEvent;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Merges the date events and the expansion of every repeat event into one sequence ordered by start time.
+// Each source only ever holds its next occurrence, so the memory used is proportional to the number of
+// repeat events and not to the length of the range.
+public class OccurrenceIterator implements Iterator<Occurrence> {
+    private final PriorityQueue<Source> sources;
+
+    // a sequence of occurrences in order of start time, ties are broken by the order of the sources
+    private abstract static class Source implements Comparable<Source> {
+        private final int order;
+        protected Occurrence head;
+
+        private Source(int order) {
+            this.order = order;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: moves head to the next occurrence, returns false if there are none left
+        protected abstract boolean advance();
+
+        @Override
+        public int compareTo(Source o) {
+            int compareHead = head.compareTo(o.head);
+            if (compareHead != 0) {
+                return compareHead;
+            }
+            return Integer.compare(order, o.order);
+        }
+    }
+
+    private static class DateEventSource extends Source {
+        private final Iterator<DateEvent> dateEvents;
+
+        private DateEventSource(Iterator<DateEvent> dateEvents) {
+            super(0);
+            this.dateEvents = dateEvents;
+        }
+
+        @Override
+        protected boolean advance() {
+            if (!dateEvents.hasNext()) {
+                return false;
+            }
+            head = new Occurrence(dateEvents.next());
+            return true;
+        }
+    }
+
+    private static class RepeatEventSource extends Source {
+        private final RepeatEvent event;
+        private final LocalDate endDate;
+        private LocalDate from;
+
+        private RepeatEventSource(int order, RepeatEvent event, LocalDate startDate, LocalDate endDate) {
+            super(order);
+            this.event = event;
+            this.endDate = endDate;
+            from = startDate;
+        }
+
+        @Override
+        protected boolean advance() {
+            if (from == null) {
+                return false;
+            }
+            LocalDate date = event.nextDateFrom(from);
+            if (date == null || date.isAfter(endDate)) {
+                from = null;
+                return false;
+            }
+            from = date.isBefore(endDate) ? date.plusDays(1) : null;
+            head = new Occurrence(event, date);
+            return true;
+        }
+    }
+
+    // REQUIRES: startDate <= endDate, dateEvents iterates in order of start time over date events
+    //           between startDate and endDate
+    // EFFECTS: creates an iterator over the occurrences between startDate and endDate inclusive,
+    //          occurrences that start at the same time are ordered date events first, then repeat events
+    //          in the order of repeatEvents
+    public OccurrenceIterator(Iterator<DateEvent> dateEvents, List<RepeatEvent> repeatEvents,
+                              LocalDate startDate, LocalDate endDate) {
+        sources = new PriorityQueue<>(repeatEvents.size() + 1);
+        offer(new DateEventSource(dateEvents));
+        int order = 1;
+        for (RepeatEvent repeatEvent : repeatEvents) {
+            offer(new RepeatEventSource(order++, repeatEvent, startDate, endDate));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds source to the merge if it has an occurrence left
+    private void offer(Source source) {
+        if (source.advance()) {
+            sources.add(source);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !sources.isEmpty();
+    }
+
+    @Override
+    public Occurrence next() {
+        Source source = sources.poll();
+        if (source == null) {
+            throw new NoSuchElementException();
+        }
+        Occurrence retVal = source.head;
+        offer(source);
+        return retVal;
+    }
+
+    // EFFECTS: returns a sequential, sorted spliterator over the remaining occurrences
+    public Spliterator<Occurrence> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+
+    // EFFECTS: returns a sequential stream of the remaining occurrences
+    public Stream<Occurrence> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
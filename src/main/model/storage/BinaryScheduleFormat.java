@@ -0,0 +1,195 @@
+package model.storage;
+
+import model.DateEvent;
+import model.MonthlyEvent;
+import model.RepeatEvent;
+import model.ScheduleContainer;
+import model.WeeklyEvent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utilities.TimeUtility.minuteOfDay;
+
+public final class BinaryScheduleFormat {
+    public static final int MAGIC = 0x43414C42; // "CALB"
+    public static final int VERSION = 1;
+    static final int WEEKLY = 0;
+    static final int MONTHLY = 1;
+    private static final int LOAD_BATCH_SIZE = 4096;
+
+    private BinaryScheduleFormat() {
+    }
+
+    // EFFECTS: returns true if the first 4 bytes of a file are the magic number of this format
+    public static boolean isMagic(int firstInt) {
+        return firstInt == MAGIC;
+    }
+
+    // MODIFIES: outputStream
+    // EFFECTS: writes schedule onto outputStream as
+    //          MAGIC, VERSION, name table, date events (name index, epoch day, start/end minute of day)
+    //          and repeat events (type, day of, name index, start/end minute of day)
+    public static void write(ScheduleContainer schedule, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        Map<String, Integer> nameTable = createNameTable(schedule);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeNames(out, nameTable);
+        out.writeInt(schedule.getDateEventsSize());
+        for (DateEvent dateEvent : schedule.getDateEvents()) {
+            out.writeInt(nameTable.get(dateEvent.getName()));
+            out.writeInt(toEpochDayInt(dateEvent.getDate()));
+            out.writeShort(minuteOfDay(dateEvent.getStartTime()));
+            out.writeShort(minuteOfDay(dateEvent.getEndTime()));
+        }
+        writeRepeatEvents(out, schedule, nameTable);
+        out.flush();
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the names of nameTable in order of their index
+    static void writeNames(DataOutputStream out, Map<String, Integer> nameTable) throws IOException {
+        out.writeInt(nameTable.size());
+        for (String name : nameTable.keySet()) {
+            writeString(out, name);
+        }
+    }
+
+    // EFFECTS: reads the names written by writeNames, indexed the same way
+    static String[] readNames(DataInputStream in) throws IOException {
+        String[] names = new String[in.readInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = readString(in);
+        }
+        return names;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the repeat events of schedule, referring to their names through nameTable
+    static void writeRepeatEvents(DataOutputStream out, ScheduleContainer schedule, Map<String, Integer> nameTable)
+            throws IOException {
+        out.writeInt(schedule.getRepeatEventsSize());
+        for (RepeatEvent repeatEvent : schedule.getRepeatEvents()) {
+            out.writeByte(toRepeatType(repeatEvent));
+            out.writeByte(repeatEvent.getDayOf());
+            out.writeInt(nameTable.get(repeatEvent.getName()));
+            out.writeShort(minuteOfDay(repeatEvent.getStartTime()));
+            out.writeShort(minuteOfDay(repeatEvent.getEndTime()));
+        }
+    }
+
+    // EFFECTS: reads a schedule written by write from inputStream
+    public static ScheduleContainer read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (!isMagic(in.readInt())) {
+            throw new IOException("Not a binary schedule file");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary schedule version " + version);
+        }
+        String[] names = readNames(in);
+        ScheduleContainer schedule = new ScheduleContainer();
+        readDateEvents(in, names, schedule);
+        readRepeatEvents(in, names, schedule);
+        return schedule;
+    }
+
+    // MODIFIES: schedule
+    // EFFECTS: reads the date events from in and adds them to schedule in batches
+    private static void readDateEvents(DataInputStream in, String[] names, ScheduleContainer schedule)
+            throws IOException {
+        int count = in.readInt();
+        List<DateEvent> batch = new ArrayList<>(Math.min(count, LOAD_BATCH_SIZE));
+        for (int i = 0; i < count; i++) {
+            String name = names[in.readInt()];
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            LocalTime startTime = LocalTime.ofSecondOfDay(in.readShort() * 60L);
+            LocalTime endTime = LocalTime.ofSecondOfDay(in.readShort() * 60L);
+            batch.add(new DateEvent(name, date, startTime, endTime));
+            if (batch.size() >= LOAD_BATCH_SIZE) {
+                schedule.addDateEvents(batch);
+                batch.clear();
+            }
+        }
+        schedule.addDateEvents(batch);
+    }
+
+    // MODIFIES: schedule
+    // EFFECTS: reads the repeat events from in and adds them to schedule
+    static void readRepeatEvents(DataInputStream in, String[] names, ScheduleContainer schedule)
+            throws IOException {
+        int count = in.readInt();
+        List<RepeatEvent> repeatEvents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int type = in.readByte();
+            int dayOf = in.readByte();
+            String name = names[in.readInt()];
+            LocalTime startTime = LocalTime.ofSecondOfDay(in.readShort() * 60L);
+            LocalTime endTime = LocalTime.ofSecondOfDay(in.readShort() * 60L);
+            if (type == WEEKLY) {
+                repeatEvents.add(new WeeklyEvent(name, DayOfWeek.of(dayOf), startTime, endTime));
+            } else if (type == MONTHLY) {
+                repeatEvents.add(new MonthlyEvent(name, dayOf, startTime, endTime));
+            } else {
+                throw new IOException("Unknown repeat event type " + type);
+            }
+        }
+        schedule.addRepeatEvents(repeatEvents);
+    }
+
+    // EFFECTS: returns every distinct name in schedule mapped to its index, in order of first appearance
+    static Map<String, Integer> createNameTable(ScheduleContainer schedule) {
+        Map<String, Integer> nameTable = new LinkedHashMap<>();
+        for (DateEvent dateEvent : schedule.getDateEvents()) {
+            nameTable.putIfAbsent(dateEvent.getName(), nameTable.size());
+        }
+        for (RepeatEvent repeatEvent : schedule.getRepeatEvents()) {
+            nameTable.putIfAbsent(repeatEvent.getName(), nameTable.size());
+        }
+        return nameTable;
+    }
+
+    // EFFECTS: returns the type written for repeatEvent, throws IOException if it has no binary form
+    static int toRepeatType(RepeatEvent repeatEvent) throws IOException {
+        if (repeatEvent.getTimeScale() == ChronoUnit.WEEKS) {
+            return WEEKLY;
+        } else if (repeatEvent.getTimeScale() == ChronoUnit.MONTHS) {
+            return MONTHLY;
+        }
+        throw new IOException("Cannot save repeat event with time scale " + repeatEvent.getTimeScale());
+    }
+
+    // EFFECTS: returns the epoch day of date, throws IOException if it does not fit in an int
+    static int toEpochDayInt(LocalDate date) throws IOException {
+        long epochDay = date.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new IOException("Date is out of range for the binary format: " + date);
+        }
+        return (int) epochDay;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes string as its length in UTF-8 bytes followed by the bytes
+    static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // EFFECTS: reads a string written by writeString
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,144 @@
+package model.storage;
+
+import model.DateEvent;
+import model.ScheduleContainer;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static utilities.TimeUtility.minuteOfDay;
+
+// File layout:
+//   MAGIC, VERSION,
+//   date events grouped by month, each as (name index, day of month, start minute, end minute),
+//   name table, repeat events, directory of (year, month, offset, count) for each month,
+//   offset of the name table as the final int
+public final class PagedScheduleFormat {
+    public static final int MAGIC = 0x43414C50; // "CALP"
+    public static final int VERSION = 1;
+    static final int RECORD_SIZE = 9;
+    private static final int HEADER_SIZE = 8;
+
+    private PagedScheduleFormat() {
+    }
+
+    // EFFECTS: returns true if the first 4 bytes of a file are the magic number of this format
+    public static boolean isMagic(int firstInt) {
+        return firstInt == MAGIC;
+    }
+
+    // MODIFIES: outputStream
+    // EFFECTS: writes schedule onto outputStream with its date events partitioned by month
+    public static void write(ScheduleContainer schedule, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        Map<String, Integer> nameTable = BinaryScheduleFormat.createNameTable(schedule);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        List<YearMonth> yearMonths = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        for (DateEvent dateEvent : schedule.getDateEvents()) {
+            YearMonth yearMonth = YearMonth.from(dateEvent.getDate());
+            if (yearMonths.isEmpty() || !yearMonths.get(yearMonths.size() - 1).equals(yearMonth)) {
+                yearMonths.add(yearMonth);
+                offsets.add(checkedSize(out));
+                counts.add(0);
+            }
+            counts.set(counts.size() - 1, counts.get(counts.size() - 1) + 1);
+            out.writeInt(nameTable.get(dateEvent.getName()));
+            out.writeByte(dateEvent.getDate().getDayOfMonth());
+            out.writeShort(minuteOfDay(dateEvent.getStartTime()));
+            out.writeShort(minuteOfDay(dateEvent.getEndTime()));
+        }
+        int namesOffset = checkedSize(out);
+        BinaryScheduleFormat.writeNames(out, nameTable);
+        BinaryScheduleFormat.writeRepeatEvents(out, schedule, nameTable);
+        out.writeInt(yearMonths.size());
+        for (int i = 0; i < yearMonths.size(); i++) {
+            out.writeInt(yearMonths.get(i).getYear());
+            out.writeByte(yearMonths.get(i).getMonthValue());
+            out.writeInt(offsets.get(i));
+            out.writeInt(counts.get(i));
+        }
+        out.writeInt(namesOffset);
+        checkedSize(out);
+        out.flush();
+    }
+
+    // EFFECTS: maps the file at fileName and returns a schedule that reads in the date events
+    //          of a month only once they are first needed
+    public static ScheduleContainer open(String fileName) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + 4 || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a paged schedule file");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (!isMagic(buffer.getInt(0))) {
+            throw new IOException("Not a paged schedule file");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported paged schedule version " + version);
+        }
+        int namesOffset = buffer.getInt(buffer.limit() - 4);
+        if (namesOffset < HEADER_SIZE || namesOffset > buffer.limit() - 4) {
+            throw new IOException("Paged schedule file is corrupted");
+        }
+        ByteBuffer tail = buffer.duplicate();
+        tail.position(namesOffset);
+        tail.limit(buffer.limit() - 4);
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(tail));
+        PagedScheduleStore store = new PagedScheduleStore(buffer, BinaryScheduleFormat.readNames(in));
+        ScheduleContainer schedule = new ScheduleContainer();
+        BinaryScheduleFormat.readRepeatEvents(in, store.getNames(), schedule);
+        int partitionCount = in.readInt();
+        for (int i = 0; i < partitionCount; i++) {
+            YearMonth yearMonth = YearMonth.of(in.readInt(), in.readByte());
+            store.addPartition(yearMonth, in.readInt(), in.readInt());
+        }
+        schedule.pageFrom(store);
+        return schedule;
+    }
+
+    // EFFECTS: returns the number of bytes written to out, throws IOException if it can no longer be mapped
+    private static int checkedSize(DataOutputStream out) throws IOException {
+        if (out.size() == Integer.MAX_VALUE) {
+            throw new IOException("Schedule is too large for a paged file");
+        }
+        return out.size();
+    }
+
+    // stream over the remaining bytes of a buffer
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package model.storage;
+
+import model.DateEvent;
+import model.index.MonthSegment;
+import model.index.NameMonths;
+import utilities.TimeUtility;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// date events of a paged schedule file, read straight out of the mapped file one month at a time.
+// Each month is read into a segment at most once, the first time any version of the schedule needs to look it up,
+// and the segment is shared from then on. Going through every event, as saving does, counting conflicts and
+// finding the months of each name read the file without keeping segments. Reading is safe from any number of
+// threads at once
+public class PagedScheduleStore {
+    private final ByteBuffer buffer;
+    private final String[] names;
+    private final NavigableMap<YearMonth, Partition> partitions;
+    private final ConcurrentMap<YearMonth, MonthSegment> segments;
+    private final ConcurrentMap<YearMonth, Long> conflictPairs;
+    private volatile NameMonths nameMonths;
+
+    // location of the events of a month within the file
+    private static class Partition {
+        private final int offset;
+        private final int count;
+
+        private Partition(int offset, int count) {
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    // REQUIRES: buffer holds a file written by PagedScheduleFormat
+    PagedScheduleStore(ByteBuffer buffer, String[] names) {
+        this.buffer = buffer;
+        this.names = names;
+        partitions = new TreeMap<>();
+        segments = new ConcurrentHashMap<>();
+        conflictPairs = new ConcurrentHashMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that the count events of yearMonth start at offset
+    void addPartition(YearMonth yearMonth, int offset, int count) throws IOException {
+        if (offset < 0 || (long) offset + (long) count * PagedScheduleFormat.RECORD_SIZE > buffer.limit()) {
+            throw new IOException("Partition " + yearMonth + " lies outside of the file");
+        }
+        partitions.put(yearMonth, new Partition(offset, count));
+    }
+
+    // EFFECTS: returns the name table of the file
+    String[] getNames() {
+        return names;
+    }
+
+    // EFFECTS: returns the months that have date events, in order
+    public NavigableSet<YearMonth> getYearMonths() {
+        return Collections.unmodifiableNavigableSet(partitions.navigableKeySet());
+    }
+
+    // EFFECTS: returns the number of date events in yearMonth
+    public int getSize(YearMonth yearMonth) {
+        Partition partition = partitions.get(yearMonth);
+        return partition == null ? 0 : partition.count;
+    }
+
+    // EFFECTS: returns the number of date events in every month
+    public int getSize() {
+        int size = 0;
+        for (Partition partition : partitions.values()) {
+            size += partition.count;
+        }
+        return size;
+    }
+
+    // REQUIRES: yearMonth is one of getYearMonths
+    // EFFECTS: returns the segment of the date events of yearMonth, which is never changed,
+    //          reading them from the file if no one has yet
+    public MonthSegment getSegment(YearMonth yearMonth) {
+        return segments.computeIfAbsent(yearMonth, month -> MonthSegment.of(read(month)));
+    }
+
+    // EFFECTS: returns true if the date events of yearMonth have been read into a segment
+    public boolean isRead(YearMonth yearMonth) {
+        return segments.containsKey(yearMonth);
+    }
+
+    // EFFECTS: returns the date events of yearMonth in sorted order, from its segment if it has been read into one
+    //          and otherwise straight from the file without keeping them
+    public List<DateEvent> getEvents(YearMonth yearMonth) {
+        MonthSegment segment = segments.get(yearMonth);
+        return segment == null ? read(yearMonth) : segment.getEvents();
+    }
+
+    // EFFECTS: returns the number of pairs of date events of yearMonth that overlap, counted from the times in
+    //          the file without reading the events in
+    public long getConflictPairs(YearMonth yearMonth) {
+        MonthSegment segment = segments.get(yearMonth);
+        if (segment != null) {
+            return segment.getConflictPairs();
+        }
+        return conflictPairs.computeIfAbsent(yearMonth, this::countConflictPairs);
+    }
+
+    // EFFECTS: returns the number of pairs of date events of yearMonth in the file that overlap
+    private long countConflictPairs(YearMonth yearMonth) {
+        Partition partition = partitions.get(yearMonth);
+        if (partition == null) {
+            return 0;
+        }
+        long[] starts = new long[partition.count];
+        long[] ends = new long[partition.count];
+        int position = partition.offset;
+        for (int i = 0; i < partition.count; i++) {
+            long dayStart = buffer.get(position + 4) * TimeUtility.MINUTES_PER_DAY;
+            starts[i] = dayStart + buffer.getShort(position + 5);
+            ends[i] = dayStart + buffer.getShort(position + 7);
+            position += PagedScheduleFormat.RECORD_SIZE;
+        }
+        return MonthSegment.countConflictPairs(starts, ends);
+    }
+
+    // EFFECTS: returns the months that the date events of each name in the file are in, which is never changed;
+    //          the first call reads only the name of every event in the file, without reading the events in
+    public NameMonths getNameMonths() {
+        NameMonths retVal = nameMonths;
+        if (retVal == null) {
+            synchronized (this) {
+                retVal = nameMonths;
+                if (retVal == null) {
+                    retVal = readNameMonths();
+                    nameMonths = retVal;
+                }
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: returns the months that the date events of each name in the file are in
+    private NameMonths readNameMonths() {
+        NameMonths retVal = new NameMonths(this);
+        for (Map.Entry<YearMonth, Partition> entry : partitions.entrySet()) {
+            int position = entry.getValue().offset;
+            for (int i = 0; i < entry.getValue().count; i++) {
+                retVal.add(names[buffer.getInt(position)], entry.getKey());
+                position += PagedScheduleFormat.RECORD_SIZE;
+            }
+        }
+        return retVal;
+    }
+
+    // EFFECTS: reads the date events of yearMonth from the file, in sorted order
+    public List<DateEvent> read(YearMonth yearMonth) {
+        Partition partition = partitions.get(yearMonth);
+        if (partition == null) {
+            return new ArrayList<>();
+        }
+        List<DateEvent> retVal = new ArrayList<>(partition.count);
+        int position = partition.offset;
+        for (int i = 0; i < partition.count; i++) {
+            String name = names[buffer.getInt(position)];
+            int dayOfMonth = buffer.get(position + 4);
+            LocalTime startTime = LocalTime.ofSecondOfDay(buffer.getShort(position + 5) * 60L);
+            LocalTime endTime = LocalTime.ofSecondOfDay(buffer.getShort(position + 7) * 60L);
+            retVal.add(new DateEvent(name, yearMonth.atDay(dayOfMonth), startTime, endTime));
+            position += PagedScheduleFormat.RECORD_SIZE;
+        }
+        return retVal;
+    }
+}
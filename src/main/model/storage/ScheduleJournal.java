@@ -0,0 +1,408 @@
+package model.storage;
+
+import model.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static utilities.TimeUtility.minuteOfDay;
+
+// Append-only log of the changes made to a schedule since its save file was last written in full.
+// The journal starts with the size and modified time of the save file it applies to, so a journal
+// left behind when saving was interrupted is recognised as stale instead of being replayed twice.
+// Each record is framed as (length, bytes, CRC32) and a torn record at the end is dropped on load.
+// Changes are recorded and checkpointed on the thread that edits the schedule, while checkpoints
+// can be written on a single other thread.
+public class ScheduleJournal {
+    public static final String EXTENSION = ".journal";
+    public static final int MAGIC = 0x43414C4A; // "CALJ"
+    public static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int ADD_DATE = 0;
+    private static final int REMOVE_DATE = 1;
+    private static final int ADD_REPEAT = 2;
+    private static final int REMOVE_REPEAT = 3;
+    // compact once the journal holds COMPACT_MIN_RECORDS records and 1/COMPACT_RATIO as many as the schedule
+    private static final int COMPACT_MIN_RECORDS = 1024;
+    private static final int COMPACT_RATIO = 4;
+
+    private final String snapshotFile;
+    private final String journalFile;
+    private final ByteArrayOutputStream pending;
+    private int pendingRecords;
+    private int checkpointedRecords;
+    private volatile int journalRecords;
+    private volatile SaveFormat snapshotFormat;
+    private volatile boolean needsSnapshot;
+
+    // changes to write in one go: the records taken since the previous checkpoint, and if the save file
+    // has to be written in full, a copy of the schedule taken at the same moment
+    public static final class Checkpoint {
+        private final ScheduleJournal journal;
+        private final SaveFormat saveFormat;
+        private final ScheduleContainer snapshot;
+        private final byte[] records;
+        private final int recordCount;
+
+        private Checkpoint(ScheduleJournal journal, SaveFormat saveFormat, ScheduleContainer snapshot,
+                           byte[] records, int recordCount) {
+            this.journal = journal;
+            this.saveFormat = saveFormat;
+            this.snapshot = snapshot;
+            this.records = records;
+            this.recordCount = recordCount;
+        }
+
+        public ScheduleJournal getJournal() {
+            return journal;
+        }
+
+        // EFFECTS: returns true if this writes the save file in full
+        public boolean isSnapshot() {
+            return snapshot != null;
+        }
+
+        // REQUIRES: later was taken from the same journal after this
+        // EFFECTS: returns a checkpoint that does the work of this followed by later
+        public Checkpoint then(Checkpoint later) {
+            if (later.snapshot != null) {
+                return later;
+            }
+            byte[] merged = Arrays.copyOf(records, records.length + later.records.length);
+            System.arraycopy(later.records, 0, merged, records.length, later.records.length);
+            return new Checkpoint(journal, saveFormat, snapshot, merged, recordCount + later.recordCount);
+        }
+
+        // MODIFIES: journal
+        // EFFECTS: writes this to disk
+        public void write() throws IOException {
+            journal.write(this);
+        }
+    }
+
+    // EFFECTS: creates a journal for the save file snapshotFile, which is next written in full
+    public ScheduleJournal(String snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        journalFile = snapshotFile + EXTENSION;
+        pending = new ByteArrayOutputStream();
+        pendingRecords = 0;
+        checkpointedRecords = 0;
+        journalRecords = 0;
+        snapshotFormat = null;
+        needsSnapshot = false;
+    }
+
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    // EFFECTS: returns the number of records in the journal file
+    public int getJournalRecords() {
+        return journalRecords;
+    }
+
+    // EFFECTS: returns the number of records not yet checkpointed
+    public int getPendingRecords() {
+        return pendingRecords;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that dateEvent was added
+    public void recordAdd(DateEvent dateEvent) {
+        record(ADD_DATE, dateEvent);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that dateEvent was removed
+    public void recordRemove(DateEvent dateEvent) {
+        record(REMOVE_DATE, dateEvent);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that repeatEvent was added
+    public void recordAdd(RepeatEvent repeatEvent) {
+        record(ADD_REPEAT, repeatEvent);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that repeatEvent was removed
+    public void recordRemove(RepeatEvent repeatEvent) {
+        record(REMOVE_REPEAT, repeatEvent);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets the records that were not checkpointed
+    public void discardPending() {
+        pending.reset();
+        pendingRecords = 0;
+    }
+
+    // REQUIRES: no checkpoint of this is being written
+    // MODIFIES: this
+    // EFFECTS: loads the save file and replays the journal on top of it, dropping changes that were not written
+    public ScheduleContainer load() throws IOException {
+        SaveFormat saveFormat = SaveLoadSystem.detectFormat(snapshotFile);
+        ScheduleContainer schedule = SaveLoadSystem.loadSchedule(snapshotFile);
+        journalRecords = replay(schedule);
+        checkpointedRecords = journalRecords;
+        snapshotFormat = saveFormat;
+        needsSnapshot = false;
+        discardPending();
+        return schedule;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes the changes recorded since the last checkpoint; takes a copy of schedule instead if the
+    //          save file was not last written in saveFormat through this journal, or the journal has grown
+    //          large enough to be compacted into the save file
+    public Checkpoint checkpoint(ScheduleContainer schedule, SaveFormat saveFormat) {
+        Checkpoint checkpoint;
+        if (needsSnapshot || saveFormat != snapshotFormat || !new File(journalFile).exists()
+                || shouldCompact(schedule)) {
+            checkpoint = new Checkpoint(this, saveFormat, new ScheduleContainer(schedule), new byte[0], 0);
+            checkpointedRecords = 0;
+        } else {
+            checkpoint = new Checkpoint(this, saveFormat, null, pending.toByteArray(), pendingRecords);
+            checkpointedRecords += pendingRecords;
+        }
+        discardPending();
+        return checkpoint;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the changes recorded since the last checkpoint straight away
+    public void flush(ScheduleContainer schedule, SaveFormat saveFormat) throws IOException {
+        write(checkpoint(schedule, saveFormat));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes schedule in full to the save file in saveFormat and starts an empty journal
+    public void writeSnapshot(ScheduleContainer schedule, SaveFormat saveFormat) throws IOException {
+        needsSnapshot = true;
+        flush(schedule, saveFormat);
+    }
+
+    // REQUIRES: checkpoint was taken from this, after every checkpoint written before
+    // MODIFIES: this
+    // EFFECTS: writes the save file in full if checkpoint holds a copy of the schedule,
+    //          then appends its records to the journal and syncs it to disk,
+    //          the next checkpoint writes the save file in full if this fails;
+    //          refuses to append records while an earlier write failed, since they may follow changes that are
+    //          in neither the save file nor the journal, and the next checkpoint writes them in full
+    private void write(Checkpoint checkpoint) throws IOException {
+        if (checkpoint.snapshot == null && needsSnapshot) {
+            throw new IOException("An earlier save failed, the save file has to be written in full");
+        }
+        try {
+            if (checkpoint.snapshot != null) {
+                SaveLoadSystem.saveSchedule(checkpoint.snapshot, snapshotFile, checkpoint.saveFormat);
+                startJournal();
+                journalRecords = 0;
+                snapshotFormat = checkpoint.saveFormat;
+                needsSnapshot = false;
+            }
+            if (checkpoint.recordCount > 0) {
+                try (FileOutputStream outputStream = new FileOutputStream(journalFile, true)) {
+                    outputStream.write(checkpoint.records);
+                    outputStream.getFD().sync();
+                }
+                journalRecords += checkpoint.recordCount;
+            }
+        } catch (IOException e) {
+            needsSnapshot = true;
+            throw e;
+        }
+    }
+
+    // EFFECTS: returns true if the journal is large enough to be compacted into the save file
+    private boolean shouldCompact(ScheduleContainer schedule) {
+        int records = checkpointedRecords + pendingRecords;
+        return records >= COMPACT_MIN_RECORDS && (long) records * COMPACT_RATIO >= schedule.getSize();
+    }
+
+    // MODIFIES: the journal file
+    // EFFECTS: replaces the journal with an empty one stamped for the current save file
+    private void startJournal() throws IOException {
+        Path snapshot = Paths.get(snapshotFile);
+        long size = Files.size(snapshot);
+        long lastModified = Files.getLastModifiedTime(snapshot).toMillis();
+        SaveLoadSystem.writeAtomically(journalFile, outputStream -> {
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.flush();
+        });
+    }
+
+    // MODIFIES: schedule, the journal file
+    // EFFECTS: applies the records of the journal to schedule and returns how many there were,
+    //          deletes the journal if it belongs to a different save file and cuts off a torn last record
+    private int replay(ScheduleContainer schedule) throws IOException {
+        File file = new File(journalFile);
+        if (!file.exists()) {
+            return 0;
+        }
+        int records = 0;
+        long validLength = HEADER_SIZE;
+        boolean stale;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            stale = !isStampedFor(in, Paths.get(snapshotFile));
+            for (byte[] record = readRecord(in); !stale && record != null; record = readRecord(in)) {
+                apply(schedule, record);
+                validLength += record.length + 8;
+                records++;
+            }
+        }
+        if (stale) {
+            Files.delete(file.toPath());
+        } else if (file.length() > validLength) {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                randomAccessFile.setLength(validLength);
+            }
+        }
+        return records;
+    }
+
+    // EFFECTS: reads the journal header and returns true if it was written for the current snapshot
+    private static boolean isStampedFor(DataInputStream in, Path snapshot) throws IOException {
+        try {
+            return in.readInt() == MAGIC && in.readInt() == VERSION && in.readLong() == Files.size(snapshot)
+                    && in.readLong() == Files.getLastModifiedTime(snapshot).toMillis();
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    // EFFECTS: reads the next record, returns null at the end of the journal or if the record is torn
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] record = new byte[length];
+            in.readFully(record);
+            return in.readInt() == (int) checksum(record) ? record : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends a record of operation on event to the pending records,
+    //          the next flush writes in full if event cannot be written as a record
+    private void record(int operation, ScheduleEvent event) {
+        try {
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(recordBytes);
+            out.writeByte(operation);
+            BinaryScheduleFormat.writeString(out, event.getName());
+            if (event instanceof DateEvent) {
+                out.writeInt(BinaryScheduleFormat.toEpochDayInt(((DateEvent) event).getDate()));
+            } else {
+                out.writeByte(BinaryScheduleFormat.toRepeatType((RepeatEvent) event));
+                out.writeByte(((RepeatEvent) event).getDayOf());
+            }
+            out.writeShort(minuteOfDay(event.getStartTime()));
+            out.writeShort(minuteOfDay(event.getEndTime()));
+            byte[] record = recordBytes.toByteArray();
+            DataOutputStream pendingOut = new DataOutputStream(pending);
+            pendingOut.writeInt(record.length);
+            pendingOut.write(record);
+            pendingOut.writeInt((int) checksum(record));
+            pendingRecords++;
+        } catch (IOException e) {
+            needsSnapshot = true;
+        }
+    }
+
+    // MODIFIES: schedule
+    // EFFECTS: applies the change in record to schedule
+    private static void apply(ScheduleContainer schedule, byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        int operation = in.readByte();
+        String name = BinaryScheduleFormat.readString(in);
+        if (operation == ADD_DATE || operation == REMOVE_DATE) {
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            DateEvent dateEvent = new DateEvent(name, date, readTime(in), readTime(in));
+            if (operation == ADD_DATE) {
+                schedule.addEvent(dateEvent);
+            } else {
+                removeEvent(schedule, findDateEvent(schedule, dateEvent));
+            }
+        } else if (operation == ADD_REPEAT || operation == REMOVE_REPEAT) {
+            int type = in.readByte();
+            int dayOf = in.readByte();
+            RepeatEvent repeatEvent;
+            if (type == BinaryScheduleFormat.WEEKLY) {
+                repeatEvent = new WeeklyEvent(name, DayOfWeek.of(dayOf), readTime(in), readTime(in));
+            } else {
+                repeatEvent = new MonthlyEvent(name, dayOf, readTime(in), readTime(in));
+            }
+            if (operation == ADD_REPEAT) {
+                schedule.addEvent(repeatEvent);
+            } else {
+                removeEvent(schedule, findRepeatEvent(schedule, repeatEvent));
+            }
+        } else {
+            throw new IOException("Unknown journal record " + operation);
+        }
+    }
+
+    // MODIFIES: schedule
+    // EFFECTS: removes event from schedule if it is not null
+    private static void removeEvent(ScheduleContainer schedule, ScheduleEvent event) {
+        if (event instanceof DateEvent) {
+            schedule.removeEvent((DateEvent) event);
+        } else if (event instanceof RepeatEvent) {
+            schedule.removeEvent((RepeatEvent) event);
+        }
+    }
+
+    // EFFECTS: returns the event in schedule with the same name and times as dateEvent, or null if there is none
+    private static DateEvent findDateEvent(ScheduleContainer schedule, DateEvent dateEvent) {
+        for (DateEvent candidate : schedule.getDateEventsOverlapping(dateEvent.getStartDateTime(),
+                dateEvent.getStartDateTime())) {
+            if (candidate.getName().equals(dateEvent.getName())
+                    && candidate.getStartTime().equals(dateEvent.getStartTime())
+                    && candidate.getEndTime().equals(dateEvent.getEndTime())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // EFFECTS: returns the event in schedule that repeats the same way as repeatEvent with the same name
+    //          and times, or null if there is none
+    private static RepeatEvent findRepeatEvent(ScheduleContainer schedule, RepeatEvent repeatEvent) {
+        for (RepeatEvent candidate : schedule.getRepeatEvents()) {
+            if (candidate.compareTo(repeatEvent) == 0 && candidate.getName().equals(repeatEvent.getName())
+                    && candidate.getEndTime().equals(repeatEvent.getEndTime())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // EFFECTS: reads a time written as its minute of day
+    private static LocalTime readTime(DataInputStream in) throws IOException {
+        return LocalTime.ofSecondOfDay(in.readShort() * 60L);
+    }
+
+    // EFFECTS: returns the CRC32 of bytes
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+}
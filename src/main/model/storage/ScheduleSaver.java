@@ -0,0 +1,99 @@
+package model.storage;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Writes journal checkpoints one at a time on a dedicated background thread. Checkpoints of the same
+// journal that pile up while another write is running are merged so a burst of saves costs one write.
+public class ScheduleSaver {
+    private final ExecutorService executor;
+    private final Listener listener;
+    private final Deque<ScheduleJournal.Checkpoint> queue;
+    private volatile boolean lastWriteFailed;
+
+    // told about the outcome of every write, on the background thread
+    public interface Listener {
+        void saveSucceeded(ScheduleJournal.Checkpoint checkpoint);
+
+        void saveFailed(ScheduleJournal.Checkpoint checkpoint, IOException e);
+    }
+
+    public ScheduleSaver(Listener listener) {
+        this.listener = listener;
+        queue = new ArrayDeque<>();
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "schedule-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues checkpoint to be written in the background,
+    //          merging it into the last queued checkpoint if that is of the same journal
+    public void save(ScheduleJournal.Checkpoint checkpoint) {
+        synchronized (queue) {
+            ScheduleJournal.Checkpoint last = queue.peekLast();
+            if (last != null && last.getJournal() == checkpoint.getJournal()) {
+                queue.pollLast();
+                queue.addLast(last.then(checkpoint));
+                return;
+            }
+            queue.addLast(checkpoint);
+        }
+        executor.execute(this::writeNext);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: waits until every queued checkpoint has been written
+    public void awaitIdle() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // EFFECTS: returns true if the last write that finished failed; a write still queued or running is not counted
+    public boolean lastWriteFailed() {
+        return lastWriteFailed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes every queued checkpoint, then stops the background thread
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the first queued checkpoint and reports the outcome
+    private void writeNext() {
+        ScheduleJournal.Checkpoint checkpoint;
+        synchronized (queue) {
+            checkpoint = queue.pollFirst();
+        }
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.write();
+            lastWriteFailed = false;
+            listener.saveSucceeded(checkpoint);
+        } catch (IOException e) {
+            lastWriteFailed = true;
+            listener.saveFailed(checkpoint, e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package network;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+// Fetches the public holidays of a country for a year as the JSON text of the holiday web API.
+// A fetched (country, year) is not asked for again until its time to live runs out; after that it is revalidated
+// with the ETag and Last-Modified the server sent, so an unchanged year costs a request but no download.
+// The base URL can be set, so that tests can point it at a local server.
+// Fetches run on a pool of up to PARALLEL_FETCHES daemon threads owned by the provider, which stop when idle.
+public class HolidayProvider {
+    public static final String DEFAULT_BASE_URL = "https://date.nager.at/api/v2/PublicHolidays/";
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+    public static final int PARALLEL_FETCHES = 4;
+    // how long a year that could not be revalidated is kept as it is before trying again
+    public static final long RETRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int TIMEOUT_MILLIS = 10000;
+    private static final long IDLE_THREAD_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final String baseUrl;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, FetchRecord> records;
+    private final ThreadPoolExecutor executor;
+
+    public HolidayProvider() {
+        this(DEFAULT_BASE_URL, DEFAULT_TTL_MILLIS);
+    }
+
+    public HolidayProvider(String baseUrl, long ttlMillis) {
+        this(baseUrl, ttlMillis, System::currentTimeMillis);
+    }
+
+    // REQUIRES: baseUrl ends with "/", clock returns milliseconds
+    public HolidayProvider(String baseUrl, long ttlMillis, LongSupplier clock) {
+        this.baseUrl = baseUrl;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        records = new ConcurrentHashMap<>();
+        executor = new ThreadPoolExecutor(PARALLEL_FETCHES, PARALLEL_FETCHES, IDLE_THREAD_MILLIS,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "holiday-fetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // EFFECTS: returns what is known of each fetched (country, year), keyed by country + "/" + year, to be saved
+    public Map<String, FetchRecord> getRecords() {
+        return new TreeMap<>(records);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces what is known of fetched years with records, as returned by getRecords
+    public void setRecords(Map<String, FetchRecord> records) {
+        this.records.clear();
+        if (records != null) {
+            this.records.putAll(records);
+        }
+    }
+
+    // EFFECTS: returns true if year of country was fetched within the time to live
+    public boolean isFresh(String country, int year) {
+        FetchRecord record = records.get(key(country, year));
+        return record != null && clock.getAsLong() - record.fetchedAt < ttlMillis;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the holidays of year in country as JSON text, or null if hasCopy and the copy the caller has
+    //          is still good, because the year is fresh or the server says it has not changed;
+    //          throws IOException if the server cannot be reached or answers with an error, after which a copy
+    //          is kept as it is for RETRY_MILLIS
+    public String fetch(String country, int year, boolean hasCopy) throws IOException {
+        String key = key(country, year);
+        FetchRecord record = hasCopy ? records.get(key) : null;
+        if (record != null && clock.getAsLong() - record.fetchedAt < ttlMillis) {
+            return null;
+        }
+        try {
+            return download(key, baseUrl + year + "/" + country, record);
+        } catch (IOException e) {
+            if (record != null) {
+                records.put(key, new FetchRecord(clock.getAsLong() - ttlMillis + RETRY_MILLIS,
+                        record.etag, record.lastModified));
+            }
+            throw e;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: requests url, conditionally if there is a record of it, and returns the body or null if not modified
+    private String download(String key, String url, FetchRecord record) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            if (record != null) {
+                addValidators(connection, record);
+            }
+            int code = connection.getResponseCode();
+            long now = clock.getAsLong();
+            if (code == HttpURLConnection.HTTP_NOT_MODIFIED && record != null) {
+                records.put(key, new FetchRecord(now, record.etag, record.lastModified));
+                return null;
+            } else if (code != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Holidays request for " + key + " failed with " + code);
+            }
+            String body = readBody(connection);
+            records.put(key, new FetchRecord(now, connection.getHeaderField("ETag"), connection.getLastModified()));
+            return body;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fetches every year of years for every country of countries at the same time, on up to
+    //          PARALLEL_FETCHES threads, and returns the JSON text of each one that changed by key(country, year);
+    //          hasCopy tells whether the caller has a copy of a key, keys that fail are printed and left out
+    public Map<String, String> fetchAll(Collection<String> countries, Collection<Integer> years,
+                                        Predicate<String> hasCopy) {
+        return fetchAllInBackground(countries, years, hasCopy).join();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts fetching as fetchAll does on the threads of this provider, without waiting on any thread,
+    //          and returns the result of fetchAll once every fetch is done; fresh years with a copy are not
+    //          handed to a thread at all
+    public CompletableFuture<Map<String, String>> fetchAllInBackground(Collection<String> countries,
+                                                                       Collection<Integer> years,
+                                                                       Predicate<String> hasCopy) {
+        Map<String, CompletableFuture<String>> futures = new TreeMap<>();
+        for (String country : countries) {
+            for (int year : years) {
+                String key = key(country, year);
+                boolean copy = hasCopy.test(key);
+                if (copy && isFresh(country, year)) {
+                    continue;
+                }
+                futures.put(key, CompletableFuture.supplyAsync(() -> fetchOrNull(country, year, copy), executor));
+            }
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            Map<String, String> retVal = new TreeMap<>();
+            for (Map.Entry<String, CompletableFuture<String>> entry : futures.entrySet()) {
+                String body = entry.getValue().join();
+                if (body != null) {
+                    retVal.put(entry.getKey(), body);
+                }
+            }
+            return retVal;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns what fetch returns, or prints the failure and returns null if it fails
+    private String fetchOrNull(String country, int year, boolean hasCopy) {
+        try {
+            return fetch(country, year, hasCopy);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // MODIFIES: connection
+    // EFFECTS: asks the server to answer not modified if the page is the same as when record was fetched
+    private static void addValidators(HttpURLConnection connection, FetchRecord record) {
+        if (record.etag != null) {
+            connection.setRequestProperty("If-None-Match", record.etag);
+        }
+        if (record.lastModified > 0) {
+            connection.setIfModifiedSince(record.lastModified);
+        }
+    }
+
+    // EFFECTS: returns the body of the response to connection
+    private static String readBody(HttpURLConnection connection) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            char[] buffer = new char[4096];
+            for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+                sb.append(buffer, 0, read);
+            }
+        }
+        return sb.toString();
+    }
+
+    // EFFECTS: returns the key of year in country, as used for records and results
+    public static String key(String country, int year) {
+        return keyPrefix(country) + year;
+    }
+
+    // EFFECTS: returns the start shared by the keys of all the years of country
+    public static String keyPrefix(String country) {
+        return country + "/";
+    }
+
+    // When a year was last fetched or revalidated, with the validators the server sent for it
+    public static class FetchRecord {
+        private long fetchedAt;
+        private String etag;
+        private long lastModified;
+
+        public FetchRecord() {
+        }
+
+        public FetchRecord(long fetchedAt, String etag, long lastModified) {
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+
+        public void setFetchedAt(long fetchedAt) {
+            this.fetchedAt = fetchedAt;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public void setEtag(String etag) {
+            this.etag = etag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ui;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Least recently used cache of what the month calendar shows for a month: the day masks of its events and holidays,
+// keyed by the month and the settings that decide which events are counted. Safe to use from the query thread and
+// the event dispatch thread. Every invalidate starts a new generation, and masks worked out in an older generation
+// are not stored, so a lookup that raced with an edit is never cached.
+public class MonthCache {
+    private final Map<Key, int[]> entries;
+    private int generation;
+
+    // REQUIRES: capacity >= 1
+    public MonthCache(int capacity) {
+        entries = new LinkedHashMap<Key, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    // EFFECTS: returns the event and holiday day masks of yearMonth for the given settings, or null if not cached
+    public synchronized int[] get(YearMonth yearMonth, boolean showDate, boolean showRepeat, boolean showHolidays) {
+        int[] masks = entries.get(new Key(yearMonth, showDate, showRepeat, showHolidays));
+        return masks == null ? null : masks.clone();
+    }
+
+    // EFFECTS: returns true if yearMonth is cached for the given settings, without marking it as used
+    public synchronized boolean contains(YearMonth yearMonth, boolean showDate, boolean showRepeat,
+                                         boolean showHolidays) {
+        return entries.containsKey(new Key(yearMonth, showDate, showRepeat, showHolidays));
+    }
+
+    // EFFECTS: returns the current generation, to be passed to put with masks worked out after this call
+    public synchronized int getGeneration() {
+        return generation;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: caches masks for yearMonth and the given settings, unless the cache was invalidated since generation
+    public synchronized void put(YearMonth yearMonth, boolean showDate, boolean showRepeat, boolean showHolidays,
+                                 int[] masks, int generation) {
+        if (generation == this.generation) {
+            entries.put(new Key(yearMonth, showDate, showRepeat, showHolidays), masks.clone());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops every month, for when the schedule or holidays change
+    public synchronized void invalidate() {
+        entries.clear();
+        generation++;
+    }
+
+    // EFFECTS: returns the number of cached months
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // A month with the settings it was worked out for
+    private static final class Key {
+        private final YearMonth yearMonth;
+        private final int flags;
+
+        private Key(YearMonth yearMonth, boolean showDate, boolean showRepeat, boolean showHolidays) {
+            this.yearMonth = yearMonth;
+            this.flags = (showDate ? 1 : 0) | (showRepeat ? 2 : 0) | (showHolidays ? 4 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return flags == key.flags && yearMonth.equals(key.yearMonth);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(yearMonth, flags);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ui;
+
+import javax.swing.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// Runs the model lookups behind a display one at a time on a background thread and hands their results to the event
+// dispatch thread. Only the latest request is shown: making a new one cancels any earlier one, which is skipped if it
+// has not started yet and has its result dropped if it has. Running lookups are not interrupted, since an interrupt
+// would close the file channels of a paged schedule.
+public class QueryRunner {
+    private final ExecutorService executor;
+    // the latest request, only used on the event dispatch thread
+    private SwingWorker<?, ?> current;
+
+    public QueryRunner() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "display-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // REQUIRES: called on the event dispatch thread
+    // MODIFIES: this
+    // EFFECTS: cancels the last request, then runs query in the background and gives its result to onResult on the
+    //          event dispatch thread unless another request is made first
+    public <T> void submit(Callable<T> query, Consumer<T> onResult) {
+        cancel();
+        SwingWorker<T, Void> worker = new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return query.call();
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || current != this) {
+                    return;
+                }
+                current = null;
+                try {
+                    onResult.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                }
+            }
+        };
+        current = worker;
+        executor.execute(worker);
+    }
+
+    // REQUIRES: called on the event dispatch thread
+    // MODIFIES: this
+    // EFFECTS: cancels the last request so that its result is never given
+    public void cancel() {
+        if (current != null) {
+            current.cancel(false);
+            current = null;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs task in the background after the requests already made, it is never cancelled
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    // REQUIRES: called on the event dispatch thread
+    // MODIFIES: this
+    // EFFECTS: runs task in the background after the requests already made and gives its result to onResult, or
+    //          what it throws to onFailure, on the event dispatch thread; it is never cancelled
+    public <T> void execute(Callable<T> task, Consumer<T> onResult, Consumer<Exception> onFailure) {
+        executor.execute(new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return task.call();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    onResult.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        onFailure.accept((Exception) e.getCause());
+                    } else {
+                        e.getCause().printStackTrace();
+                    }
+                }
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the background thread, skipping anything not yet started
+    public void close() {
+        executor.shutdownNow();
+    }
+}
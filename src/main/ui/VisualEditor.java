@@ -1,11 +1,16 @@
 package ui;
 
 import model.*;
+import model.occurrence.Occurrence;
+import model.storage.ScheduleJournal;
+import model.storage.ScheduleSaver;
 import ui.components.base.FindFrame;
 import ui.components.base.SettingsFrame;
-import ui.components.display.DateEventPanel;
+import ui.components.display.ButtonMonthGrid;
+import ui.components.display.EventListPanel;
 import ui.components.display.EventPanel;
-import ui.components.display.RepeatEventPanel;
+import ui.components.display.MonthGrid;
+import ui.components.display.PaintedMonthGrid;
 import ui.components.display.TitleLabel;
 import ui.components.base.EventCreatorFrame;
 import ui.components.base.EventEditorFrame;
@@ -30,6 +35,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         MonthCalendar,
         AllEvents,
         EventsForDate,
+        FoundEvents,
         Holidays,
         Settings,
         Help,
@@ -64,9 +70,13 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     private static final String UNSAVED_OPEN_WARNING_MESSAGE = UNSAVED_HEADER + "Do you still want to open?</html>";
     private static final String LOAD_WARNING_MESSAGE = "<html>Load from currently set save file?</html>";
     private static final String UNSAVED_LOAD_WARNING_MESSAGE = UNSAVED_HEADER + "Do you still want to load?</html>";
+    private static final String SAVE_FAILED_WARNING_MESSAGE = "<html>The last save of your current schedule failed.<br>"
+            + "Do you still want to exit?</html>";
 
-    private static final int DATE_BOX_GAP = 0;
-    private static final boolean DATE_BOX_DRAW_FULL_BORDER = true;
+    // how far ahead a new repeat event is checked for overlaps
+    private static final int REPEAT_CONFLICT_DAYS = 365;
+    private static final int PREFETCH_MONTHS = 2;
+    private static final int MONTH_CACHE_SIZE = 24;
 
     public static final Color DEFAULT_PANEL_COLOR = new Color(238, 238, 238, 255);
 
@@ -81,11 +91,23 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     public static final Color TODAY_HL_COLOR = Color.LIGHT_GRAY;
 
     private Display currentDisplay;
+    private QueryRunner queries;
+    // days shown by the month calendar, dropped whenever the schedule or holidays change
+    private final MonthCache monthCache = new MonthCache(MONTH_CACHE_SIZE);
     private LocalDate selectedDate;
     private LocalDate selectedEndDate;
+    private String selectedNameQuery;
+    private boolean selectedWholeName;
 
-    private ScheduleContainer currentSchedule;
+    // versions of the schedule, which displays read on the query thread without locking while it is edited
+    private final ScheduleSnapshots currentSchedule = new ScheduleSnapshots(new ScheduleContainer());
+    private ScheduleJournal journal;
+    private ScheduleSaver saver;
     private Component centreComponent;
+    // the calendar display, kept so that moving between months reuses its components
+    private JPanel calendarDisplay;
+    private TitleLabel calendarTitle;
+    private MonthGrid monthGrid;
 
     private HolidaysContainer currentHolidays;
     private int selectedHolidaysYear;
@@ -93,7 +115,8 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     private Settings currentSettings;
     private SettingsFrame settingsFrame;
 
-    private boolean changedSinceLastSave;
+    // version of the schedule last loaded or queued to be saved, edits publish a new version
+    private ScheduleContainer savedVersion;
 
     public VisualEditor(String name) {
         super(name);
@@ -116,12 +139,31 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         selectedDate = getCurrentDate();
         selectedEndDate = selectedDate;
         selectedHolidaysYear = getCurrentDate().getYear();
-        currentSchedule = new ScheduleContainer();
         currentDisplay = Display.MonthCalendar;
         currentHolidays = new HolidaysContainer();
         currentSettings = new Settings();
-        changedSinceLastSave = false;
+        savedVersion = currentSchedule.get();
+        queries = new QueryRunner();
         initializeHolidaysAndSettings();
+        journal = new ScheduleJournal(currentSettings.getSaveFile());
+        saver = createSaver();
+    }
+
+    // EFFECTS: returns a saver that reports back to this on the event dispatch thread
+    private ScheduleSaver createSaver() {
+        return new ScheduleSaver(new ScheduleSaver.Listener() {
+            @Override
+            public void saveSucceeded(ScheduleJournal.Checkpoint checkpoint) {
+                // the editor only reports failures
+            }
+
+            @Override
+            public void saveFailed(ScheduleJournal.Checkpoint checkpoint, IOException e) {
+                e.printStackTrace();
+                SwingUtilities.invokeLater(() -> showError(
+                        "Failed to save schedule. Please check the save file location in settings."));
+            }
+        });
     }
 
     // MODIFIES: this
@@ -138,10 +180,22 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
             currentHolidays.save();
         }
         currentHolidays.setSettings(currentSettings.isMergeHoliday(), currentSettings.isLoadHolidaysFromWeb());
+        currentHolidays.setCountries(currentSettings.getHolidayCountryList());
+        prefetchHolidays();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fetches the holidays of the selected countries for the years around this one on the threads of the
+    //          holiday provider, if they are loaded from the web
+    private void prefetchHolidays() {
         if (currentSettings.isLoadHolidaysFromWeb()) {
+            int year = getCurrentDate().getYear();
+            HolidaysContainer holidays = currentHolidays;
+            List<Integer> years = new ArrayList<>();
             for (int i = -2; i <= 2; i++) {
-                currentHolidays.getHolidays(getCurrentDate().getYear() + i);
+                years.add(year + i);
             }
+            holidays.prefetchHolidaysInBackground(years).thenRun(monthCache::invalidate);
         }
     }
 
@@ -162,7 +216,11 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
-                if (!changedSinceLastSave || showConfirm(UNSAVED_WARNING_MESSAGE)) {
+                saver.awaitIdle();
+                if (!hasUnsavedChanges() || showConfirm(saver.lastWriteFailed() ? SAVE_FAILED_WARNING_MESSAGE
+                        : UNSAVED_WARNING_MESSAGE)) {
+                    queries.close();
+                    saver.close();
                     dispose();
                     System.exit(0);
                 }
@@ -208,22 +266,37 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     // MODIFIES: this
     // EFFECTS:: adds dateEvent to currentSchedule
     public void addEvent(DateEvent dateEvent) {
-        changedSinceLastSave = true;
-        currentSchedule.addEvent(dateEvent);
+        currentSchedule.update(schedule -> schedule.addEvent(dateEvent));
+        monthCache.invalidate();
+        journal.recordAdd(dateEvent);
     }
 
     // MODIFIES: this
     // EFFECTS:: adds repeatEvent to currentSchedule
     public void addEvent(RepeatEvent repeatEvent) {
-        changedSinceLastSave = true;
-        currentSchedule.addEvent(repeatEvent);
+        currentSchedule.update(schedule -> schedule.addEvent(repeatEvent));
+        monthCache.invalidate();
+        journal.recordAdd(repeatEvent);
+    }
+
+    // EFFECTS: returns the occurrences of events in currentSchedule that overlap event, other than those of
+    //          replaced (which may be null), checking repeat events for a year from today
+    public List<Occurrence> getConflictsWith(ScheduleEvent event, ScheduleEvent replaced) {
+        LocalDate startDate = event instanceof DateEvent ? ((DateEvent) event).getDate() : getCurrentDate();
+        List<Occurrence> retVal = currentSchedule.read(
+                schedule -> schedule.getConflictsWith(event, startDate, startDate.plusDays(REPEAT_CONFLICT_DAYS)));
+        retVal.removeIf(occurrence -> occurrence.getEvent() == replaced);
+        return retVal;
     }
 
     // MODIFIES: this
     // EFFECTS: removes dateEvent from currentSchedule, show error if failed
     public void removeEvent(DateEvent dateEvent) {
-        changedSinceLastSave = true;
-        if (!currentSchedule.removeEvent(dateEvent)) {
+        boolean removed = currentSchedule.updateAndGet(schedule -> schedule.removeEvent(dateEvent));
+        monthCache.invalidate();
+        if (removed) {
+            journal.recordRemove(dateEvent);
+        } else {
             showError("Failed to remove event.");
         }
     }
@@ -231,43 +304,63 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     // MODIFIES: this
     // EFFECTS: removes repeatEvent from currentSchedule, show error if failed
     public void removeEvent(RepeatEvent repeatEvent) {
-        changedSinceLastSave = true;
-        if (!currentSchedule.removeEvent(repeatEvent)) {
+        boolean removed = currentSchedule.updateAndGet(schedule -> schedule.removeEvent(repeatEvent));
+        monthCache.invalidate();
+        if (removed) {
+            journal.recordRemove(repeatEvent);
+        } else {
             showError("Failed to remove event.");
         }
     }
 
-    // EFFECTS: saves schedule onto saveFile, returns true if successful
+    // MODIFIES: this
+    // EFFECTS: queues the changes to schedule to be saved onto saveFile in the background, returns true;
+    //          a failure is shown once the write finishes, and the changes count as unsaved from then on
     @Override
     public boolean save() {
-        boolean success = true;
-        try {
-            SaveLoadSystem.saveWithJackson(currentSchedule, currentSettings.getSaveFile());
-            changedSinceLastSave = false;
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Failed to save schedule. Please check the save file location in settings.");
-            success = false;
+        ScheduleJournal saveJournal = getJournal();
+        ScheduleContainer version = currentSchedule.get();
+        saver.save(saveJournal.checkpoint(version, currentSettings.getSaveFormat()));
+        savedVersion = version;
+        return true;
+    }
+
+    // EFFECTS: returns true if the schedule was changed since it was last loaded or queued to be saved,
+    //          or if the last write of the saver failed
+    private boolean hasUnsavedChanges() {
+        return currentSchedule.get() != savedVersion || saver.lastWriteFailed();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the journal of the current save file, starting a new one if the save file changed
+    private ScheduleJournal getJournal() {
+        if (!journal.getSnapshotFile().equals(currentSettings.getSaveFile())) {
+            journal = new ScheduleJournal(currentSettings.getSaveFile());
         }
-        return success;
+        return journal;
     }
 
     // MODIFIES: this
-    // EFFECTS: loads schedule from saveFile, returns true if successful
+    // EFFECTS: loads schedule from saveFile and its journal in the background once the queued saves are written,
+    //          then shows it, returns true; a failure is shown once the load finishes. The load goes into a new
+    //          journal, so edits recorded on the current one while it runs are dropped along with the schedule
     @Override
     public boolean load() {
-        boolean success = true;
-        try {
-            currentSchedule = SaveLoadSystem.loadWithJackson(currentSettings.getSaveFile(), ScheduleContainer.class);
-            currentSchedule.sort();
-            changedSinceLastSave = false;
+        ScheduleJournal loadJournal = new ScheduleJournal(currentSettings.getSaveFile());
+        queries.execute(() -> {
+            saver.awaitIdle();
+            return loadJournal.load();
+        }, loaded -> {
+            journal = loadJournal;
+            currentSchedule.replace(loaded);
+            savedVersion = loaded;
+            monthCache.invalidate();
             refresh();
-        } catch (IOException e) {
+        }, e -> {
             e.printStackTrace();
             showError("Failed to load schedule. Please check the save file location in settings.");
-            success = false;
-        }
-        return success;
+        });
+        return true;
     }
 
     // EFFECTS: shows an error dialogue
@@ -343,9 +436,12 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     // EFFECTS: shows a prompt to create new schedule, clears if picked yes
     private void promptNewSchedule() {
         if (showConfirm(NEW_FILE_WARNING_MESSAGE)) {
-            currentSchedule.clearScheduleEvents();
-            changedSinceLastSave = false;
+            ScheduleContainer empty = new ScheduleContainer();
+            currentSchedule.replace(empty);
+            savedVersion = empty;
+            monthCache.invalidate();
             currentSettings.setSaveFile("");
+            journal = new ScheduleJournal("");
             currentSettings.save();
             refresh();
         }
@@ -353,7 +449,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
 
     // EFFECTS: shows a file prompt to create new schedule, clears if picked yes
     private void promptOpenSchedule() {
-        if (changedSinceLastSave && !showConfirm(UNSAVED_OPEN_WARNING_MESSAGE)) {
+        if (hasUnsavedChanges() && !showConfirm(UNSAVED_OPEN_WARNING_MESSAGE)) {
             return;
         }
         String retVal = openFilePrompt(currentSettings.getSaveFile(), false);
@@ -381,7 +477,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
 
     // EFFECTS: shows a prompt for whether to load or not
     private void promptLoadSchedule() {
-        if (changedSinceLastSave) {
+        if (hasUnsavedChanges()) {
             if (!showConfirm(UNSAVED_LOAD_WARNING_MESSAGE)) {
                 return;
             }
@@ -483,6 +579,9 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
             case EventsForDate:
                 showEventsForDates(selectedDate, selectedEndDate);
                 break;
+            case FoundEvents:
+                showEventsNamed(selectedNameQuery, selectedWholeName, selectedDate, selectedEndDate);
+                break;
             case Holidays:
                 showHolidays();
                 break;
@@ -493,18 +592,90 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     }
 
     // MODIFIES: this
-    // EFFECTS: shows the calendar display at the centre of the frame
+    // EFFECTS: shows the calendar display of the selected month at the centre of the frame, at once if its days are
+    //          cached and otherwise once they are looked up in the background, then prefetches the months around it
     public void showMonthCalendar() {
-        changeCentreComponentTo(createCalendarDisplay(), Display.MonthCalendar);
         currentDisplay = Display.MonthCalendar;
+        YearMonth yearMonth = selectedYearMonth();
+        boolean showDate = currentSettings.isShowDate();
+        boolean showRepeat = currentSettings.isShowRepeat();
+        boolean showHolidays = currentSettings.isShowHolidaysOnCalendar();
+        int[] cached = monthCache.get(yearMonth, showDate, showRepeat, showHolidays);
+        if (cached != null) {
+            queries.cancel();
+            showCalendarDisplay(yearMonth, cached[0], cached[1]);
+            prefetchMonthsAround(yearMonth);
+            return;
+        }
+        HolidaysContainer holidays = currentHolidays;
+        queries.submit(() -> lookUpMonth(holidays, yearMonth, showDate, showRepeat, showHolidays),
+                dayMasks -> {
+                    showCalendarDisplay(yearMonth, dayMasks[0], dayMasks[1]);
+                    prefetchMonthsAround(yearMonth);
+                });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: looks up the days of the PREFETCH_MONTHS months before and after yearMonth that are not cached yet
+    //          in the background, after any display request already made
+    private void prefetchMonthsAround(YearMonth yearMonth) {
+        HolidaysContainer holidays = currentHolidays;
+        boolean showDate = currentSettings.isShowDate();
+        boolean showRepeat = currentSettings.isShowRepeat();
+        boolean showHolidays = currentSettings.isShowHolidaysOnCalendar();
+        queries.execute(() -> {
+            for (int i = 1; i <= PREFETCH_MONTHS; i++) {
+                for (YearMonth month : new YearMonth[]{yearMonth.plusMonths(i), yearMonth.minusMonths(i)}) {
+                    if (!monthCache.contains(month, showDate, showRepeat, showHolidays)) {
+                        lookUpMonth(holidays, month, showDate, showRepeat, showHolidays);
+                    }
+                }
+            }
+        });
+    }
+
+    // EFFECTS: returns the day masks of the events and holidays of yearMonth, caching them; reads the version of
+    //          the schedule published when it runs, after taking the generation of the cache
+    private int[] lookUpMonth(HolidaysContainer holidays, YearMonth yearMonth,
+                              boolean showDate, boolean showRepeat, boolean showHolidays) {
+        int generation = monthCache.getGeneration();
+        int[] dayMasks = new int[2];
+        dayMasks[0] = currentSchedule.read(schedule -> schedule.getOccupancy(yearMonth, showDate, showRepeat));
+        if (showHolidays) {
+            dayMasks[1] = holidays.getHolidayOccupancy(yearMonth);
+        }
+        monthCache.put(yearMonth, showDate, showRepeat, showHolidays, dayMasks, generation);
+        return dayMasks;
     }
 
-    // EFFECTS: creates a calendar display
+    // MODIFIES: this
+    // EFFECTS: shows the calendar display of yearMonth at the centre of the frame, eventDays and holidayDays are
+    //          day masks of the month; the display is kept between months and only the title and grid are updated
+    private void showCalendarDisplay(YearMonth yearMonth, int eventDays, int holidayDays) {
+        if (calendarDisplay == null || (monthGrid instanceof PaintedMonthGrid) != currentSettings.isPaintedCalendar()) {
+            calendarDisplay = createCalendarDisplay();
+        }
+        int today = YearMonth.from(getCurrentDate()).equals(yearMonth) ? getCurrentDate().getDayOfMonth() : -1;
+        calendarTitle.setText(yearMonth.format(YEAR_MONTH_FORMATTER));
+        monthGrid.setMonth(yearMonth, eventDays, holidayDays, today,
+                currentSettings.getUsingColor(), currentSettings.isFlipTextColor());
+        if (centreComponent != calendarDisplay) {
+            changeCentreComponentTo(calendarDisplay, Display.MonthCalendar);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: creates the calendar display with an empty month grid of the type set in the settings
     private JPanel createCalendarDisplay() {
+        calendarTitle = new TitleLabel("");
+        monthGrid = currentSettings.isPaintedCalendar() ? new PaintedMonthGrid(this::showEventsForDate)
+                : new ButtonMonthGrid(this::showEventsForDate);
+        JPanel calendarPanel = new JPanel(new BorderLayout());
+        calendarPanel.add(createDowLabels(), BorderLayout.PAGE_START);
+        calendarPanel.add(monthGrid, BorderLayout.CENTER);
         JPanel mainPanel = new JPanel(new BorderLayout());
-        mainPanel.add(new TitleLabel(selectedYearMonth().format(YEAR_MONTH_FORMATTER)),
-                BorderLayout.PAGE_START);
-        mainPanel.add(createCalendar(), BorderLayout.CENTER);
+        mainPanel.add(calendarTitle, BorderLayout.PAGE_START);
+        mainPanel.add(calendarPanel, BorderLayout.CENTER);
         mainPanel.add(createToolPanel(e -> moveMonths(-1), e -> moveMonths(1)), BorderLayout.PAGE_END);
         return mainPanel;
     }
@@ -527,16 +698,6 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         return toolPanel;
     }
 
-    // EFFECTS: creates and returns the main calendar panel
-    private JPanel createCalendar() {
-        JPanel calendarPanel = new JPanel(new BorderLayout());
-        JPanel dowLabels = createDowLabels();
-        JPanel monthPanel = createMonthPanel(selectedYearMonth());
-        calendarPanel.add(dowLabels, BorderLayout.PAGE_START);
-        calendarPanel.add(monthPanel, BorderLayout.CENTER);
-        return calendarPanel;
-    }
-
     // EFFECTS: creates and returns a row of DayOfWeek labels
     private JPanel createDowLabels() {
         JPanel dowLabels = new JPanel();
@@ -550,80 +711,6 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         return dowLabels;
     }
 
-    // EFFECTS: creates and returns the boxes of dates for one month
-    private JPanel createMonthPanel(YearMonth yearMonth) {
-        JPanel monthPanel = new JPanel();
-        monthPanel.setBackground(BG_PANEL_COLOR);
-        monthPanel.setLayout(new GridLayout(6, 7, DATE_BOX_GAP, DATE_BOX_GAP));
-        int dayOffSet = yearMonth.atDay(1).getDayOfWeek().getValue();
-        int lastDay = yearMonth.lengthOfMonth();
-        boolean[] hasEventsForDates = currentSchedule.hasEvents(yearMonth,
-                currentSettings.isShowDate(), currentSettings.isShowRepeat());
-        boolean[] hasHolidaysForDates = currentSettings.isShowHolidaysOnCalendar()
-                ? currentHolidays.createHasHolidaysForYearMonth(yearMonth)
-                : new boolean[lastDay];
-        int today = (getCurrentDate().getYear() == yearMonth.getYear()
-                && getCurrentDate().getMonthValue() == yearMonth.getMonthValue())
-                ? getCurrentDate().getDayOfMonth() : -1;
-        addDateBoxes(monthPanel, yearMonth, dayOffSet, lastDay, today,
-                hasEventsForDates, hasHolidaysForDates);
-        return monthPanel;
-    }
-
-    // MODIFIES: monthPanel
-    // EFFECTS: adds date boxes to monthPanel
-    private void addDateBoxes(JPanel monthPanel, YearMonth yearMonth, int dayOffSet, int lastDay, int today,
-                              boolean[] hasEventsForDates, boolean[] hasHolidaysForDates) {
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 7; j++) {
-                int currentIndex = (7 * i + j);
-                int day = currentIndex - dayOffSet + 1;
-                if (day >= 1 && day <= lastDay) {
-                    monthPanel.add(createDateBox(yearMonth, day, hasEventsForDates[day - 1],
-                            hasHolidaysForDates[day - 1], day == today,
-                            j == 0, i == 5));
-                } else {
-                    JPanel emptyPanel = createEmptyDateBox(day == 0 && j < 6,
-                            day > lastDay && day - 7 <= lastDay);
-                    monthPanel.add(emptyPanel);
-                }
-            }
-        }
-    }
-
-    // EFFECTS: creates and returns a box for a date
-    private JPanel createDateBox(YearMonth yearMonth, int day, boolean hasEvent, boolean hasHoliday,
-                                 boolean isToday, boolean drawLeft, boolean drawBtm) {
-        JPanel outerPanel = new JPanel(new BorderLayout());
-        outerPanel.setBackground(ELEMENT_COLOR);
-        JButton dateBox = new JButton();
-        dateBox.setText("<html>&nbsp;" + day + (hasHoliday ? "*" : "") + "</html>");
-        dateBox.setHorizontalAlignment(SwingConstants.LEFT);
-        dateBox.setVerticalAlignment(SwingConstants.TOP);
-        int border = DATE_BOX_DRAW_FULL_BORDER ? 1 : 0;
-        dateBox.setBorder(BorderFactory.createMatteBorder(1, drawLeft ? border : 0, drawBtm ? border : 0, border,
-                Color.BLACK));
-        dateBox.addActionListener(e -> showEventsForDate(yearMonth.atDay(day)));
-        dateBox.setOpaque(true);
-        dateBox.setForeground((hasEvent || isToday) && currentSettings.isFlipTextColor() ? Color.WHITE : Color.BLACK);
-        dateBox.setBackground(isToday ? TODAY_HL_COLOR
-                : (hasEvent ? currentSettings.getUsingColor() : ELEMENT_COLOR));
-        outerPanel.add(dateBox, BorderLayout.CENTER);
-        return outerPanel;
-    }
-
-    // EFFECTS: creates and returns a filler box for date
-    private JPanel createEmptyDateBox(boolean drawRight, boolean drawTop) {
-        JPanel emptyPanel = new JPanel();
-        if (drawRight) {
-            emptyPanel.setBorder(BorderFactory.createMatteBorder(0,0,0,1, Color.BLACK));
-        } else if (drawTop) {
-            emptyPanel.setBorder(BorderFactory.createMatteBorder(1,0,0,0, Color.BLACK));
-        }
-        emptyPanel.setOpaque(false);
-        return emptyPanel;
-    }
-
     // MODIFIES: this
     // EFFECTS: moves between the selected month to be shown (on the month calendar)
     private void moveMonths(int count) {
@@ -634,8 +721,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     // MODIFIES: this
     // EFFECTS: shows a list of events in the current schedule
     public void showAllEvents() {
-        changeCentreComponentTo(createEventsDisplay(LocalDate.MIN, LocalDate.MAX),
-                Display.AllEvents);
+        showEventsDisplay(LocalDate.MIN, LocalDate.MAX, Display.AllEvents);
     }
 
     // MODIFIES: this
@@ -643,7 +729,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     private void showEventsForDate(LocalDate date) {
         selectedDate = date;
         selectedEndDate = date;
-        changeCentreComponentTo(createEventsDisplay(date, date), Display.EventsForDate);
+        showEventsDisplay(date, date, Display.EventsForDate);
     }
 
     // MODIFIES: this
@@ -651,11 +737,30 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     public void showEventsForDates(LocalDate startDate, LocalDate endDate) {
         selectedDate = startDate;
         selectedEndDate = endDate;
-        changeCentreComponentTo(createEventsDisplay(startDate, endDate), Display.EventsForDate);
+        showEventsDisplay(startDate, endDate, Display.EventsForDate);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows a list of events in the current schedule between the dates named nameQuery if wholeName is
+    //          true, in order, or else with a name containing nameQuery, best match first
+    public void showEventsNamed(String nameQuery, boolean wholeName, LocalDate startDate, LocalDate endDate) {
+        selectedDate = startDate;
+        selectedEndDate = endDate;
+        selectedNameQuery = nameQuery;
+        selectedWholeName = wholeName;
+        currentDisplay = Display.FoundEvents;
+        String titleText = formatEventTextFor(startDate, endDate) + (wholeName ? " named \"" : " matching \"")
+                + nameQuery + "\"";
+        queries.submit(() -> currentSchedule.read(schedule -> wholeName
+                        ? new EventLookup(schedule.getDateEventsNamed(nameQuery, startDate, endDate),
+                        schedule.getRepeatEventsNamed(nameQuery, startDate, endDate), new ArrayList<>())
+                        : new EventLookup(schedule.searchDateEvents(nameQuery, startDate, endDate),
+                        schedule.searchRepeatEvents(nameQuery, startDate, endDate), new ArrayList<>())),
+                lookup -> changeCentreComponentTo(createEventsDisplay(titleText, lookup, false), Display.FoundEvents));
     }
 
     // MODIFIES: this
-    // EFFECTS: opens a search window for a date range
+    // EFFECTS: opens a search window for a date range and event name
     private void openFindWindow() {
         FindFrame findFrame = new FindFrame(this);
     }
@@ -691,8 +796,9 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     }
 
     // MODIFIES: this
-    // EFFECTS: creates a panel with a list of events in the schedule
-    private JPanel createEventsDisplay(LocalDate startDate, LocalDate endDate) {
+    // EFFECTS: looks up the events in the schedule between the dates in the background, then shows them as display
+    private void showEventsDisplay(LocalDate startDate, LocalDate endDate, Display display) {
+        currentDisplay = display;
         boolean isDate = startDate.equals(endDate);
         String titleText = "";
         if (!isDate && startDate.equals(LocalDate.MIN) && endDate.equals(LocalDate.MAX)) {
@@ -700,77 +806,75 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         } else {
             titleText = formatEventTextFor(startDate, endDate);
         }
-        List<DateEvent> dateEvents = currentSchedule.getDateEventsBetweenDates(startDate, endDate);
-        List<RepeatEvent> repeatEvents = currentSchedule.getRepeatEventsBetweenDates(startDate, endDate);
-        return createEventsDisplay(titleText, dateEvents, repeatEvents, isDate);
+        String title = titleText;
+        HolidaysContainer holidays = currentHolidays;
+        boolean showHolidays = isDate && currentSettings.isShowHolidaysOnEvents();
+        queries.submit(() -> {
+            List<MultiEvent> holidaysForDate;
+            if (showHolidays) {
+                holidaysForDate = holidays.getHolidayForDate(startDate);
+            } else {
+                holidaysForDate = new ArrayList<>();
+            }
+            return currentSchedule.read(schedule -> new EventLookup(
+                    schedule.getDateEventsBetweenDates(startDate, endDate),
+                    new ArrayList<>(schedule.getRepeatEventsBetweenDates(startDate, endDate)), holidaysForDate));
+        }, lookup -> changeCentreComponentTo(createEventsDisplay(title, lookup, isDate), display));
     }
 
     // MODIFIES: this
-    // EFFECTS: create a panel with a list of events in the schedule
-    private JPanel createEventsDisplay(String titleText, List<DateEvent> dateEvents, List<RepeatEvent> repeatEvents,
-                                       boolean isDate) {
+    // EFFECTS: create a panel with a list of the events of lookup
+    private JPanel createEventsDisplay(String titleText, EventLookup lookup, boolean isDate) {
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(BG_PANEL_COLOR);
         mainPanel.add(new TitleLabel(titleText), BorderLayout.PAGE_START);
-        List<MultiEvent> holidays = new ArrayList<>();
         if (isDate) {
             mainPanel.add(createToolPanel(e -> showEventsForDate(selectedDate.minusDays(1)),
                     e -> showEventsForDate(selectedDate.plusDays(1))), BorderLayout.PAGE_END);
-            if (currentSettings.isShowHolidaysOnEvents()) {
-                holidays = currentHolidays.getHolidayForDate(selectedDate);
-            }
         }
-        if (dateEvents.size() + repeatEvents.size() < 1 && holidays.size() < 1) {
+        if (lookup.dateEvents.size() + lookup.repeatEvents.size() < 1 && lookup.holidays.size() < 1) {
             mainPanel.add(new JLabel("No Events...", SwingConstants.CENTER), BorderLayout.CENTER);
         } else {
-            mainPanel.add(createScrollableEventList(dateEvents, repeatEvents, holidays, isDate), BorderLayout.CENTER);
+            mainPanel.add(createScrollableEventList(lookup.dateEvents, lookup.repeatEvents, lookup.holidays, isDate),
+                    BorderLayout.CENTER);
         }
         return mainPanel;
     }
 
-    // EFFECTS: create a scrollable list of events
+    // EFFECTS: create a scrollable list of events, only the events in view have panels made for them
     private JScrollPane createScrollableEventList(List<DateEvent> dateEvents, List<RepeatEvent> repeatEvents,
                                                   List<MultiEvent> holidays, boolean isDate) {
-        JPanel listPanel = new JPanel();
+        EventListPanel listPanel = new EventListPanel(this, getCurrentDate(), currentSettings.isDimPastEvents(),
+                !isDate);
         JScrollPane scrollPane = new JScrollPane(listPanel);
         // For some reason, the scroll pane creates a horizontal scroll bar for an event name label
         // with the size of its text without truncating, creating empty space. Better to just disable.
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setBorder(null);
-        listPanel.setLayout(new BoxLayout(listPanel, BoxLayout.PAGE_AXIS));
         addHolidayLabels(holidays, listPanel);
-        addEventPanels(dateEvents, repeatEvents, listPanel, holidays.size() >= 1, isDate);
+        addEventPanels(dateEvents, repeatEvents, listPanel, holidays.size() >= 1);
         return scrollPane;
     }
 
     // MODIFIES: listPanel
-    // EFFECTS: adds EventPanels of events in the schedule to listPanel
+    // EFFECTS: adds rows for the events in the schedule to listPanel under titles
     private void addEventPanels(List<DateEvent> dateEvents, List<RepeatEvent> repeatEvents,
-                                JPanel listPanel, boolean addTop, boolean isDate) {
+                                EventListPanel listPanel, boolean addTop) {
         if (repeatEvents.size() >= 1) {
-            listPanel.add(new TitleLabel("Repeat Events", false, addTop, true));
-        }
-        for (int i = 0; i < repeatEvents.size() && i < 100; i++) {
-            EventPanel eventPanel = new RepeatEventPanel(this, listPanel, repeatEvents.get(i), true);
-            eventPanel.setMaximumSize(new Dimension(WIDTH, eventPanel.getMaximumSize().height));
-            listPanel.add(eventPanel);
+            listPanel.addRow(new TitleLabel("Repeat Events", false, addTop, true));
         }
+        listPanel.addEventRows(repeatEvents);
         if (dateEvents.size() >= 1) {
-            listPanel.add(new TitleLabel("Date Events", false, repeatEvents.size() >= 1, true));
-        }
-        for (int i = 0; i < dateEvents.size() && i < 100; i++) {
-            EventPanel eventPanel = new DateEventPanel(this, listPanel, dateEvents.get(i),
-                    getCurrentDate(), currentSettings.isDimPastEvents(), !isDate);
-            eventPanel.setMaximumSize(new Dimension(WIDTH, eventPanel.getMaximumSize().height));
-            listPanel.add(eventPanel);
+            listPanel.addRow(new TitleLabel("Date Events", false, repeatEvents.size() >= 1, true));
         }
+        listPanel.addEventRows(dateEvents);
     }
 
     // MODIFIES: listPanel
     // EFFECTS: adds labels for holidays to the list panel
-    private void addHolidayLabels(List<MultiEvent> holidays, JPanel listPanel) {
+    private void addHolidayLabels(List<MultiEvent> holidays, EventListPanel listPanel) {
         if (holidays.size() >= 1) {
-            listPanel.add(new TitleLabel("Holidays", false));
+            listPanel.addRow(new TitleLabel("Holidays", false));
         }
         for (MultiEvent holiday : holidays) {
             JPanel panel = new JPanel(new BorderLayout());
@@ -781,7 +885,7 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
             panel.setMaximumSize(panel.getPreferredSize());
             panel.setAlignmentX(Component.LEFT_ALIGNMENT);
             panel.setOpaque(false);
-            listPanel.add(panel);
+            listPanel.addRow(panel);
         }
     }
 
@@ -804,24 +908,33 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     }
 
     // MODIFIES: this
-    // EFFECTS: shows the holiday display
+    // EFFECTS: looks up the holidays of the selected year in the background, then shows the holiday display
     private void showHolidays() {
+        currentDisplay = Display.Holidays;
+        int year = selectedHolidaysYear;
+        LocalDate currentDate = getCurrentDate();
+        boolean doDim = currentSettings.isDimPastEvents();
+        HolidaysContainer holidays = currentHolidays;
+        queries.submit(() -> holidays.getFormattedHolidaysText(year, currentDate, doDim),
+                holidayText -> changeCentreComponentTo(createHolidaysDisplay(year, holidayText), Display.Holidays));
+    }
+
+    // EFFECTS: creates the holiday display for year showing holidayText
+    private JPanel createHolidaysDisplay(int year, String holidayText) {
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(BG_PANEL_COLOR);
-        String holidayText = currentHolidays.getFormattedHolidaysText(selectedHolidaysYear, getCurrentDate(),
-                currentSettings.isDimPastEvents());
         JLabel holidayListLabel = new JLabel(holidayText);
         holidayListLabel.setVerticalAlignment(SwingConstants.TOP);
         holidayListLabel.setHorizontalAlignment(SwingConstants.LEFT);
         JScrollPane scrollPane = new JScrollPane(holidayListLabel);
-        mainPanel.add(new TitleLabel("Holidays for " + selectedHolidaysYear), BorderLayout.PAGE_START);
+        mainPanel.add(new TitleLabel("Holidays for " + year), BorderLayout.PAGE_START);
         mainPanel.add(scrollPane, BorderLayout.CENTER);
         mainPanel.add(createToolPanel(e -> moveHolidaysYear(-1), e -> moveHolidaysYear(1)),
                 BorderLayout.PAGE_END);
-        changeCentreComponentTo(mainPanel, Display.Holidays);
         scrollPane.setBorder(null);
         holidayListLabel.setBackground(BG_PANEL_COLOR);
         holidayListLabel.setOpaque(true);
+        return mainPanel;
     }
 
     // MODIFIES: this
@@ -852,7 +965,12 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
     // EFFECTS: applies settings, return true if it could be saved to disk
     public boolean applySettings(Settings newSettings) {
         currentSettings.copy(newSettings);
-        currentHolidays.setSettings(currentSettings.isMergeHoliday(), currentSettings.isLoadHolidaysFromWeb());
+        synchronized (currentHolidays) {
+            currentHolidays.setSettings(currentSettings.isMergeHoliday(), currentSettings.isLoadHolidaysFromWeb());
+            currentHolidays.setCountries(currentSettings.getHolidayCountryList());
+        }
+        monthCache.invalidate();
+        prefetchHolidays();
         return currentSettings.save();
     }
 
@@ -866,9 +984,23 @@ public class VisualEditor extends JFrame implements SaveLoadSystem, FormatterPat
         mainPanel.add(new TitleLabel("Help"), BorderLayout.PAGE_START);
         mainPanel.add(textLabel, BorderLayout.CENTER);
         mainPanel.setBackground(BG_PANEL_COLOR);
+        queries.cancel();
         changeCentreComponentTo(mainPanel, Display.Help);
     }
 
+    // The events found for an events display
+    private static class EventLookup {
+        private final List<DateEvent> dateEvents;
+        private final List<RepeatEvent> repeatEvents;
+        private final List<MultiEvent> holidays;
+
+        private EventLookup(List<DateEvent> dateEvents, List<RepeatEvent> repeatEvents, List<MultiEvent> holidays) {
+            this.dateEvents = dateEvents;
+            this.repeatEvents = repeatEvents;
+            this.holidays = holidays;
+        }
+    }
+
     public static void main(String[] args) {
         try {
             new VisualEditor("Calendar");
@@ -1,6 +1,7 @@
 package ui.components.base;
 
 import model.*;
+import model.occurrence.Occurrence;
 import ui.VisualEditor;
 import ui.components.input.*;
 
@@ -8,6 +9,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
+import java.util.List;
 
 public class EventCreatorFrame extends JFrame {
     private enum EventType {
@@ -171,23 +173,53 @@ public class EventCreatorFrame extends JFrame {
                 setStartTimeInputPanel.getTime(), setEndTimeInputPanel.getTime());
     }
 
-    // EFFECTS: creates an event of type from currently set editing panels
+    // EFFECTS: returns an event of the selected type from currently set editing panels
+    private ScheduleEvent createEvent() {
+        switch ((String) typeBox.getSelectedItem()) {
+            case "Date":
+                return createDateEvent();
+            case "Weekly":
+                return createWeeklyEvent();
+            default:
+                return createMonthlyEvent();
+        }
+    }
+
+    // EFFECTS: returns the event being replaced by the one from the editor, or null if it is a new event
+    protected ScheduleEvent getReplacedEvent() {
+        return null;
+    }
+
+    // EFFECTS: returns a warning about the events that event overlaps, or an empty string if there are none
+    private String createConflictWarning(ScheduleEvent event) {
+        List<Occurrence> conflicts = visualEditor.getConflictsWith(event, getReplacedEvent());
+        if (conflicts.isEmpty()) {
+            return "";
+        }
+        Occurrence first = conflicts.get(0);
+        return "*Overlaps " + first.getName() + " on " + first.getDate().format(FormatterPattern.DATE_FORMATTER)
+                + (conflicts.size() > 1 ? " and " + (conflicts.size() - 1) + " more" : "")
+                + ", press again to keep";
+    }
+
+    // EFFECTS: creates an event of type from currently set editing panels,
+    //          warning once first if it overlaps other events
     private void createEventFromEditor() {
         if (setNameInputPanel.getName().length() < 1) {
             changeWarning("*Add a name for the event");
             return;
         }
+        ScheduleEvent event = createEvent();
+        String conflictWarning = createConflictWarning(event);
+        if (!conflictWarning.isEmpty() && !conflictWarning.equals(warningLabel.getText())) {
+            changeWarning(conflictWarning);
+            return;
+        }
         changeWarning("");
-        switch ((String) typeBox.getSelectedItem()) {
-            case "Date":
-                visualEditor.addEvent(createDateEvent());
-                break;
-            case "Weekly":
-                visualEditor.addEvent(createWeeklyEvent());
-                break;
-            default:
-                visualEditor.addEvent(createMonthlyEvent());
-                break;
+        if (event instanceof DateEvent) {
+            visualEditor.addEvent((DateEvent) event);
+        } else {
+            visualEditor.addEvent((RepeatEvent) event);
         }
         giveBackFrame();
         dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
@@ -1,5 +1,6 @@
 package ui.components.base;
 
+import model.ScheduleEvent;
 import ui.components.display.EventPanel;
 import ui.VisualEditor;
 
@@ -14,6 +15,12 @@ public class EventEditorFrame extends EventCreatorFrame {
         setValues(eventPanel.getScheduleEvent());
     }
 
+    // EFFECTS: returns the event being edited, which is replaced once the changes are applied
+    @Override
+    protected ScheduleEvent getReplacedEvent() {
+        return eventPanel.getScheduleEvent();
+    }
+
     // MODIFIES: visualEditor
     // EFFECTS: gives back control to visualEditor
     //          and removes the eventPanel from it
@@ -2,6 +2,7 @@ package ui.components.base;
 
 import ui.VisualEditor;
 import ui.components.input.DateInputPanel;
+import ui.components.input.NameInputPanel;
 
 import javax.swing.*;
 import java.awt.*;
@@ -9,12 +10,14 @@ import java.awt.event.WindowEvent;
 import java.time.LocalDate;
 
 public class FindFrame extends JFrame {
-    private static final int HEIGHT = 180;
+    private static final int HEIGHT = 250;
     private static final int WIDTH = 400;
 
     private VisualEditor editor;
     private DateInputPanel startDatePanel;
     private DateInputPanel endDatePanel;
+    private NameInputPanel namePanel;
+    private JCheckBox wholeNameBox;
 
     public FindFrame(VisualEditor editor) {
         this.editor = editor;
@@ -32,11 +35,16 @@ public class FindFrame extends JFrame {
         JPanel mainPanel = new JPanel();
         startDatePanel = new DateInputPanel("From: ", editor.pickingDate());
         endDatePanel = new DateInputPanel("To: ", editor.pickingDate());
+        namePanel = new NameInputPanel();
+        wholeNameBox = new JCheckBox("Whole name");
+        wholeNameBox.setOpaque(false);
         JButton matchDateButton = new JButton("Match Date");
         matchDateButton.addActionListener(e -> endDatePanel.setDate(startDatePanel.getDate()));
         mainPanel.add(startDatePanel);
         mainPanel.add(endDatePanel);
         mainPanel.add(matchDateButton);
+        mainPanel.add(namePanel);
+        mainPanel.add(wholeNameBox);
         mainPanel.setOpaque(false);
         JButton bottomButton = new JButton("Find");
         bottomButton.addActionListener(e -> findEventInEditor());
@@ -52,14 +60,21 @@ public class FindFrame extends JFrame {
     }
 
     // MODIFIES: this
-    // EFFECTS: closes this frame and finds the events in editor
+    // EFFECTS: closes this frame and finds the events in editor, only those with the name entered if there is one,
+    //          named exactly that if whole name is checked
     private void findEventInEditor() {
         LocalDate startDate = startDatePanel.getDate();
         LocalDate endDate = endDatePanel.getDate();
-        if (endDate.isAfter(startDate)) {
+        if (endDate.isBefore(startDate)) {
+            LocalDate swap = startDate;
+            startDate = endDate;
+            endDate = swap;
+        }
+        String name = namePanel.getName().trim();
+        if (name.isEmpty()) {
             editor.showEventsForDates(startDate, endDate);
         } else {
-            editor.showEventsForDates(endDate, startDate);
+            editor.showEventsNamed(name, wholeNameBox.isSelected(), startDate, endDate);
         }
         editor.refresh();
         dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
@@ -1,17 +1,20 @@
 package ui.components.base;
 
+import model.SaveFormat;
 import model.Settings;
 import ui.VisualEditor;
 import ui.components.input.ColorInputPanel;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ItemEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
 public class SettingsFrame extends JFrame {
-    private static final int HEIGHT = 400;
+    private static final int HEIGHT = 480;
     private static final int WIDTH = 400;
     private static final String SAVE_ERROR_MESSAGE = "<html>You settings could not be saved to your settings file.<br>"
             + "Make sure you have a " + Settings.DEFAULT_DIRECTORY + " directory next to your application.</html>";
@@ -154,9 +157,23 @@ public class SettingsFrame extends JFrame {
                 settings.setLoadOnStart(e.getStateChange() == ItemEvent.SELECTED));
         colorChooser.setAlignmentX(Component.LEFT_ALIGNMENT);
         addFilePicker(listPanel, settings);
+        addFormatPicker(listPanel, settings);
         listPanel.add(colorChooser);
     }
 
+    // MODIFIES: listPanel, settings
+    // EFFECTS: creates the panel for selecting the format the save file is written in
+    private void addFormatPicker(JPanel listPanel, Settings settings) {
+        JLabel label = new JLabel("  File Format");
+        JComboBox<SaveFormat> formatBox = new JComboBox<>(SaveFormat.values());
+        formatBox.setSelectedItem(settings.getSaveFormat());
+        formatBox.addActionListener(e -> settings.setSaveFormat((SaveFormat) formatBox.getSelectedItem()));
+        formatBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+        listPanel.add(label);
+        listPanel.add(formatBox);
+        formatBox.setMaximumSize(new Dimension(WIDTH, formatBox.getPreferredSize().height));
+    }
+
     // MODIFIES: listPanel, settings
     // EFFECTS: create the panel for selecting file
     private void addFilePicker(JPanel listPanel, Settings settings) {
@@ -179,11 +196,15 @@ public class SettingsFrame extends JFrame {
         flipTextBox.setSelected(settings.isFlipTextColor());
         bwBox.addItemListener(e -> settings.setBwMode(e.getStateChange() == ItemEvent.SELECTED));
         flipTextBox.addItemListener(e -> settings.setFlipTextColor(e.getStateChange() == ItemEvent.SELECTED));
+        JCheckBox paintedBox = new JCheckBox("Draw calendar without buttons");
+        paintedBox.setSelected(settings.isPaintedCalendar());
+        paintedBox.addItemListener(e -> settings.setPaintedCalendar(e.getStateChange() == ItemEvent.SELECTED));
         ColorInputPanel colorChooser = new ColorInputPanel("Highlight color:", settings.getHighlightColor());
         colorChooser.addActionListener(e -> settings.setHighlightColor(colorChooser.getColor()));
         listPanel.add(bwBox);
         listPanel.add(colorChooser);
         listPanel.add(flipTextBox);
+        listPanel.add(paintedBox);
         colorChooser.setAlignmentX(Component.LEFT_ALIGNMENT);
     }
 
@@ -229,5 +250,33 @@ public class SettingsFrame extends JFrame {
         listPanel.add(inEventsBox);
         listPanel.add(mergeBox);
         listPanel.add(webBox);
+        addCountriesField(listPanel, settings);
+    }
+
+    // MODIFIES: listPanel, settings
+    // EFFECTS: creates the field for the countries to show holidays of
+    private void addCountriesField(JPanel listPanel, Settings settings) {
+        JLabel label = new JLabel("  Holiday countries (e.g. CA, US)");
+        JTextField countriesField = new JTextField(settings.getHolidayCountries());
+        countriesField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                settings.setHolidayCountries(countriesField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                settings.setHolidayCountries(countriesField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                settings.setHolidayCountries(countriesField.getText());
+            }
+        });
+        countriesField.setAlignmentX(Component.LEFT_ALIGNMENT);
+        listPanel.add(label);
+        listPanel.add(countriesField);
+        countriesField.setMaximumSize(new Dimension(WIDTH, countriesField.getPreferredSize().height));
     }
 }
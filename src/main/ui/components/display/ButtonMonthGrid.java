@@ -0,0 +1,102 @@
+package ui.components.display;
+
+import ui.VisualEditor;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Month grid with a button for each date. The 42 boxes are made once; changing months only sets the text, colors
+// and borders that differ, and hides the buttons of boxes that are not in the month
+public class ButtonMonthGrid extends MonthGrid {
+    private static final Border NO_BORDER = BorderFactory.createEmptyBorder();
+
+    private final JPanel[] boxes;
+    private final JButton[] buttons;
+    private final String[] texts;
+    private final Map<Integer, Border> borders;
+
+    public ButtonMonthGrid(Consumer<LocalDate> onDatePicked) {
+        super(onDatePicked);
+        setLayout(new GridLayout(ROWS, COLUMNS, GAP, GAP));
+        boxes = new JPanel[CELLS];
+        buttons = new JButton[CELLS];
+        texts = new String[CELLS];
+        borders = new HashMap<>();
+        for (int i = 0; i < CELLS; i++) {
+            int cell = i;
+            buttons[i] = new JButton();
+            buttons[i].setHorizontalAlignment(SwingConstants.LEFT);
+            buttons[i].setVerticalAlignment(SwingConstants.TOP);
+            buttons[i].setOpaque(true);
+            buttons[i].addActionListener(e -> pick(cell));
+            boxes[i] = new JPanel(new BorderLayout());
+            boxes[i].setBackground(VisualEditor.ELEMENT_COLOR);
+            boxes[i].add(buttons[i], BorderLayout.CENTER);
+            add(boxes[i]);
+        }
+    }
+
+    // EFFECTS: returns the button of cell, for tests
+    JButton getButton(int cell) {
+        return buttons[cell];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: brings each box up to date with the month shown
+    @Override
+    protected void updateCells() {
+        for (int i = 0; i < CELLS; i++) {
+            int day = dayAt(i);
+            if (isInMonth(day)) {
+                updateDateBox(i, day);
+            } else {
+                updateEmptyBox(i);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows day in the box of cell
+    private void updateDateBox(int cell, int day) {
+        JButton button = buttons[cell];
+        String text = "<html>&nbsp;" + textOf(day) + "</html>";
+        if (!text.equals(texts[cell])) {
+            texts[cell] = text;
+            button.setText(text);
+        }
+        button.setForeground(foregroundOf(day));
+        button.setBackground(backgroundOf(day));
+        int border = DRAW_FULL_BORDER ? 1 : 0;
+        button.setBorder(matteBorder(1, cell % COLUMNS == 0 ? border : 0, cell / COLUMNS == ROWS - 1 ? border : 0,
+                border));
+        button.setVisible(true);
+        boxes[cell].setOpaque(true);
+        boxes[cell].setBorder(NO_BORDER);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the box of cell as a filler box
+    private void updateEmptyBox(int cell) {
+        buttons[cell].setVisible(false);
+        boxes[cell].setOpaque(false);
+        if (isEmptyDrawRight(cell)) {
+            boxes[cell].setBorder(matteBorder(0, 0, 0, 1));
+        } else if (isEmptyDrawTop(cell)) {
+            boxes[cell].setBorder(matteBorder(1, 0, 0, 0));
+        } else {
+            boxes[cell].setBorder(NO_BORDER);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a black matte border with the given widths, shared by all boxes that use it
+    private Border matteBorder(int top, int left, int bottom, int right) {
+        return borders.computeIfAbsent(top << 12 | left << 8 | bottom << 4 | right,
+                k -> BorderFactory.createMatteBorder(top, left, bottom, right, Color.BLACK));
+    }
+}
@@ -0,0 +1,226 @@
+package ui.components.display;
+
+import model.DateEvent;
+import model.RepeatEvent;
+import model.ScheduleEvent;
+import ui.VisualEditor;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.List;
+
+// Scrollable list of rows that only makes the EventPanels of events in view (and a few rows around them),
+// so that showing a list costs the same for a hundred events as for a hundred thousand.
+// Rows that are components (titles, holidays) are kept as they are; event rows of the same type are assumed to be
+// as tall as the first panel made for that type.
+public class EventListPanel extends JPanel implements Scrollable {
+    // rows made above and below the ones in view, so that scrolling a little shows no gap
+    private static final int OVERSCAN_ROWS = 4;
+    private static final int DEFAULT_UNIT_INCREMENT = 16;
+
+    private final VisualEditor editor;
+    private final LocalDate currentDate;
+    private final boolean doDim;
+    private final boolean atTimeScale;
+    private final List<Object> rows;
+    private final Map<Class<?>, Integer> eventHeights;
+    private final Map<Integer, Component> shownRows;
+    // y of the top of each row, then the height of the whole list; null when rows have changed since
+    private int[] rowTops;
+
+    public EventListPanel(VisualEditor editor, LocalDate currentDate, boolean doDim, boolean atTimeScale) {
+        super(null);
+        this.editor = editor;
+        this.currentDate = currentDate;
+        this.doDim = doDim;
+        this.atTimeScale = atTimeScale;
+        rows = new ArrayList<>();
+        eventHeights = new HashMap<>();
+        shownRows = new TreeMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds component as a row at the end of the list
+    public void addRow(Component component) {
+        rows.add(component);
+        rowTops = null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a row at the end of the list for each of events, their panels are made once scrolled into view
+    public void addEventRows(List<? extends ScheduleEvent> events) {
+        rows.addAll(events);
+        rowTops = null;
+    }
+
+    // EFFECTS: returns the number of rows, including those not in view
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes component, and the row it shows if it is one of the rows in view
+    @Override
+    public void remove(Component component) {
+        for (Map.Entry<Integer, Component> entry : shownRows.entrySet()) {
+            if (entry.getValue() == component) {
+                removeRow(entry.getKey());
+                return;
+            }
+        }
+        super.remove(component);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: places the rows in view, making the ones that are not yet made
+    @Override
+    public void doLayout() {
+        showVisibleRows();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        return new Dimension(VisualEditor.WIDTH, getRowTops()[rows.size()]);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves and resizes this, which is how a viewport scrolls it, then shows the rows now in view
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        showVisibleRows();
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        if (orientation == SwingConstants.HORIZONTAL || rows.isEmpty()) {
+            return DEFAULT_UNIT_INCREMENT;
+        }
+        int[] tops = getRowTops();
+        int row = rowAt(visibleRect.y);
+        return tops[row + 1] - tops[row];
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && getParent().getHeight() > getPreferredSize().height;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the rows in view and around them, drops the other rows that were made, and places them all
+    private void showVisibleRows() {
+        int[] tops = getRowTops();
+        if (rows.isEmpty()) {
+            return;
+        }
+        Rectangle visible = getVisibleRect();
+        int first = Math.max(0, rowAt(visible.y) - OVERSCAN_ROWS);
+        int last = Math.min(rows.size() - 1, rowAt(visible.y + visible.height) + OVERSCAN_ROWS);
+        Iterator<Map.Entry<Integer, Component>> iterator = shownRows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Component> entry = iterator.next();
+            if (entry.getKey() < first || entry.getKey() > last) {
+                super.remove(entry.getValue());
+                iterator.remove();
+            }
+        }
+        int width = Math.min(getWidth(), VisualEditor.WIDTH);
+        for (int i = first; i <= last; i++) {
+            Component component = shownRows.get(i);
+            if (component == null) {
+                component = createRow(rows.get(i));
+                shownRows.put(i, component);
+                add(component);
+            }
+            component.setBounds(0, tops[i], width, tops[i + 1] - tops[i]);
+        }
+        repaint();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the row at index for good and redoes the layout
+    private void removeRow(int index) {
+        rows.remove(index);
+        for (Component component : shownRows.values()) {
+            super.remove(component);
+        }
+        shownRows.clear();
+        rowTops = null;
+        revalidate();
+        repaint();
+    }
+
+    // EFFECTS: returns the component that shows row
+    private Component createRow(Object row) {
+        if (row instanceof DateEvent) {
+            return new DateEventPanel(editor, this, (DateEvent) row, currentDate, doDim, atTimeScale);
+        } else if (row instanceof RepeatEvent) {
+            return new RepeatEventPanel(editor, this, (RepeatEvent) row, true);
+        }
+        return (Component) row;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the height of row, making a panel to measure the first event row of each type
+    private int heightOf(Object row) {
+        if (row instanceof Component) {
+            return ((Component) row).getPreferredSize().height;
+        }
+        Class<?> type = row instanceof DateEvent ? DateEvent.class : RepeatEvent.class;
+        Integer height = eventHeights.get(type);
+        if (height == null) {
+            height = createRow(row).getPreferredSize().height;
+            eventHeights.put(type, height);
+        }
+        return height;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the top of each row followed by the height of the list, working them out if rows changed
+    private int[] getRowTops() {
+        if (rowTops == null) {
+            rowTops = new int[rows.size() + 1];
+            for (int i = 0; i < rows.size(); i++) {
+                rowTops[i + 1] = rowTops[i] + heightOf(rows.get(i));
+            }
+        }
+        return rowTops;
+    }
+
+    // REQUIRES: there is at least one row
+    // EFFECTS: returns the row at height y, or the closest row if y is outside the list
+    private int rowAt(int y) {
+        int[] tops = getRowTops();
+        int start = 0;
+        int end = rows.size() - 1;
+        while (start < end) {
+            int picker = (start + end + 1) >>> 1;
+            if (tops[picker] <= y) {
+                start = picker;
+            } else {
+                end = picker - 1;
+            }
+        }
+        return start;
+    }
+}
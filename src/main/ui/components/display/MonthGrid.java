@@ -0,0 +1,107 @@
+package ui.components.display;
+
+import ui.VisualEditor;
+import utilities.TimeUtility;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
+// Grid of the 6 weeks of boxes of a month calendar that stays on screen while the month changes;
+// setMonth only updates what differs from the month shown, subclasses decide how the boxes are drawn
+public abstract class MonthGrid extends JPanel {
+    public static final int ROWS = 6;
+    public static final int COLUMNS = 7;
+    public static final int CELLS = ROWS * COLUMNS;
+    protected static final int GAP = 0;
+    protected static final boolean DRAW_FULL_BORDER = true;
+
+    private final Consumer<LocalDate> onDatePicked;
+    private YearMonth yearMonth;
+    private int eventDays;
+    private int holidayDays;
+    private int today;
+    private Color highlightColor;
+    private boolean flipTextColor;
+
+    public MonthGrid(Consumer<LocalDate> onDatePicked) {
+        this.onDatePicked = onDatePicked;
+        setBackground(VisualEditor.BG_PANEL_COLOR);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows yearMonth, eventDays and holidayDays are day masks of it and today is the day of the month
+    //          that is today or -1, days with events are filled with highlightColor and have white text if
+    //          flipTextColor is true
+    public void setMonth(YearMonth yearMonth, int eventDays, int holidayDays, int today,
+                         Color highlightColor, boolean flipTextColor) {
+        this.yearMonth = yearMonth;
+        this.eventDays = eventDays;
+        this.holidayDays = holidayDays;
+        this.today = today;
+        this.highlightColor = highlightColor;
+        this.flipTextColor = flipTextColor;
+        updateCells();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: brings the cells up to date with the month shown
+    protected abstract void updateCells();
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    // EFFECTS: returns the day of the month shown in cell, which is less than 1 or more than the length of the
+    //          month for cells before or after it
+    protected int dayAt(int cell) {
+        return cell - yearMonth.atDay(1).getDayOfWeek().getValue() + 1;
+    }
+
+    // EFFECTS: returns true if day is in the month shown
+    protected boolean isInMonth(int day) {
+        return day >= 1 && day <= yearMonth.lengthOfMonth();
+    }
+
+    // REQUIRES: isInMonth(day)
+    // EFFECTS: returns the text of the box for day
+    protected String textOf(int day) {
+        return day + (TimeUtility.isDaySet(holidayDays, day) ? "*" : "");
+    }
+
+    // REQUIRES: isInMonth(day)
+    // EFFECTS: returns the color the box for day is filled with
+    protected Color backgroundOf(int day) {
+        if (day == today) {
+            return VisualEditor.TODAY_HL_COLOR;
+        }
+        return TimeUtility.isDaySet(eventDays, day) ? highlightColor : VisualEditor.ELEMENT_COLOR;
+    }
+
+    // REQUIRES: isInMonth(day)
+    // EFFECTS: returns the color of the text of the box for day
+    protected Color foregroundOf(int day) {
+        return (TimeUtility.isDaySet(eventDays, day) || day == today) && flipTextColor ? Color.WHITE : Color.BLACK;
+    }
+
+    // EFFECTS: returns true if the empty cell should have a line on its right, next to the first day of the month
+    protected boolean isEmptyDrawRight(int cell) {
+        return dayAt(cell) == 0 && cell % COLUMNS < COLUMNS - 1;
+    }
+
+    // EFFECTS: returns true if the empty cell should have a line on its top, under the last week of the month
+    protected boolean isEmptyDrawTop(int cell) {
+        int day = dayAt(cell);
+        return day > yearMonth.lengthOfMonth() && day - COLUMNS <= yearMonth.lengthOfMonth();
+    }
+
+    // EFFECTS: tells the listener that the date in cell was picked, if there is one
+    protected void pick(int cell) {
+        int day = dayAt(cell);
+        if (yearMonth != null && isInMonth(day)) {
+            onDatePicked.accept(yearMonth.atDay(day));
+        }
+    }
+}
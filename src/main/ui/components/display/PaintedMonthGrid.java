@@ -0,0 +1,120 @@
+package ui.components.display;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+// Month grid drawn as a single component: every box and line is painted in one pass and a click is mapped to the
+// box under it, so changing months makes no components at all
+public class PaintedMonthGrid extends MonthGrid {
+    private static final int TEXT_INSET = 4;
+
+    public PaintedMonthGrid(Consumer<LocalDate> onDatePicked) {
+        super(onDatePicked);
+        setOpaque(true);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (SwingUtilities.isLeftMouseButton(e)) {
+                    int cell = cellAt(e.getX(), e.getY());
+                    if (cell >= 0) {
+                        pick(cell);
+                    }
+                }
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: repaints the grid for the month shown
+    @Override
+    protected void updateCells() {
+        repaint();
+    }
+
+    // EFFECTS: returns the cell at x, y in this, or -1 if it is outside the grid
+    public int cellAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= getWidth() || y >= getHeight()) {
+            return -1;
+        }
+        int column = 0;
+        while (cellX(column + 1) <= x) {
+            column++;
+        }
+        int row = 0;
+        while (cellY(row + 1) <= y) {
+            row++;
+        }
+        return row * COLUMNS + column;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (getYearMonth() == null) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontMetrics metrics = g2.getFontMetrics(getFont());
+        g2.setFont(getFont());
+        for (int i = 0; i < CELLS; i++) {
+            int left = cellX(i % COLUMNS);
+            int top = cellY(i / COLUMNS);
+            int width = cellX(i % COLUMNS + 1) - left - GAP;
+            int height = cellY(i / COLUMNS + 1) - top - GAP;
+            int day = dayAt(i);
+            if (isInMonth(day)) {
+                paintDateBox(g2, metrics, i, day, left, top, width, height);
+            } else {
+                paintEmptyBox(g2, i, left, top, width, height);
+            }
+        }
+        g2.dispose();
+    }
+
+    // MODIFIES: g
+    // EFFECTS: paints the box of day with the same lines as a date button
+    private void paintDateBox(Graphics2D g, FontMetrics metrics, int cell, int day,
+                              int left, int top, int width, int height) {
+        g.setColor(backgroundOf(day));
+        g.fillRect(left, top, width, height);
+        g.setColor(Color.BLACK);
+        g.drawLine(left, top, left + width - 1, top);
+        if (DRAW_FULL_BORDER) {
+            g.drawLine(left + width - 1, top, left + width - 1, top + height - 1);
+            if (cell % COLUMNS == 0) {
+                g.drawLine(left, top, left, top + height - 1);
+            }
+            if (cell / COLUMNS == ROWS - 1) {
+                g.drawLine(left, top + height - 1, left + width - 1, top + height - 1);
+            }
+        }
+        g.setColor(foregroundOf(day));
+        g.drawString(textOf(day), left + TEXT_INSET + metrics.charWidth(' '), top + 1 + metrics.getAscent());
+    }
+
+    // MODIFIES: g
+    // EFFECTS: paints the lines of the filler box of cell
+    private void paintEmptyBox(Graphics2D g, int cell, int left, int top, int width, int height) {
+        g.setColor(Color.BLACK);
+        if (isEmptyDrawRight(cell)) {
+            g.drawLine(left + width - 1, top, left + width - 1, top + height - 1);
+        } else if (isEmptyDrawTop(cell)) {
+            g.drawLine(left, top, left + width - 1, top);
+        }
+    }
+
+    // EFFECTS: returns the x of the left of column, or the width of the grid for COLUMNS
+    private int cellX(int column) {
+        return column * getWidth() / COLUMNS;
+    }
+
+    // EFFECTS: returns the y of the top of row, or the height of the grid for ROWS
+    private int cellY(int row) {
+        return row * getHeight() / ROWS;
+    }
+}
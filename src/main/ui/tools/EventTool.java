@@ -7,7 +7,7 @@ import ui.ScheduleEditor;
 import ui.exceptions.InvalidCommandException;
 import ui.exceptions.InvalidInputException;
 
-import java.util.List;
+import java.util.function.IntConsumer;
 
 import static ui.tools.EditorUtility.*;
 
@@ -51,7 +51,8 @@ public class EventTool extends EditorTool implements FormatterPattern {
                 displayAddDateEvent();
                 break;
             case "remove":
-                displayRemoveEvent(editor.getSchedule().getDateEvents());
+                displayRemoveEvent(editor.getSchedule().getDateEventsSize(),
+                        index -> editor.getSchedule().removeEvent(editor.getSchedule().getDateEvent(index)));
                 break;
             default:
                 throw new InvalidCommandException(fileCommand);
@@ -68,7 +69,8 @@ public class EventTool extends EditorTool implements FormatterPattern {
                 displayAddRepeatEvent();
                 break;
             case "remove":
-                displayRemoveEvent(editor.getSchedule().getRepeatEvents());
+                displayRemoveEvent(editor.getSchedule().getRepeatEventsSize(),
+                        index -> editor.getSchedule().removeEvent(editor.getSchedule().getRepeatEvent(index)));
                 break;
             default:
                 throw new InvalidCommandException(fileCommand);
@@ -108,11 +110,11 @@ public class EventTool extends EditorTool implements FormatterPattern {
     }
 
     // MODIFIES: this
-    // EFFECTS: asks for input to remove an event at index in events
-    private void displayRemoveEvent(List<?> events) {
+    // EFFECTS: asks for input to remove an event at index, of size events, using remover
+    private void displayRemoveEvent(int size, IntConsumer remover) {
         int index = askInt("Enter index of event: ");
-        if (events.size() > index) {
-            events.remove(index);
+        if (index >= 0 && size > index) {
+            remover.accept(index);
         } else {
             System.out.println("ERROR: Entered invalid index.");
         }
@@ -35,8 +35,7 @@ public class FileTool extends EditorTool implements SaveLoadSystem {
     public boolean load() {
         boolean success = true;
         try {
-            ScheduleContainer schedule = SaveLoadSystem.loadWithJackson(editor.getSaveFile(), ScheduleContainer.class);
-            schedule.sort();
+            ScheduleContainer schedule = SaveLoadSystem.loadSchedule(editor.getSaveFile());
             editor.setSchedule(schedule);
             System.out.println("Loading complete.");
         } catch (IOException e) {
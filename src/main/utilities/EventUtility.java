@@ -9,6 +9,91 @@ import java.util.ArrayList;
 import java.util.List;
 
 public final class EventUtility {
+    // REQUIRES: list is sorted
+    // EFFECTS: returns the index of the first element in list that is not less than key
+    public static <T extends Comparable<? super T>> int lowerBound(List<T> list, T key) {
+        int start = 0;
+        int end = list.size();
+        while (start < end) {
+            int picker = (start + end) >>> 1;
+            if (list.get(picker).compareTo(key) < 0) {
+                start = picker + 1;
+            } else {
+                end = picker;
+            }
+        }
+        return start;
+    }
+
+    // REQUIRES: list is sorted
+    // EFFECTS: returns the index of the first element in list that is greater than key,
+    //          which is where key can be inserted to keep list sorted and keep equal elements in insertion order
+    public static <T extends Comparable<? super T>> int upperBound(List<T> list, T key) {
+        int start = 0;
+        int end = list.size();
+        while (start < end) {
+            int picker = (start + end) >>> 1;
+            if (list.get(picker).compareTo(key) <= 0) {
+                start = picker + 1;
+            } else {
+                end = picker;
+            }
+        }
+        return start;
+    }
+
+    // REQUIRES: list is sorted
+    // EFFECTS: returns the index of element in list, preferring the same instance over an equal element,
+    //          or -1 if no equal element is in list
+    public static <T extends Comparable<? super T>> int indexOfSorted(List<T> list, T element) {
+        int first = lowerBound(list, element);
+        for (int i = first; i < list.size() && list.get(i).compareTo(element) == 0; i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        if (first < list.size() && list.get(first).compareTo(element) == 0) {
+            return first;
+        }
+        return -1;
+    }
+
+    // REQUIRES: existing and sortedAdditions are sorted
+    // EFFECTS: returns a sorted list of all elements in existing and sortedAdditions,
+    //          where equal elements from existing come before those from sortedAdditions
+    public static <T extends Comparable<? super T>> List<T> mergeSorted(List<T> existing, List<T> sortedAdditions) {
+        List<T> retVal = new ArrayList<>(existing.size() + sortedAdditions.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() && j < sortedAdditions.size()) {
+            if (sortedAdditions.get(j).compareTo(existing.get(i)) < 0) {
+                retVal.add(sortedAdditions.get(j++));
+            } else {
+                retVal.add(existing.get(i++));
+            }
+        }
+        retVal.addAll(existing.subList(i, existing.size()));
+        retVal.addAll(sortedAdditions.subList(j, sortedAdditions.size()));
+        return retVal;
+    }
+
+    // REQUIRES: existing and sortedAdditions are sorted
+    // MODIFIES: existing
+    // EFFECTS: adds sortedAdditions to existing while keeping it sorted,
+    //          appending directly if all of them come after the existing elements
+    public static <T extends Comparable<? super T>> void mergeIn(List<T> existing, List<T> sortedAdditions) {
+        if (sortedAdditions.isEmpty()) {
+            return;
+        }
+        if (existing.isEmpty() || existing.get(existing.size() - 1).compareTo(sortedAdditions.get(0)) <= 0) {
+            existing.addAll(sortedAdditions);
+        } else {
+            List<T> merged = mergeSorted(existing, sortedAdditions);
+            existing.clear();
+            existing.addAll(merged);
+        }
+    }
+
     // REQUIRES: leftIndex >= 0, rightIndex <= list.size() - 1
     // EFFECTS: returns a copy of the list with elements between leftIndex and rightIndex
     public static <T> List<T> trimList(int leftIndex, int rightIndex, List<T> original) {
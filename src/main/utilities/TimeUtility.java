@@ -6,37 +6,52 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.Locale;
 
 public final class TimeUtility {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long NANOS_PER_DAY = NANOS_PER_MINUTE * MINUTES_PER_DAY;
+    private static final LocalTime LAST_MINUTE = LocalTime.of(23, 59);
 
     // EFFECTS: returns sum of two LocalTime
     public static LocalTime addLocalTimes(LocalTime time1, LocalTime time2) throws TimeOverflowException {
-        if (diffLocalTimes(time1, LocalTime.of(23,59)).isBefore(time2)) {
+        if (diffNanos(time1, LAST_MINUTE) < time2.toNanoOfDay()) {
             throw new TimeOverflowException();
         }
-        return time1.plusHours(time2.getHour()).plusMinutes(time2.getMinute());
+        return LocalTime.ofNanoOfDay(sumNanos(time1, time2));
     }
 
     // EFFECTS: returns sum of two LocalTime for max of 23:59
     public static LocalTime addLocalTimesLimit(LocalTime time1, LocalTime time2) {
-        if (diffLocalTimes(time1, LocalTime.of(23,59)).isAfter(time2)) {
-            return time1.plusHours(time2.getHour()).plusMinutes(time2.getMinute());
+        if (diffNanos(time1, LAST_MINUTE) > time2.toNanoOfDay()) {
+            return LocalTime.ofNanoOfDay(sumNanos(time1, time2));
         } else {
-            return LocalTime.of(23,59);
+            return LAST_MINUTE;
         }
     }
 
     // EFFECTS: returns difference between two LocalTime as LocalTime
     public static LocalTime diffLocalTimes(LocalTime time1, LocalTime time2) {
+        return LocalTime.ofNanoOfDay(diffNanos(time1, time2));
+    }
+
+    // EFFECTS: returns the nanosecond of the day of the later time minus the hours and minutes of the earlier one
+    private static long diffNanos(LocalTime time1, LocalTime time2) {
         if (!time1.isAfter(time2)) {
-            return time2.minusHours(time1.getHour()).minusMinutes(time1.getMinute());
+            return time2.toNanoOfDay() - minuteOfDay(time1) * NANOS_PER_MINUTE;
         } else {
-            return time1.minusHours(time2.getHour()).minusMinutes(time2.getMinute());
+            return time1.toNanoOfDay() - minuteOfDay(time2) * NANOS_PER_MINUTE;
         }
     }
 
+    // EFFECTS: returns the nanosecond of the day of time1 plus the hours and minutes of time2, wrapping at midnight
+    private static long sumNanos(LocalTime time1, LocalTime time2) {
+        return (time1.toNanoOfDay() + minuteOfDay(time2) * NANOS_PER_MINUTE) % NANOS_PER_DAY;
+    }
+
     // EFFECTS: returns true if dateTime is contained within startDateTime and endDateTime inclusive, false otherwise
     public static boolean isBetweenDateTime(LocalDateTime dateTime, LocalDateTime startDateTime,
                                             LocalDateTime endDateTime) {
@@ -122,6 +137,61 @@ public final class TimeUtility {
         }
     }
 
+    // EFFECTS: returns the minutes passed since the start of the day for time
+    public static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    // EFFECTS: returns the minutes passed since the epoch (1970-01-01T00:00) for date at time
+    public static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + minuteOfDay(time);
+    }
+
+    // EFFECTS: returns the epoch minute of the start of date
+    public static long atStartOfDayEpochMinute(LocalDate date) {
+        return date.toEpochDay() * MINUTES_PER_DAY;
+    }
+
+    // EFFECTS: returns the epoch minute of the last minute of date
+    public static long atEndOfDayEpochMinute(LocalDate date) {
+        return date.toEpochDay() * MINUTES_PER_DAY + MINUTES_PER_DAY - 1;
+    }
+
+    // REQUIRES: 1 <= dayOfMonth <= 31
+    // EFFECTS: returns a day mask with only dayOfMonth set, bit (dayOfMonth - 1) stands for dayOfMonth
+    public static int dayMask(int dayOfMonth) {
+        return 1 << (dayOfMonth - 1);
+    }
+
+    // EFFECTS: returns true if dayOfMonth is set in dayMask
+    public static boolean isDaySet(int dayMask, int dayOfMonth) {
+        return (dayMask & dayMask(dayOfMonth)) != 0;
+    }
+
+    // EFFECTS: returns a day mask with every day of yearMonth set
+    public static int fullMonthMask(YearMonth yearMonth) {
+        return (int) ((1L << yearMonth.lengthOfMonth()) - 1);
+    }
+
+    // EFFECTS: returns a day mask with every day of yearMonth that falls on dayOfWeek set
+    public static int dayOfWeekMask(YearMonth yearMonth, DayOfWeek dayOfWeek) {
+        int mask = 0;
+        int lastDay = yearMonth.lengthOfMonth();
+        for (int day = daysBetweenDow(yearMonth.atDay(1).getDayOfWeek(), dayOfWeek) + 1; day <= lastDay; day += 7) {
+            mask |= dayMask(day);
+        }
+        return mask;
+    }
+
+    // EFFECTS: returns dayMask as an array of booleans for the days of yearMonth
+    public static boolean[] toDayArray(int dayMask, YearMonth yearMonth) {
+        boolean[] retVal = new boolean[yearMonth.lengthOfMonth()];
+        for (int day = 1; day <= retVal.length; day++) {
+            retVal[day - 1] = isDaySet(dayMask, day);
+        }
+        return retVal;
+    }
+
     // REQUIRES: from <= to
     // EFFECTS: returns an array of int from "from" to "to"
     public static Integer[] intArray(int from, int to) {
@@ -52,6 +52,17 @@ public class DateEventTest implements FormatterPattern {
         assertEquals(dt3.plusHours(2).plusMinutes(30), s3.getEndDateTime());
     }
 
+    @Test
+    void testEpochMinutesAndCompare() {
+        assertEquals(toEpochMinute(dt1.toLocalDate(), dt1.toLocalTime()), s1.getStartEpochMinute());
+        assertEquals(s4.getStartEpochMinute() + 60, s4.getEndEpochMinute());
+        assertEquals(Integer.signum(dt1.compareTo(dt2)), Integer.signum(s1.compareTo(s2)));
+        assertEquals(Integer.signum(dt3.compareTo(dt1)), Integer.signum(s3.compareTo(s1)));
+        assertEquals(0, s1.compareTo(new DateEvent("Other", dt1)));
+        assertEquals(dt1.toLocalTime().getHour() * 60 + dt1.getMinute(), s1.getStartMinute());
+        assertEquals(60, s4.getLengthMinutes());
+    }
+
     @Test
     void testGetDate() {
         assertEquals(dt3.toLocalDate(), s3.getDate());
@@ -0,0 +1,76 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TimeUtility;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayTableTest {
+    private HolidayTable table;
+
+    @BeforeEach
+    void runBefore() {
+        List<MultiEvent> holidays = new ArrayList<>();
+        holidays.add(createHoliday("Eve", LocalDate.of(2019, 12, 31)));
+        holidays.add(createHoliday("New Year", LocalDate.of(2020, 1, 1)));
+        holidays.add(createHoliday("Leap", LocalDate.of(2020, 2, 29)));
+        holidays.add(createHoliday("Canada", LocalDate.of(2020, 7, 1)));
+        holidays.add(createHoliday("Other", LocalDate.of(2020, 7, 1)));
+        holidays.add(createHoliday("Civic", LocalDate.of(2020, 7, 31)));
+        holidays.add(createHoliday("Eve", LocalDate.of(2020, 12, 31)));
+        holidays.add(createHoliday("New Year", LocalDate.of(2021, 1, 1)));
+        table = new HolidayTable(2020, Collections.unmodifiableList(holidays));
+    }
+
+    // EFFECTS: returns a holiday lasting all of date
+    private MultiEvent createHoliday(String name, LocalDate date) {
+        return new MultiEvent(name, date, LocalTime.of(0, 0), LocalTime.of(23, 59));
+    }
+
+    @Test
+    void testHolidaysOn() {
+        assertEquals(2020, table.getYear());
+        assertEquals(8, table.getHolidays().size());
+        assertEquals("New Year", table.getHolidaysOn(LocalDate.of(2020, 1, 1)).get(0).getName());
+        assertEquals(1, table.getHolidaysOn(LocalDate.of(2020, 2, 29)).size());
+        assertEquals(2, table.getHolidaysOn(LocalDate.of(2020, 7, 1)).size());
+        assertEquals(1, table.getHolidaysOn(LocalDate.of(2020, 12, 31)).size());
+        assertTrue(table.getHolidaysOn(LocalDate.of(2020, 7, 2)).isEmpty());
+        assertSame(table.getHolidaysOn(LocalDate.of(2020, 7, 1)), table.getHolidaysOn(LocalDate.of(2020, 7, 1)));
+        assertThrows(UnsupportedOperationException.class,
+                () -> table.getHolidaysOn(LocalDate.of(2020, 7, 1)).remove(0));
+    }
+
+    @Test
+    void testHolidaysIn() {
+        assertEquals(1, table.getHolidaysIn(YearMonth.of(2020, 1)).size());
+        assertEquals(3, table.getHolidaysIn(YearMonth.of(2020, 7)).size());
+        assertEquals("Civic", table.getHolidaysIn(YearMonth.of(2020, 7)).get(2).getName());
+        assertEquals(1, table.getHolidaysIn(YearMonth.of(2020, 12)).size());
+        assertTrue(table.getHolidaysIn(YearMonth.of(2020, 3)).isEmpty());
+    }
+
+    @Test
+    void testOccupancy() {
+        assertEquals(TimeUtility.dayMask(1), table.getOccupancy(YearMonth.of(2020, 1)));
+        assertEquals(TimeUtility.dayMask(29), table.getOccupancy(YearMonth.of(2020, 2)));
+        assertEquals(TimeUtility.dayMask(1) | TimeUtility.dayMask(31), table.getOccupancy(YearMonth.of(2020, 7)));
+        assertEquals(0, table.getOccupancy(YearMonth.of(2020, 3)));
+    }
+
+    @Test
+    void testEmpty() {
+        HolidayTable empty = new HolidayTable(2019, Collections.emptyList());
+        assertTrue(empty.getHolidaysOn(LocalDate.of(2019, 12, 31)).isEmpty());
+        assertTrue(empty.getHolidaysIn(YearMonth.of(2019, 6)).isEmpty());
+        assertEquals(0, empty.getOccupancy(YearMonth.of(2019, 6)));
+    }
+}
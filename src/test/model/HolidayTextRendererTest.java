@@ -0,0 +1,73 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayTextRendererTest {
+    private static final String DIM = HolidaysContainer.HTML_DIM_FONT_TAG;
+
+    private HolidayTextRenderer renderer;
+    private List<MultiEvent> holidays;
+    private int renders;
+
+    @BeforeEach
+    void runBefore() {
+        renderer = new HolidayTextRenderer();
+        holidays = new ArrayList<>();
+        holidays.add(new MultiEvent("A", LocalDate.of(2020, 1, 1), LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        holidays.add(new MultiEvent("B", LocalDate.of(2020, 1, 1), LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        holidays.add(new MultiEvent("C", LocalDate.of(2020, 7, 1), LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        MultiEvent.mergeEvents(holidays);
+        renders = 0;
+    }
+
+    // EFFECTS: returns holidays, counting how many times they were asked for
+    private List<MultiEvent> countedHolidays() {
+        renders++;
+        return holidays;
+    }
+
+    @Test
+    void testRender() {
+        String first = holidays.get(0).getTimeString();
+        String second = holidays.get(1).getTimeString();
+        assertEquals("<html>" + DIM + "[" + first + "] A, B</font><br>[" + second + "] C</html>",
+                HolidayTextRenderer.render(holidays, LocalDate.of(2020, 3, 1), true));
+        assertEquals("<html>[" + first + "] A, B<br>[" + second + "] C</html>",
+                HolidayTextRenderer.render(holidays, LocalDate.of(2020, 3, 1), false));
+        assertEquals("<html></html>", HolidayTextRenderer.render(Collections.emptyList(), LocalDate.MIN, true));
+        assertEquals("A, B", holidays.get(0).getMergedName());
+        assertEquals("C", holidays.get(1).getMergedName());
+    }
+
+    @Test
+    void testMemoized() {
+        LocalDate date = LocalDate.of(2020, 3, 1);
+        String text = renderer.getText(2020, date, true, true, this::countedHolidays);
+        assertSame(text, renderer.getText(2020, date, true, true, this::countedHolidays));
+        assertEquals(1, renders);
+        renderer.getText(2020, date, false, true, this::countedHolidays);
+        renderer.getText(2021, date, true, true, this::countedHolidays);
+        assertEquals(3, renders);
+        assertEquals(3, renderer.size());
+
+        // a new day replaces the texts of the year for the day before
+        renderer.getText(2020, date.plusDays(1), true, true, this::countedHolidays);
+        assertEquals(2, renderer.size());
+
+        renderer.invalidate(2020);
+        assertEquals(1, renderer.size());
+        renderer.getText(2020, date, true, true, this::countedHolidays);
+        assertEquals(5, renders);
+        renderer.clear();
+        assertEquals(0, renderer.size());
+    }
+}
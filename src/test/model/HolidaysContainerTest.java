@@ -1,17 +1,27 @@
 package model;
 
+import network.HolidayProvider;
+import network.HolidayStandIn;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import utilities.TimeUtility;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -90,6 +100,183 @@ public class HolidaysContainerTest {
         assertEquals(0, holidays.size());
     }
 
+    @Test
+    void testWebStandIn() throws IOException {
+        HolidayStandIn standIn = new HolidayStandIn();
+        try {
+            for (int year = 2018; year <= 2020; year++) {
+                standIn.setPage(year, HolidaysContainer.COUNTRY_CODE,
+                        "[{\"name\" : \"New Year's Day\",\"date\" : \"" + year + "-01-01\"},"
+                                + "{\"name\" : \"Canada Day\",\"date\" : \"" + year + "-07-01\"}]");
+            }
+            h1.setProvider(new HolidayProvider(standIn.getBaseUrl(), HolidayProvider.DEFAULT_TTL_MILLIS));
+            h1.setSettings(false, true);
+            assertEquals(2, h1.getHolidays(2019).size());
+            assertEquals(2, h1.getHolidays(2019).size());
+            assertEquals(1, standIn.getRequests());
+            h1.prefetchHolidays(Arrays.asList(2018, 2019, 2020));
+            assertEquals(3, standIn.getRequests());
+            assertEquals(TimeUtility.dayMask(1), h1.getHolidayOccupancy(YearMonth.of(2020, 7)));
+
+            h2.setProvider(new HolidayProvider(standIn.getBaseUrl(), HolidayProvider.DEFAULT_TTL_MILLIS));
+            assertTrue(h2.load());
+            h2.setSettings(false, true);
+            assertEquals(2, h2.getHolidays(2018).size());
+            assertEquals(3, standIn.getRequests());
+        } finally {
+            standIn.stop();
+        }
+    }
+
+    @Test
+    void testFetchDoesNotHoldLock() throws IOException {
+        HolidayStandIn standIn = new HolidayStandIn();
+        try {
+            standIn.setPage(2019, HolidaysContainer.COUNTRY_CODE,
+                    "[{\"name\" : \"Canada Day\",\"date\" : \"2019-07-01\"}]");
+            standIn.setDelay(500);
+            h1.setProvider(new HolidayProvider(standIn.getBaseUrl(), HolidayProvider.DEFAULT_TTL_MILLIS));
+            h1.setSettings(false, true);
+            CompletableFuture<Void> fetching = h1.prefetchHolidaysInBackground(Collections.singletonList(2019));
+            synchronized (h1) {
+                assertFalse(fetching.isDone());
+            }
+            fetching.join();
+            assertEquals(1, h1.getHolidays(2019).size());
+            assertEquals(1, standIn.getRequests());
+        } finally {
+            standIn.stop();
+        }
+    }
+
+    @Test
+    void testWebCountries() throws IOException {
+        HolidayStandIn standIn = new HolidayStandIn();
+        try {
+            for (int year = 2018; year <= 2020; year++) {
+                standIn.setPage(year, "CA", "[{\"name\" : \"Canada Day\",\"date\" : \"" + year + "-07-01\"}]");
+                standIn.setPage(year, "US",
+                        "[{\"name\" : \"Independence Day\",\"date\" : \"" + year + "-07-04\"}]");
+            }
+            h1.setProvider(new HolidayProvider(standIn.getBaseUrl(), HolidayProvider.DEFAULT_TTL_MILLIS));
+            h1.setSettings(true, true);
+            h1.setCountries(Arrays.asList("CA", "US"));
+            h1.prefetchHolidays(Arrays.asList(2018, 2019, 2020));
+            assertEquals(6, standIn.getRequests());
+            assertEquals(TimeUtility.dayMask(1) | TimeUtility.dayMask(4),
+                    h1.getHolidayOccupancy(YearMonth.of(2019, 7)));
+            h1.setCountries(Collections.singletonList("US"));
+            assertEquals(TimeUtility.dayMask(4), h1.getHolidayOccupancy(YearMonth.of(2019, 7)));
+            assertEquals("Independence Day", h1.getHolidays(2020).get(0).getName());
+            assertEquals(6, standIn.getRequests());
+        } finally {
+            standIn.stop();
+        }
+    }
+
+    @Test
+    void testCountriesOverlay() throws IOException {
+        Map<String, List<MultiEvent>> countryHolidays = new HashMap<>();
+        countryHolidays.put(HolidayProvider.key("CA", 2003), createSameDayHolidays(LocalDate.of(2003, 3, 9), 2));
+        List<MultiEvent> usHolidays = createSameDayHolidays(LocalDate.of(2003, 3, 9), 1);
+        usHolidays.addAll(createSameDayHolidays(LocalDate.of(2003, 3, 20), 1));
+        countryHolidays.put(HolidayProvider.key("US", 2003), usHolidays);
+        h1.setCountryHolidays(countryHolidays);
+        h1.setSettings(true, false);
+        assertEquals(1, h1.getHolidays(2003).size());
+        assertEquals("2003-03-09-0, 2003-03-09-1", h1.getHolidays(2003).get(0).getMergedName());
+
+        h1.setCountries(Arrays.asList("CA", "US"));
+        List<MultiEvent> holidays = h1.getHolidays(2003);
+        assertEquals(2, holidays.size());
+        assertEquals("2003-03-09-0 (CA), 2003-03-09-1 (CA), 2003-03-09-0 (US)", holidays.get(0).getMergedName());
+        assertEquals("2003-03-20-0 (US)", holidays.get(1).getMergedName());
+        assertEquals(TimeUtility.dayMask(9) | TimeUtility.dayMask(20), h1.getHolidayOccupancy(YearMonth.of(2003, 3)));
+        h1.setSettings(false, false);
+        assertEquals(4, h1.getHolidays(2003).size());
+
+        h1.setCountries(Collections.singletonList("US"));
+        assertEquals(1, h1.getHolidaysMap().size());
+        assertEquals(2, h1.getHolidays(2003).size());
+        assertEquals(TimeUtility.dayMask(9) | TimeUtility.dayMask(20), h1.getHolidayOccupancy(YearMonth.of(2003, 3)));
+
+        h1.save();
+        String saved = new String(Files.readAllBytes(Paths.get(TEST_SAVE_LOCATION)), StandardCharsets.UTF_8);
+        assertTrue(saved.contains("\"US/2003\""));
+        assertFalse(saved.contains("holidaysMap"));
+        h2.setCountries(Arrays.asList("US", "CA"));
+        h2.load();
+        assertEquals(2, h2.getCountryHolidays().size());
+        assertEquals("2003-03-09-0 (US)", h2.getHolidays(2003).get(0).getName());
+    }
+
+    @Test
+    void testLoadSingleCountryFile() throws IOException {
+        Map<Integer, List<MultiEvent>> yearHolidays = new HashMap<>();
+        yearHolidays.put(2019, createSameDayHolidays(LocalDate.of(2019, 1, 1), 1));
+        SaveLoadSystem.saveWithJackson(Collections.singletonMap("holidaysMap", yearHolidays), TEST_SAVE_LOCATION);
+        assertTrue(h1.load());
+        assertEquals(Collections.singleton(HolidayProvider.key(HolidaysContainer.COUNTRY_CODE, 2019)),
+                h1.getCountryHolidays().keySet());
+        assertEquals("2019-01-01-0", h1.getHolidays(2019).get(0).getName());
+    }
+
+    @Test
+    void testViewsAreCached() {
+        Map<Integer, List<MultiEvent>> yearHolidays = createHolidaysMap();
+        h1.setHolidaysMap(yearHolidays);
+        h1.setSettings(true, false);
+        List<MultiEvent> merged = h1.getHolidays(2003);
+        assertEquals(4, merged.size());
+        assertSame(merged, h1.getHolidays(2003));
+        h1.setSettings(false, false);
+        List<MultiEvent> split = h1.getHolidays(2003);
+        assertEquals(27, split.size());
+        assertSame(split, h1.getHolidays(2003));
+        h1.setSettings(true, false);
+        assertSame(merged, h1.getHolidays(2003));
+        assertEquals(13, merged.get(0).getOtherNames().size());
+        assertThrows(UnsupportedOperationException.class, () -> split.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> h1.getHolidaysMap().get(2003).clear());
+
+        // the stored holidays are copies of the ones given
+        MultiEvent.mergeEvents(yearHolidays.get(2003));
+        h1.setSettings(false, false);
+        assertEquals(27, h1.getHolidays(2003).size());
+
+        h1.setHolidaysMap(createHolidaysMap());
+        assertNotSame(split, h1.getHolidays(2003));
+    }
+
+    @Test
+    void testConcurrentReaders() throws InterruptedException {
+        h1.setHolidaysMap(createHolidaysMap());
+        h1.setSettings(true, false);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 1000; j++) {
+                        assertEquals(4, h1.getHolidays(1970).size());
+                        assertEquals(TimeUtility.dayMask(9) | TimeUtility.dayMask(13),
+                                h1.getHolidayOccupancy(YearMonth.of(2003, 3)));
+                        assertEquals(3, h1.getHolidayForDate(LocalDate.of(2011, 6, 2)).get(0).getOtherNames()
+                                .size() + 1);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.emptyList(), failures);
+    }
+
     @Test
     void testBrokenSave() {
         h1.setSaveFile("data/holidays/json/stuff/data.json");
@@ -164,6 +351,16 @@ public class HolidaysContainerTest {
         }
     }
 
+    @Test
+    void testHolidayOccupancy() {
+        h1.setSettings(true, false);
+        YearMonth yearMonth = YearMonth.of(2003, 3);
+        assertEquals(0, h1.getHolidayOccupancy(yearMonth));
+        h1.setHolidaysMap(createHolidaysMap());
+        assertEquals(TimeUtility.dayMask(9) | TimeUtility.dayMask(13), h1.getHolidayOccupancy(yearMonth));
+        assertEquals(0, h1.getHolidayOccupancy(YearMonth.of(1990, 3)));
+    }
+
     @Test
     void testGetForDate() {
         h1.setHolidaysMap(createHolidaysMap());
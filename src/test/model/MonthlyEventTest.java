@@ -41,4 +41,13 @@ public class MonthlyEventTest implements FormatterPattern {
         assertEquals(m2.getTimeString(), "1st 00:00~01:00");
         assertEquals(m3.getTimeString(), "12th 16:00~21:00");
     }
+
+    @Test
+    void testNextDateFrom() {
+        assertEquals(LocalDate.of(2012, 4, 25), m1.nextDateFrom(LocalDate.of(2012, 4, 25)));
+        assertEquals(LocalDate.of(2012, 5, 25), m1.nextDateFrom(LocalDate.of(2012, 4, 26)));
+        assertEquals(LocalDate.of(2013, 1, 1), m2.nextDateFrom(LocalDate.of(2012, 12, 2)));
+        MonthlyEvent last = new MonthlyEvent("Last", 31, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        assertEquals(LocalDate.of(2021, 3, 31), last.nextDateFrom(LocalDate.of(2021, 2, 1)));
+    }
 }
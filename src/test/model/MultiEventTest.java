@@ -32,6 +32,19 @@ public class MultiEventTest {
         m3.addLink(m1);
     }
 
+    @Test
+    void testWithName() {
+        addLinks();
+        MultiEvent renamed = m3.withName("renamed");
+        assertEquals("renamed", renamed.getName());
+        assertEquals("m3", m3.getName());
+        assertEquals(m3.getOtherNames(), renamed.getOtherNames());
+        assertEquals(m3.getStartDateTime(), renamed.getStartDateTime());
+        assertEquals(m3.getEndDateTime(), renamed.getEndDateTime());
+        renamed.split();
+        assertEquals(2, m3.getOtherNames().size());
+    }
+
     @Test
     void testAddLink() {
         addLinks();
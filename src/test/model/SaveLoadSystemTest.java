@@ -1,12 +1,19 @@
 package model;
 
+import model.deserializers.ScheduleContainerDeserializer;
 import org.junit.jupiter.api.Test;
 
+import java.io.FileWriter;
 import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class SaveLoadSystemTest {
+    private static final String TEST_SCHEDULE_FILE = "data/testSchedule.json";
+    private static final String TEST_BINARY_SCHEDULE_FILE = "data/testSchedule.bin";
 
     @Test
     void testSaveFail() {
@@ -28,4 +35,91 @@ public class SaveLoadSystemTest {
 
         }
     }
+
+    @Test
+    void testSaveLoadManyEvents() {
+        ScheduleContainer s = new ScheduleContainer();
+        int count = ScheduleContainerDeserializer.BATCH_SIZE * 2 + 10;
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = count - 1; i >= 0; i--) {
+            s.addEvent(new DateEvent("event " + i, base.plusDays(i / 3),
+                    LocalTime.of(i % 24, i % 60), LocalTime.of(23, 59)));
+        }
+        s.addEvent(new WeeklyEvent("weekly", DayOfWeek.TUESDAY, LocalTime.of(8, 15)));
+        s.addEvent(new MonthlyEvent("monthly", 12, LocalTime.of(9, 0), LocalTime.of(10, 45)));
+        try {
+            SaveLoadSystem.saveWithJackson(s, TEST_SCHEDULE_FILE);
+            ScheduleContainer loaded = SaveLoadSystem.loadWithJackson(TEST_SCHEDULE_FILE, ScheduleContainer.class);
+            assertEquals(count, loaded.getDateEventsSize());
+            assertEquals(2, loaded.getRepeatEventsSize());
+            for (int i = 0; i < count; i++) {
+                DateEvent expected = s.getDateEvent(i);
+                DateEvent actual = loaded.getDateEvent(i);
+                assertEquals(expected.getName(), actual.getName());
+                assertEquals(expected.getStartDateTime(), actual.getStartDateTime());
+                assertEquals(expected.getEndDateTime(), actual.getEndDateTime());
+            }
+            assertTrue(loaded.getRepeatEvent(0) instanceof WeeklyEvent);
+            assertEquals(LocalTime.of(8, 15), loaded.getRepeatEvent(0).getStartTime());
+            assertTrue(loaded.getRepeatEvent(1) instanceof MonthlyEvent);
+            assertEquals(12, loaded.getRepeatEvent(1).getDayOf());
+            assertEquals(3, loaded.getDateEventsBetweenDates(base, base).size());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testLoadUnsortedWithExtraFields() {
+        String json = "{\"unknown\":[1,{\"a\":2}],\"repeatEvents\":["
+                + "{\"name\":\"m\",\"startTime\":{\"hour\":1,\"minute\":2},\"endTime\":{\"hour\":3,\"minute\":4},"
+                + "\"dayOf\":5,\"type\":\"Monthly\"}],"
+                + "\"dateEvents\":["
+                + "{\"name\":\"b\",\"extra\":{\"x\":[1]},\"date\":{\"year\":2001,\"monthValue\":2,\"dayOfMonth\":3,"
+                + "\"leapYear\":false},\"startTime\":{\"hour\":10,\"minute\":0},"
+                + "\"endTime\":{\"hour\":11,\"minute\":0}},"
+                + "{\"name\":\"a\",\"date\":{\"year\":2000,\"monthValue\":1,\"dayOfMonth\":1},"
+                + "\"startTime\":{\"hour\":10,\"minute\":0},\"endTime\":{\"hour\":11,\"minute\":0}}]}";
+        try (FileWriter fileWriter = new FileWriter(TEST_SCHEDULE_FILE)) {
+            fileWriter.write(json);
+        } catch (IOException e) {
+            fail();
+        }
+        try {
+            ScheduleContainer loaded = SaveLoadSystem.loadWithJackson(TEST_SCHEDULE_FILE, ScheduleContainer.class);
+            assertEquals(2, loaded.getDateEventsSize());
+            assertEquals("a", loaded.getDateEvent(0).getName());
+            assertEquals("b", loaded.getDateEvent(1).getName());
+            assertEquals(LocalDate.of(2001, 2, 3), loaded.getDateEvent(1).getDate());
+            assertEquals(1, loaded.getRepeatEventsSize());
+            assertEquals(LocalTime.of(3, 4), loaded.getRepeatEvent(0).getEndTime());
+            assertEquals(5, loaded.getRepeatEvent(0).getDayOf());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testDetectAndConvert() {
+        ScheduleContainer s = new ScheduleContainer();
+        s.addEvent(new DateEvent("d", LocalDate.of(2015, 6, 7), LocalTime.of(1, 0), LocalTime.of(2, 30)));
+        s.addEvent(new WeeklyEvent("w", DayOfWeek.MONDAY, LocalTime.of(3, 0)));
+        try {
+            SaveLoadSystem.saveSchedule(s, TEST_SCHEDULE_FILE, SaveFormat.JSON);
+            assertEquals(SaveFormat.JSON, SaveLoadSystem.detectFormat(TEST_SCHEDULE_FILE));
+            SaveLoadSystem.convertSchedule(TEST_SCHEDULE_FILE, TEST_BINARY_SCHEDULE_FILE, SaveFormat.BINARY);
+            assertEquals(SaveFormat.BINARY, SaveLoadSystem.detectFormat(TEST_BINARY_SCHEDULE_FILE));
+            ScheduleContainer loaded = SaveLoadSystem.loadSchedule(TEST_BINARY_SCHEDULE_FILE);
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals("d", loaded.getDateEvent(0).getName());
+            assertEquals(LocalTime.of(2, 30), loaded.getDateEvent(0).getEndTime());
+            assertEquals(1, loaded.getRepeatEventsSize());
+            assertEquals("w", loaded.getRepeatEvent(0).getName());
+            SaveLoadSystem.convertSchedule(TEST_BINARY_SCHEDULE_FILE, TEST_SCHEDULE_FILE, SaveFormat.JSON);
+            assertEquals(SaveFormat.JSON, SaveLoadSystem.detectFormat(TEST_SCHEDULE_FILE));
+            assertEquals(1, SaveLoadSystem.loadSchedule(TEST_SCHEDULE_FILE).getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
 }
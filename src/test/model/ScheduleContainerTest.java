@@ -2,14 +2,20 @@ package model;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import utilities.TimeUtility;
 
 import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ScheduleContainerTest extends ScheduleTest {
@@ -36,11 +42,21 @@ public class ScheduleContainerTest extends ScheduleTest {
         public ExampleEvent(String name, LocalTime startTime, LocalTime endTime) {
             super(name, startTime, endTime, ChronoUnit.HOURS, 1);
         }
+        @Override
+        public ExampleEvent withName(String name) {
+            return new ExampleEvent(name, startTime, endTime);
+        }
+
         @Override
         public boolean isOnDate(LocalDate date) {
             return false;
         }
 
+        @Override
+        public LocalDate nextDateFrom(LocalDate date) {
+            return null;
+        }
+
         @Override
         public String getTimeScaleString() {
             return "";
@@ -143,6 +159,55 @@ public class ScheduleContainerTest extends ScheduleTest {
         assertFalse(s1.repeatEventsContains("Pay John"));
     }
 
+    @Test
+    void testAddDateEventsBulk() {
+        s1.addEvent(d2);
+        List<DateEvent> unsorted = new ArrayList<>();
+        unsorted.add(d4);
+        unsorted.add(d1);
+        unsorted.add(d3);
+        s1.addDateEvents(unsorted);
+        assertEquals(4, s1.getDateEventsSize());
+        assertEquals(d1, s1.getDateEvent(0));
+        assertEquals(d2, s1.getDateEvent(1));
+        assertEquals(d3, s1.getDateEvent(2));
+        assertEquals(d4, s1.getDateEvent(3));
+        assertEquals(1, s1.getDateEventsBetweenDates(d3.getDate(), d3.getDate()).size());
+        List<DateEvent> later = new ArrayList<>();
+        DateEvent last = new DateEvent("last", LocalDateTime.of(2100, 1, 1, 0, 0));
+        later.add(last);
+        s1.addDateEvents(later);
+        assertEquals(last, s1.getDateEvent(4));
+        assertEquals(5, s1.getDateEventsBetweenDates(LocalDate.MIN, LocalDate.MAX).size());
+    }
+
+    @Test
+    void testAddRepeatEventsBulk() {
+        List<RepeatEvent> unsorted = new ArrayList<>();
+        unsorted.add(w3);
+        unsorted.add(m2);
+        unsorted.add(w1);
+        s1.addEvent(w2);
+        s1.addRepeatEvents(unsorted);
+        assertEquals(4, s1.getRepeatEventsSize());
+        assertEquals(w1, s1.getRepeatEvent(0));
+        assertEquals(w2, s1.getRepeatEvent(1));
+        assertEquals(w3, s1.getRepeatEvent(2));
+        assertEquals(m2, s1.getRepeatEvent(3));
+        assertEquals(1, s1.getRepeatEventsForDate(LocalDate.of(2019, 11, 14)).size());
+    }
+
+    @Test
+    void testRemoveSameTimeEvent() {
+        DateEvent other = new DateEvent("Same time as d5", d5.getStartDateTime());
+        s2.addEvent(d5);
+        s2.addEvent(other);
+        assertTrue(s2.removeEvent(other));
+        assertEquals(1, s2.getDateEventsSize());
+        assertEquals(d5, s2.getDateEvent(0));
+        assertEquals(d5, s2.getDateEventsForYearMonth(YearMonth.of(2000, 5)).get(0));
+    }
+
     @Test
     void testGetManyDateEvent() {
         addManyDateEvents();
@@ -165,6 +230,9 @@ public class ScheduleContainerTest extends ScheduleTest {
         assertEquals(w3, s1.getRepeatEvent(4));
         assertEquals(listManyWeekly, s1.getRepeatEvents());
         assertEquals(new ArrayList<ScheduleEvent>(listManyWeekly), s1.getScheduleEvents());
+        assertThrows(UnsupportedOperationException.class, () -> s1.getRepeatEvents().remove(0));
+        assertThrows(UnsupportedOperationException.class,
+                () -> s1.getRepeatEventsBetweenDates(LocalDate.MIN, LocalDate.MAX).clear());
     }
 
     @Test
@@ -379,6 +447,233 @@ public class ScheduleContainerTest extends ScheduleTest {
         assertTrue(s2.hasDateEventConflict());
     }
 
+    @Test
+    void testGetDateEventsOverlapping() {
+        s2.addEvent(d8);
+        s2.addEvent(d5);
+        s2.addEvent(d7);
+        s2.addEvent(d6);
+        List<DateEvent> overlapping = s2.getDateEventsOverlapping(LocalDateTime.of(2000, 5, 5, 13, 10),
+                LocalDateTime.of(2000, 5, 5, 13, 30));
+        assertEquals(2, overlapping.size());
+        assertEquals(d6, overlapping.get(0));
+        assertEquals(d7, overlapping.get(1));
+        s2.removeEvent(d6);
+        overlapping = s2.getDateEventsOverlapping(LocalDateTime.of(2000, 5, 5, 13, 10),
+                LocalDateTime.of(2000, 5, 5, 13, 30));
+        assertEquals(1, overlapping.size());
+        assertEquals(d7, overlapping.get(0));
+    }
+
+    @Test
+    void testGetOccupancyIncremental() {
+        YearMonth yearMonth = YearMonth.of(2021, 2);
+        DateEvent first = new DateEvent("first", yearMonth.atDay(3), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        DateEvent second = new DateEvent("second", yearMonth.atDay(3), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        WeeklyEvent weekly = new WeeklyEvent("weekly", DayOfWeek.MONDAY, LocalTime.NOON);
+        MonthlyEvent monthly = new MonthlyEvent("monthly", 30, LocalTime.NOON, LocalTime.NOON);
+        assertEquals(0, s2.getOccupancy(yearMonth, true, true));
+        s2.addEvent(first);
+        s2.addEvent(second);
+        assertEquals(TimeUtility.dayMask(3), s2.getOccupancy(yearMonth, true, true));
+        assertEquals(0, s2.getOccupancy(yearMonth.plusMonths(1), true, true));
+        s2.removeEvent(first);
+        assertEquals(TimeUtility.dayMask(3), s2.getOccupancy(yearMonth, true, false));
+        s2.removeEvent(second);
+        assertEquals(0, s2.getOccupancy(yearMonth, true, false));
+        s2.addEvent(weekly);
+        s2.addEvent(monthly);
+        assertEquals(TimeUtility.dayOfWeekMask(yearMonth, DayOfWeek.MONDAY), s2.getOccupancy(yearMonth, true, true));
+        assertEquals(TimeUtility.dayOfWeekMask(yearMonth.plusMonths(1), DayOfWeek.MONDAY) | TimeUtility.dayMask(30),
+                s2.getOccupancy(yearMonth.plusMonths(1), false, true));
+        assertEquals(0, s2.getOccupancy(yearMonth, false, false));
+        s2.removeEvent(weekly);
+        assertEquals(TimeUtility.dayMask(30), s2.getOccupancy(yearMonth.plusMonths(1), false, true));
+        s2.addDateEvents(Arrays.asList(first, second));
+        assertEquals(TimeUtility.dayMask(3), s2.getOccupancy(yearMonth, true, false));
+        s2.clearScheduleEvents();
+        assertEquals(0, s2.getOccupancy(yearMonth.plusMonths(1), true, true));
+    }
+
+    @Test
+    void testDateEventConflictIncremental() {
+        Random random = new Random(130);
+        List<DateEvent> added = new ArrayList<>();
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 300; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            DateEvent event = new DateEvent("e" + i, base.plusDays(random.nextInt(200)), start, start.plusMinutes(20));
+            added.add(event);
+            if (i % 3 == 0) {
+                s2.addDateEvents(Arrays.asList(event));
+            } else {
+                s2.addEvent(event);
+            }
+            assertEquals(hasAdjacentConflict(s2.getDateEvents()), s2.hasDateEventConflict());
+        }
+        while (!added.isEmpty()) {
+            assertTrue(s2.removeEvent(added.remove(random.nextInt(added.size()))));
+            assertEquals(hasAdjacentConflict(s2.getDateEvents()), s2.hasDateEventConflict());
+        }
+    }
+
+    // EFFECTS: returns true if any two neighbouring events in the sorted events overlap
+    private static boolean hasAdjacentConflict(List<DateEvent> events) {
+        for (int i = 0; i < events.size() - 1; i++) {
+            if (events.get(i + 1).getStartEpochMinute() <= events.get(i).getEndEpochMinute()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void testPackedRemovesByValue() {
+        ScheduleContainer packed = ScheduleContainer.packed();
+        DateEvent other = new DateEvent("other", d5.getDate(), d5.getStartTime(), d5.getEndTime());
+        packed.addEvent(d5);
+        packed.addEvent(other);
+        packed.addEvent(d6);
+        assertEquals(3, packed.getDateEventsSize());
+        assertTrue(packed.removeEvent(new DateEvent("other", d5.getDate(), d5.getStartTime(), d5.getEndTime())));
+        assertEquals(d5.getName(), packed.getDateEvent(0).getName());
+        assertEquals(d6.getName(), packed.getDateEvent(1).getName());
+        assertTrue(packed.hasDateEventConflict());
+        assertTrue(packed.removeEvent(packed.getDateEvent(1)));
+        assertFalse(packed.removeEvent(d6));
+        assertEquals(1, packed.getDateEventsBetweenDates(d5.getDate(), d5.getDate()).size());
+    }
+
+    @Test
+    void testFindEventsByName() {
+        s2.addEvent(d5);
+        s2.addEvent(d6);
+        s2.addEvent(d7);
+        s2.addEvent(example);
+        assertEquals(Arrays.asList(d5, d7), s2.getDateEventsNamed("Conflicts with d6"));
+        assertEquals(Arrays.asList(d5, d6, d7), s2.findDateEventsByName("conflicts", false));
+        assertEquals(Arrays.asList(d6), s2.findDateEventsByName("D7", true));
+        assertEquals(Arrays.asList(example), s2.findRepeatEventsByName("NA", false));
+        String d6Name = d6.getName();
+        ScheduleEvent renamed = s2.renameEvent(d6, "Renamed");
+        ScheduleEvent renamedExample = s2.renameEvent(example, "Other");
+        assertEquals("Renamed", renamed.getName());
+        assertEquals(d6Name, d6.getName());
+        assertFalse(s2.dateEventsContains(d6Name));
+        assertEquals(Arrays.asList(renamed), s2.getDateEventsNamed("Renamed"));
+        assertEquals(Arrays.asList(d5, renamed, d7), s2.getDateEventsBetweenDates(d5.getDate(), d5.getDate()));
+        assertFalse(s2.repeatEventsContains("name"));
+        assertEquals(Arrays.asList(renamedExample), s2.getRepeatEventsNamed("Other"));
+        assertTrue(s2.removeEvent(d7));
+        assertEquals(Arrays.asList(d5), s2.getDateEventsNamed("Conflicts with d6"));
+        assertNull(s2.renameEvent(d7, "Gone"));
+    }
+
+    @Test
+    void testFindEventsByNameBetweenDates() {
+        DateEvent later = new DateEvent(d5.getName(), LocalDateTime.of(2000, 9, 1, 9, 0));
+        s2.addEvent(d5);
+        s2.addEvent(d7);
+        s2.addEvent(later);
+        s2.addEvent(example);
+        assertEquals(Arrays.asList(d5, d7, later), s2.getDateEventsNamed(d5.getName()));
+        assertEquals(Arrays.asList(later), s2.getDateEventsNamed(d5.getName(), d5.getDate().plusDays(1),
+                LocalDate.MAX));
+        assertTrue(s2.getDateEventsNamed(d5.getName(), later.getDate().plusDays(1), LocalDate.MAX).isEmpty());
+        assertEquals(Arrays.asList(example), s2.getRepeatEventsNamed(example.getName(), LocalDate.MIN,
+                LocalDate.MAX));
+        assertTrue(s2.getRepeatEventsNamed("Other", LocalDate.MIN, LocalDate.MAX).isEmpty());
+
+        // removing by time alone removes the name of the event that was there
+        assertTrue(s2.removeEvent(later.withName("Same time")));
+        assertEquals(Arrays.asList(d5, d7), s2.getDateEventsNamed(d5.getName()));
+        assertEquals(Arrays.asList(d5, d7), s2.findDateEventsByName("conflicts", false));
+        s2.clearScheduleEvents();
+        assertFalse(s2.dateEventsContains(d5.getName()));
+    }
+
+    @Test
+    void testSearchEvents() {
+        s2.addEvent(d5);
+        s2.addEvent(d6);
+        s2.addEvent(d7);
+        s2.addEvent(example);
+        DateEvent later = new DateEvent("Later d6", LocalDateTime.of(2000, 9, 1, 9, 0));
+        s2.addEvent(later);
+        LocalDate start = d5.getDate().minusDays(1);
+        assertEquals(Arrays.asList(d5, d7), s2.searchDateEvents("with d6", start, LocalDate.MAX));
+        assertEquals(Arrays.asList(d5, d6, d7, later), s2.searchDateEvents("d", start, LocalDate.MAX));
+        assertEquals(Arrays.asList(d5, d6, d7), s2.searchDateEvents("D", start, start.plusDays(1)));
+        assertEquals(Arrays.asList(later), s2.searchDateEvents("later", start, LocalDate.MAX));
+        assertTrue(s2.searchDateEvents("later", start, start.plusDays(60)).isEmpty());
+        assertEquals(Arrays.asList(example), s2.searchRepeatEvents("AM", start, LocalDate.MAX));
+    }
+
+    @Test
+    void testCopySharesUntilChanged() {
+        DateEvent otherMonth = new DateEvent("Other month", LocalDateTime.of(2000, 6, 1, 9, 0));
+        s2.addEvent(d5);
+        s2.addEvent(otherMonth);
+        s2.addEvent(example);
+        ScheduleContainer copy = new ScheduleContainer(s2);
+        assertEquals(s2.getDateEvents(), copy.getDateEvents());
+
+        copy.addEvent(d6);
+        copy.removeEvent(example);
+        assertEquals(Arrays.asList(d5), s2.getDateEventsBetweenDates(d5.getDate(), d5.getDate()));
+        assertFalse(s2.hasDateEventConflict());
+        assertEquals(Arrays.asList(example), s2.getRepeatEvents());
+        assertEquals(Arrays.asList(d5, d6), copy.getDateEventsBetweenDates(d5.getDate(), d5.getDate()));
+        assertTrue(copy.hasDateEventConflict());
+        assertEquals(0, copy.getRepeatEventsSize());
+
+        // changing the original after copying leaves the copy as it was too
+        s2.removeEvent(otherMonth);
+        s2.addEvent(d7);
+        assertEquals(Arrays.asList(d5, d6, otherMonth), copy.getDateEvents());
+        assertEquals(Arrays.asList(d5, d7), s2.getDateEvents());
+        assertEquals(2, s2.getDateEventsNamed("Conflicts with d6").size());
+        assertEquals(1, copy.getDateEventsNamed("Conflicts with d6").size());
+        assertFalse(s2.dateEventsContains(otherMonth.getName()));
+        assertTrue(copy.dateEventsContains(otherMonth.getName()));
+    }
+
+    @Test
+    void testCopySharesReleased() {
+        DateEvent otherMonth = new DateEvent("Other month", LocalDateTime.of(2000, 6, 1, 9, 0));
+        s2.addEvent(d5);
+        s2.addEvent(otherMonth);
+        s2.addEvent(example);
+        s2.releaseOwnership();
+        ScheduleContainer copy = new ScheduleContainer(s2);
+        ScheduleContainer secondCopy = new ScheduleContainer(s2);
+
+        copy.addEvent(d6);
+        copy.removeEvent(example);
+        s2.removeEvent(otherMonth);
+        s2.addEvent(d7);
+        assertEquals(Arrays.asList(d5, d6, otherMonth), copy.getDateEvents());
+        assertEquals(0, copy.getRepeatEventsSize());
+        assertEquals(Arrays.asList(d5, d7), s2.getDateEvents());
+        assertEquals(Arrays.asList(example), s2.getRepeatEvents());
+        assertEquals(Arrays.asList(d5, otherMonth), secondCopy.getDateEvents());
+        assertEquals(Arrays.asList(example), secondCopy.getRepeatEvents());
+        assertFalse(secondCopy.hasDateEventConflict());
+    }
+
+    @Test
+    void testPackedFindEventsByName() {
+        ScheduleContainer packed = ScheduleContainer.packed();
+        packed.addEvent(d6);
+        packed.addEvent(d5);
+        assertEquals(1, packed.getDateEventsNamed(d5.getName()).size());
+        assertEquals(2, packed.findDateEventsByName("with d", true).size());
+        assertNotNull(packed.renameEvent(packed.getDateEvent(0), "Renamed"));
+        assertEquals("Renamed", packed.getDateEvent(0).getName());
+        assertTrue(packed.dateEventsContains("Renamed"));
+        assertFalse(packed.dateEventsContains(d5.getName()));
+    }
+
     @Test
     void testSetHasEventsForYearMonth() {
         addManyDateEvents();
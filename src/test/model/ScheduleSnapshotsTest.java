@@ -0,0 +1,136 @@
+package model;
+
+import model.storage.PagedScheduleFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleSnapshotsTest {
+    private static final String TEST_PAGED_FILE = "data/testSnapshots.paged";
+    private static final LocalDate DATE = LocalDate.of(2020, 3, 2);
+
+    private ScheduleSnapshots snapshots;
+
+    @BeforeEach
+    void runBefore() {
+        snapshots = new ScheduleSnapshots(new ScheduleContainer());
+    }
+
+    // EFFECTS: returns a date event on date at hour
+    private DateEvent createEvent(String name, LocalDate date, int hour) {
+        return new DateEvent(name, date, LocalTime.of(hour, 0), LocalTime.of(hour, 30));
+    }
+
+    @Test
+    void testUpdatePublishesCopy() {
+        ScheduleContainer first = snapshots.get();
+        DateEvent event = createEvent("a", DATE, 9);
+        snapshots.update(schedule -> schedule.addEvent(event));
+        ScheduleContainer second = snapshots.get();
+        assertNotSame(first, second);
+        assertEquals(0, first.getSize());
+        assertEquals(1, second.getSize());
+
+        snapshots.update(schedule -> schedule.addEvent(new WeeklyEvent("w", DayOfWeek.MONDAY, LocalTime.of(8, 0))));
+        boolean removed = snapshots.updateAndGet(schedule -> schedule.removeEvent(event));
+        assertTrue(removed);
+        removed = snapshots.updateAndGet(schedule -> schedule.removeEvent(event));
+        assertFalse(removed);
+        assertEquals(1, second.getDateEventsBetweenDates(DATE, DATE).size());
+        assertEquals(0, second.getRepeatEventsForDate(DATE).size());
+        assertEquals(0, snapshots.read(schedule -> schedule.getDateEventsBetweenDates(DATE, DATE)).size());
+        assertEquals(1, snapshots.read(schedule -> schedule.getRepeatEventsForDate(DATE)).size());
+
+        ScheduleContainer replacement = new ScheduleContainer();
+        snapshots.replace(replacement);
+        assertSame(replacement, snapshots.get());
+    }
+
+    @Test
+    void testReadersSeeWholeVersions() throws InterruptedException {
+        int pairs = 300;
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicInteger torn = new AtomicInteger();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                while (!done.get()) {
+                    // every version holds both events of a pair or neither
+                    int size = snapshots.read(schedule -> schedule.getDateEventsBetweenDates(DATE, DATE)).size();
+                    if (size % 2 != 0) {
+                        torn.incrementAndGet();
+                    }
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (int i = 0; i < pairs; i++) {
+            int hour = i % 24;
+            snapshots.update(schedule -> {
+                schedule.addEvent(createEvent("first", DATE, hour));
+                schedule.addEvent(createEvent("second", DATE, hour));
+            });
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(0, torn.get());
+        assertEquals(2 * pairs, snapshots.get().getDateEventsSize());
+    }
+
+    @Test
+    void testPagedVersion() {
+        ScheduleContainer schedule = new ScheduleContainer();
+        LocalDate base = LocalDate.of(2019, 1, 1);
+        for (int i = 0; i < 365; i++) {
+            schedule.addEvent(createEvent("event " + i, base.plusDays(i), i % 24));
+        }
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(TEST_PAGED_FILE))) {
+                PagedScheduleFormat.write(schedule, outputStream);
+            }
+            ScheduleContainer opened = PagedScheduleFormat.open(TEST_PAGED_FILE);
+            snapshots.replace(opened);
+            assertTrue(opened.isPaged());
+            assertEquals(1, snapshots.read(paged -> paged.getDateEventsBetweenDates(base, base)).size());
+            assertTrue(opened.isLoaded(YearMonth.of(2019, 1)));
+            assertFalse(opened.isLoaded(YearMonth.of(2019, 2)));
+
+            // the copy made for a change only copies the month it changes, the rest stay in the file
+            snapshots.update(copy -> copy.addEvent(createEvent("new", base, 23)));
+            ScheduleContainer changed = snapshots.get();
+            assertTrue(opened.isPaged());
+            assertTrue(changed.isPaged());
+            assertFalse(changed.isLoaded(YearMonth.of(2019, 2)));
+            assertEquals(365, opened.getDateEventsSize());
+            assertEquals(366, changed.getDateEventsSize());
+            assertEquals(1, opened.getDateEventsBetweenDates(base, base).size());
+            assertEquals(2, changed.getDateEventsBetweenDates(base, base).size());
+
+            // a month read through one version is read for every version of the file
+            LocalDate february = LocalDate.of(2019, 2, 1);
+            assertEquals(1, snapshots.read(paged -> paged.getDateEventsBetweenDates(february, february)).size());
+            assertTrue(opened.isLoaded(YearMonth.of(2019, 2)));
+            YearMonth month = YearMonth.from(february);
+            assertEquals(opened.getDateEventsForYearMonth(month), changed.getDateEventsForYearMonth(month));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+}
@@ -4,12 +4,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.*;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class SettingsTest {
     public static final String TEST_SAVE_FILE = "data/testData.json";
     public static final String TEST_SETTINGS_FILE = "data/settings.json";
+    public static final String TEST_HOLIDAY_COUNTRIES = "de, us,CA de";
 
     private Settings s1;
     private Settings s2;
@@ -27,6 +30,7 @@ public class SettingsTest {
 
     private void checkDefault(Settings s) {
         assertEquals(Settings.DEFAULT_SAVE_FILE, s.getSaveFile());
+        assertEquals(Settings.DEFAULT_SAVE_FORMAT, s.getSaveFormat());
         assertEquals(Settings.DEFAULT_SHOW_DATE, s.isShowDate());
         assertEquals(Settings.DEFAULT_SHOW_REPEAT, s.isShowRepeat());
         assertEquals(Settings.DEFAULT_DIM_PAST_EVENTS, s.isDimPastEvents());
@@ -35,9 +39,12 @@ public class SettingsTest {
         assertEquals(Settings.DEFAULT_SHOW_HOLIDAYS_ON_EVENTS, s.isShowHolidaysOnEvents());
         assertEquals(Settings.DEFAULT_MERGE_HOLIDAY, s.isMergeHoliday());
         assertEquals(Settings.DEFAULT_LOAD_HOLIDAYS_FROM_WEB, s.isLoadHolidaysFromWeb());
+        assertEquals(Settings.DEFAULT_HOLIDAY_COUNTRIES, s.getHolidayCountries());
+        assertEquals(Collections.singletonList(Settings.DEFAULT_HOLIDAY_COUNTRIES), s.getHolidayCountryList());
         assertEquals(Settings.DEFAULT_LOAD_ON_START, s.isLoadOnStart());
         assertEquals(Settings.DEFAULT_BW_MODE, s.isBwMode());
         assertEquals(Settings.DEFAULT_FLIP_TEXT_COLOR, s.isFlipTextColor());
+        assertEquals(Settings.DEFAULT_PAINTED_CALENDAR, s.isPaintedCalendar());
         assertEquals(Settings.DEFAULT_HIGHLIGHT_COLOR, s.getHighlightColor());
         boolean prevBw = s.isBwMode();
         s.setBwMode(false);
@@ -49,6 +56,7 @@ public class SettingsTest {
 
     private void checkOpposite(Settings s) {
         assertEquals(TEST_SAVE_FILE, s.getSaveFile());
+        assertEquals(SaveFormat.BINARY, s.getSaveFormat());
         assertEquals(!Settings.DEFAULT_SHOW_DATE, s.isShowDate());
         assertEquals(!Settings.DEFAULT_SHOW_REPEAT, s.isShowDate());
         assertEquals(!Settings.DEFAULT_DIM_PAST_EVENTS, s.isDimPastEvents());
@@ -57,9 +65,12 @@ public class SettingsTest {
         assertEquals(!Settings.DEFAULT_SHOW_HOLIDAYS_ON_EVENTS, s.isShowHolidaysOnEvents());
         assertEquals(!Settings.DEFAULT_MERGE_HOLIDAY, s.isMergeHoliday());
         assertEquals(!Settings.DEFAULT_LOAD_HOLIDAYS_FROM_WEB, s.isLoadHolidaysFromWeb());
+        assertEquals(TEST_HOLIDAY_COUNTRIES, s.getHolidayCountries());
+        assertEquals(Arrays.asList("DE", "US", "CA"), s.getHolidayCountryList());
         assertEquals(!Settings.DEFAULT_LOAD_ON_START, s.isLoadOnStart());
         assertEquals(!Settings.DEFAULT_BW_MODE, s.isBwMode());
         assertEquals(!Settings.DEFAULT_FLIP_TEXT_COLOR, s.isFlipTextColor());
+        assertEquals(!Settings.DEFAULT_PAINTED_CALENDAR, s.isPaintedCalendar());
         assertEquals(Color.WHITE, s.getHighlightColor());
         boolean prevBw = s.isBwMode();
         s.setBwMode(false);
@@ -71,6 +82,7 @@ public class SettingsTest {
 
     private void setOpposite(Settings s) {
         s.setSaveFile(TEST_SAVE_FILE);
+        s.setSaveFormat(SaveFormat.BINARY);
         s.setShowDate(!Settings.DEFAULT_SHOW_DATE);
         s.setShowRepeat(!Settings.DEFAULT_SHOW_REPEAT);
         s.setDimPastEvents(!Settings.DEFAULT_DIM_PAST_EVENTS);
@@ -79,9 +91,11 @@ public class SettingsTest {
         s.setShowHolidaysOnEvents(!Settings.DEFAULT_SHOW_HOLIDAYS_ON_EVENTS);
         s.setMergeHoliday(!Settings.DEFAULT_MERGE_HOLIDAY);
         s.setLoadHolidaysFromWeb(!Settings.DEFAULT_LOAD_HOLIDAYS_FROM_WEB);
+        s.setHolidayCountries(TEST_HOLIDAY_COUNTRIES);
         s.setLoadOnStart(!Settings.DEFAULT_LOAD_ON_START);
         s.setBwMode(!Settings.DEFAULT_BW_MODE);
         s.setFlipTextColor(!Settings.DEFAULT_FLIP_TEXT_COLOR);
+        s.setPaintedCalendar(!Settings.DEFAULT_PAINTED_CALENDAR);
         s.setHighlightColor(Color.WHITE);
     }
 
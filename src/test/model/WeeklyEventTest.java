@@ -46,4 +46,11 @@ public class WeeklyEventTest implements FormatterPattern{
         assertTrue(w1.isOnDate(LocalDate.of(2019,9,30)));
         assertFalse(w2.isOnDate(LocalDate.of(2019,9,30)));
     }
+
+    @Test
+    void testNextDateFrom() {
+        assertEquals(LocalDate.of(2019, 9, 30), w1.nextDateFrom(LocalDate.of(2019, 9, 30)));
+        assertEquals(LocalDate.of(2019, 10, 7), w1.nextDateFrom(LocalDate.of(2019, 10, 1)));
+        assertEquals(LocalDate.of(2019, 10, 6), w3.nextDateFrom(LocalDate.of(2019, 9, 30)));
+    }
 }
@@ -0,0 +1,157 @@
+package model.index;
+
+import model.DateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utilities.TimeUtility.toEpochMinute;
+
+public class IntervalTreeIndexTest {
+    private IntervalTreeIndex index;
+    private DateEvent d1;
+    private DateEvent d2;
+    private DateEvent d3;
+    private DateEvent d4;
+
+    @BeforeEach
+    void runBefore() {
+        index = new IntervalTreeIndex();
+        d1 = new DateEvent("d1", LocalDate.of(2000, 5, 5), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        d2 = new DateEvent("d2", LocalDate.of(2000, 5, 5), LocalTime.of(12, 50), LocalTime.of(18, 0));
+        d3 = new DateEvent("d3", LocalDate.of(2000, 5, 5), LocalTime.of(14, 0), LocalTime.of(15, 0));
+        d4 = new DateEvent("d4", LocalDate.of(2000, 5, 6), LocalTime.of(0, 0), LocalTime.of(1, 0));
+    }
+
+    // EFFECTS: returns all events in events that overlap [startMinute, endMinute], using a linear scan
+    private static List<DateEvent> overlapping(List<DateEvent> events, long startMinute, long endMinute) {
+        List<DateEvent> retVal = new ArrayList<>();
+        for (DateEvent event : events) {
+            if (event.getStartEpochMinute() <= endMinute && event.getEndEpochMinute() >= startMinute) {
+                retVal.add(event);
+            }
+        }
+        return retVal;
+    }
+
+    private static long minuteOf(int year, int month, int day, int hour, int minute) {
+        return toEpochMinute(LocalDate.of(year, month, day), LocalTime.of(hour, minute));
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, index.size());
+        assertTrue(index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+        assertFalse(index.remove(d1));
+        assertFalse(index.overlappingIterator(Long.MIN_VALUE, Long.MAX_VALUE).hasNext());
+    }
+
+    @Test
+    void testOverlappingIterator() {
+        index.add(d3);
+        index.add(d1);
+        index.add(d4);
+        index.add(d2);
+        Iterator<DateEvent> iterator = index.overlappingIterator(minuteOf(2000, 5, 5, 14, 30),
+                minuteOf(2000, 5, 5, 14, 30));
+        assertEquals(d2, iterator.next());
+        assertEquals(d3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testOverlapping() {
+        index.add(d3);
+        index.add(d1);
+        index.add(d4);
+        index.add(d2);
+        assertEquals(4, index.size());
+        List<DateEvent> result = index.getOverlapping(minuteOf(2000, 5, 5, 14, 30),
+                minuteOf(2000, 5, 5, 14, 30));
+        assertEquals(2, result.size());
+        assertEquals(d2, result.get(0));
+        assertEquals(d3, result.get(1));
+        result = index.getOverlapping(minuteOf(2000, 5, 5, 13, 0), minuteOf(2000, 5, 6, 0, 0));
+        assertEquals(4, result.size());
+        assertEquals(d1, result.get(0));
+        assertEquals(d4, result.get(3));
+        assertTrue(index.getOverlapping(minuteOf(2000, 5, 5, 18, 1), minuteOf(2000, 5, 5, 23, 59)).isEmpty());
+    }
+
+    @Test
+    void testSameStartKeepsInsertionOrder() {
+        DateEvent same1 = new DateEvent("same1", LocalDateTime.of(2010, 1, 1, 10, 0));
+        DateEvent same2 = new DateEvent("same2", LocalDateTime.of(2010, 1, 1, 10, 0));
+        DateEvent same3 = new DateEvent("same3", LocalDateTime.of(2010, 1, 1, 10, 0));
+        index.add(same1);
+        index.add(d1);
+        index.add(same2);
+        index.add(same3);
+        List<DateEvent> result = index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(d1, result.get(0));
+        assertEquals(same1, result.get(1));
+        assertEquals(same2, result.get(2));
+        assertEquals(same3, result.get(3));
+        assertTrue(index.remove(same2));
+        assertFalse(index.remove(same2));
+        result = index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(3, result.size());
+        assertEquals(same1, result.get(1));
+        assertEquals(same3, result.get(2));
+    }
+
+    @Test
+    void testBuildAndClear() {
+        List<DateEvent> sorted = new ArrayList<>();
+        sorted.add(d1);
+        sorted.add(d2);
+        sorted.add(d3);
+        sorted.add(d4);
+        index.build(sorted);
+        assertEquals(4, index.size());
+        assertEquals(sorted, index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE));
+        index.add(d1);
+        assertEquals(5, index.size());
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(210);
+        List<DateEvent> events = new ArrayList<>();
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 2000; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            LocalTime end = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            DateEvent event = new DateEvent("e" + i, base.plusDays(random.nextInt(60)), start, end);
+            events.add(event);
+            index.add(event);
+        }
+        for (int i = 0; i < 500; i++) {
+            DateEvent removing = events.remove(random.nextInt(events.size()));
+            assertTrue(index.remove(removing));
+        }
+        events.sort(null);
+        assertEquals(events.size(), index.size());
+        for (int i = 0; i < 200; i++) {
+            long start = toEpochMinute(base.plusDays(random.nextInt(60)), LocalTime.of(random.nextInt(24), 0));
+            long end = start + random.nextInt(3 * 24 * 60);
+            assertEquals(overlapping(events, start, end), index.getOverlapping(start, end));
+            List<DateEvent> iterated = new ArrayList<>();
+            index.overlappingIterator(start, end).forEachRemaining(iterated::add);
+            assertEquals(overlapping(events, start, end), iterated);
+        }
+    }
+}
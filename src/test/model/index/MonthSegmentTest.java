@@ -0,0 +1,94 @@
+package model.index;
+
+import model.DateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TimeUtility;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonthSegmentTest {
+    private final Object owner = new Object();
+    private MonthSegment segment;
+    private DateEvent morning;
+    private DateEvent overlapping;
+    private DateEvent later;
+
+    @BeforeEach
+    void runBefore() {
+        segment = new MonthSegment(false, owner);
+        morning = new DateEvent("Morning", LocalDate.of(2020, 3, 2), LocalTime.of(9, 0), LocalTime.of(10, 0));
+        overlapping = new DateEvent("Overlap", LocalDate.of(2020, 3, 2), LocalTime.of(9, 30), LocalTime.of(11, 0));
+        later = new DateEvent("Later", LocalDate.of(2020, 3, 20), LocalTime.of(9, 0), LocalTime.of(10, 0));
+    }
+
+    @Test
+    void testAddAndRemove() {
+        segment.add(later);
+        segment.addAll(Arrays.asList(morning, overlapping));
+        assertEquals(Arrays.asList(morning, overlapping, later), segment.getEvents());
+        assertEquals(TimeUtility.dayMask(2) | TimeUtility.dayMask(20), segment.getDays());
+        assertEquals(1, segment.getConflictPairs());
+        assertEquals(Arrays.asList(overlapping), segment.findByName("over", false));
+        assertTrue(segment.containsName("Later"));
+
+        assertSame(later, segment.find(later.withName("Other")));
+        assertTrue(segment.remove(overlapping));
+        assertEquals(0, segment.getConflictPairs());
+        assertTrue(segment.remove(new DateEvent("Morning", morning.getDate(), morning.getStartTime(),
+                morning.getEndTime())));
+        assertEquals(TimeUtility.dayMask(20), segment.getDays());
+        assertFalse(segment.remove(morning));
+        assertNull(segment.find(morning));
+        assertEquals(1, segment.size());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        segment.addAll(Arrays.asList(morning, later));
+        assertTrue(segment.isOwnedBy(owner));
+        assertFalse(segment.isOwnedBy(new Object()));
+
+        Object otherOwner = new Object();
+        MonthSegment copy = segment.copy(otherOwner);
+        assertTrue(copy.isOwnedBy(otherOwner));
+        copy.add(overlapping);
+        assertTrue(copy.remove(later));
+        assertEquals(Arrays.asList(morning, later), segment.getEvents());
+        assertEquals(0, segment.getConflictPairs());
+        assertTrue(segment.getNamed("Overlap").isEmpty());
+        assertEquals(Arrays.asList(morning, overlapping), copy.getEvents());
+        assertEquals(1, copy.getConflictPairs());
+        assertEquals(Arrays.asList(overlapping), copy.search("overlap", event -> true));
+    }
+
+    @Test
+    void testReadSegmentHasNoOwner() {
+        MonthSegment read = MonthSegment.of(Arrays.asList(morning, overlapping));
+        assertFalse(read.isOwnedBy(null));
+        assertFalse(read.isOwnedBy(owner));
+        assertEquals(2, read.getEvents().size());
+        assertThrows(UnsupportedOperationException.class, () -> read.getEvents().remove(0));
+    }
+
+    @Test
+    void testPacked() {
+        MonthSegment packed = new MonthSegment(true, owner);
+        packed.addAll(Arrays.asList(morning, overlapping, later));
+        assertTrue(packed.isPacked());
+        assertNotSame(morning, packed.getEvents().get(0));
+        assertEquals(1, packed.getNamed("Overlap").size());
+        assertEquals(overlapping.getStartDateTime(), packed.getNamed("Overlap").get(0).getStartDateTime());
+        assertEquals(2, packed.search("r", event -> event.getDate().getDayOfMonth() == 2).size());
+        MonthSegment copy = packed.copy(new Object());
+        assertTrue(copy.isPacked());
+        assertTrue(copy.remove(morning));
+        assertEquals(3, packed.size());
+        assertEquals(1, packed.getConflictPairs());
+        assertEquals(0, copy.getConflictPairs());
+    }
+}
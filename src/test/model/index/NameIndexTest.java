@@ -0,0 +1,81 @@
+package model.index;
+
+import model.DateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameIndexTest {
+    private NameIndex<DateEvent> index;
+    private DateEvent lunch1;
+    private DateEvent lunch2;
+    private DateEvent lunchMeeting;
+    private DateEvent teamLunch;
+
+    @BeforeEach
+    void runBefore() {
+        index = new NameIndex<>();
+        lunch1 = new DateEvent("Lunch", LocalDate.of(2000, 5, 6), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        lunch2 = new DateEvent("Lunch", LocalDate.of(2000, 5, 5), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        lunchMeeting = new DateEvent("lunch meeting", LocalDate.of(2000, 5, 5), LocalTime.of(11, 0),
+                LocalTime.of(12, 0));
+        teamLunch = new DateEvent("Team LUNCH", LocalDate.of(2000, 5, 4), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        index.add(lunch1);
+        index.add(lunch2);
+        index.add(lunchMeeting);
+        index.add(teamLunch);
+    }
+
+    @Test
+    void testExactName() {
+        assertEquals(Arrays.asList(lunch2, lunch1), index.get("Lunch"));
+        assertSame(lunch2, index.getFirst("Lunch"));
+        assertTrue(index.contains("Team LUNCH"));
+        assertFalse(index.contains("lunch"));
+        assertEquals(Collections.emptyList(), index.get("lunch"));
+        assertNull(index.getFirst("lunch"));
+        assertEquals(3, index.nameCount());
+    }
+
+    @Test
+    void testPrefixAndContaining() {
+        assertEquals(Arrays.asList(lunchMeeting, lunch2, lunch1), index.withPrefix("LUN"));
+        assertEquals(Collections.singletonList(teamLunch), index.withPrefix("team"));
+        assertEquals(Collections.emptyList(), index.withPrefix("unch"));
+        assertEquals(Arrays.asList(teamLunch, lunchMeeting, lunch2, lunch1), index.containing("unch"));
+        assertEquals(Collections.singletonList(lunchMeeting), index.containing("MEET"));
+    }
+
+    @Test
+    void testRemove() {
+        DateEvent copy = new DateEvent("Lunch", lunch1.getDate(), lunch1.getStartTime(), lunch1.getEndTime());
+        assertTrue(index.remove(copy));
+        assertEquals(Collections.singletonList(lunch2), index.get("Lunch"));
+        assertFalse(index.remove(copy));
+        assertTrue(index.remove(lunch2));
+        assertFalse(index.contains("Lunch"));
+        assertEquals(Collections.singletonList(lunchMeeting), index.withPrefix("lunch"));
+        assertTrue(index.remove(lunchMeeting.withName("Dinner"), "lunch meeting"));
+        assertEquals(Collections.emptyList(), index.withPrefix("lunch"));
+        index.clear();
+        assertEquals(0, index.nameCount());
+    }
+
+    @Test
+    void testCopy() {
+        NameIndex<DateEvent> copy = new NameIndex<>(index);
+        assertTrue(copy.remove(lunch1));
+        assertTrue(copy.remove(teamLunch));
+        assertEquals(Arrays.asList(lunch2, lunch1), index.get("Lunch"));
+        assertEquals(Arrays.asList(lunchMeeting, lunch2, lunch1), index.withPrefix("lunch"));
+        assertEquals(Arrays.asList(lunch2), copy.get("Lunch"));
+        assertFalse(copy.contains("Team LUNCH"));
+        assertTrue(index.contains("Team LUNCH"));
+    }
+}
@@ -0,0 +1,70 @@
+package model.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameMonthsTest {
+    private final Object owner = new Object();
+    private final YearMonth march = YearMonth.of(2020, 3);
+    private final YearMonth may = YearMonth.of(2020, 5);
+    private NameMonths index;
+
+    @BeforeEach
+    void runBefore() {
+        index = new NameMonths(owner);
+        index.add("Lunch", may);
+        index.add("Lunch", march);
+        index.add("Lunch", march);
+        index.add("Team LUNCH", may);
+    }
+
+    @Test
+    void testExactName() {
+        assertEquals(Arrays.asList(march, may), Arrays.asList(index.getMonths("Lunch").toArray()));
+        assertTrue(index.contains("Team LUNCH"));
+        assertFalse(index.contains("lunch"));
+        assertEquals(Collections.emptySet(), index.getMonths("lunch"));
+        assertEquals(2, index.nameCount());
+    }
+
+    @Test
+    void testMatching() {
+        assertEquals(Arrays.asList(march, may), Arrays.asList(index.getMonthsMatching("LUN", false).toArray()));
+        assertEquals(Collections.singleton(may), index.getMonthsMatching("team", false));
+        assertEquals(Collections.singleton(may), index.getMonthsMatching("m l", true));
+        assertTrue(index.getMonthsMatching("unch", false).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        index.remove("Lunch", march);
+        assertEquals(Arrays.asList(march, may), Arrays.asList(index.getMonths("Lunch").toArray()));
+        index.remove("Lunch", march);
+        assertEquals(Collections.singleton(may), index.getMonths("Lunch"));
+        index.remove("Lunch", may);
+        assertFalse(index.contains("Lunch"));
+        assertEquals(1, index.nameCount());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        assertTrue(index.isOwnedBy(owner));
+        assertFalse(new NameMonths(null).isOwnedBy(null));
+        Object otherOwner = new Object();
+        NameMonths copy = index.copy(otherOwner);
+        assertTrue(copy.isOwnedBy(otherOwner));
+        copy.remove("Lunch", may);
+        copy.add("Dinner", march);
+        index.remove("Team LUNCH", may);
+        assertEquals(Collections.singleton(march), copy.getMonths("Lunch"));
+        assertEquals(Arrays.asList(march, may), Arrays.asList(index.getMonths("Lunch").toArray()));
+        assertTrue(copy.contains("Team LUNCH"));
+        assertFalse(index.contains("Dinner"));
+    }
+}
@@ -0,0 +1,115 @@
+package model.index;
+
+import model.DateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedDateEventListTest {
+    private PackedDateEventList list;
+    private DateEvent d1;
+    private DateEvent d2;
+    private DateEvent d3;
+
+    @BeforeEach
+    void runBefore() {
+        list = new PackedDateEventList();
+        d1 = new DateEvent("d1", LocalDate.of(2000, 5, 5), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        d2 = new DateEvent("d2", LocalDate.of(2000, 5, 5), LocalTime.of(12, 50), LocalTime.of(18, 0));
+        d3 = new DateEvent("d3", LocalDate.of(2000, 5, 6), LocalTime.of(0, 0), LocalTime.of(23, 59));
+    }
+
+    // EFFECTS: returns "name start end" of event
+    private static String describe(DateEvent event) {
+        return event.getName() + " " + event.getStartDateTime() + " " + event.getEndTime();
+    }
+
+    // EFFECTS: returns describe of each event in events
+    private static List<String> describeAll(List<DateEvent> events) {
+        List<String> retVal = new ArrayList<>();
+        for (DateEvent event : events) {
+            retVal.add(describe(event));
+        }
+        return retVal;
+    }
+
+    @Test
+    void testAddGetRemove() {
+        list.add(d1);
+        list.add(d3);
+        list.add(1, d2);
+        assertEquals(3, list.size());
+        assertEquals(describeAll(Arrays.asList(d1, d2, d3)), describeAll(list));
+        assertNotSame(list.get(0), list.get(0));
+        assertEquals(describe(d2), describe(list.remove(1)));
+        assertEquals(describeAll(Arrays.asList(d1, d3)), describeAll(list));
+        assertEquals(describe(d1), describe(list.set(0, d2)));
+        assertEquals(describe(d2), describe(list.get(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testCopy() {
+        list.add(d1);
+        list.add(d2);
+        PackedDateEventList copy = new PackedDateEventList(list);
+        copy.add(d3);
+        copy.remove(0);
+        assertEquals(describeAll(Arrays.asList(d1, d2)), describeAll(list));
+        assertEquals(describeAll(Arrays.asList(d2, d3)), describeAll(copy));
+    }
+
+    @Test
+    void testSortIsStable() {
+        DateEvent same = new DateEvent("same", LocalDateTime.of(2000, 5, 5, 12, 0));
+        list.add(d3);
+        list.add(d1);
+        list.add(same);
+        list.add(d2);
+        list.sort(null);
+        assertEquals(describeAll(Arrays.asList(d1, same, d2, d3)), describeAll(list));
+    }
+
+    @Test
+    void testIndexMatchesIntervalTree() {
+        Random random = new Random(110);
+        List<DateEvent> events = new ArrayList<>();
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 3000; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            LocalTime end = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            events.add(new DateEvent("e" + (i % 50), base.plusDays(random.nextInt(60)), start, end));
+        }
+        list.addAll(events);
+        list.sort(null);
+        events.sort(null);
+        IntervalTreeIndex tree = new IntervalTreeIndex();
+        tree.build(events);
+        DateEventIndex index = list.asIndex();
+        assertEquals(events.size(), index.size());
+        for (int i = 0; i < 200; i++) {
+            long start = random.nextInt(62 * 24 * 60) + base.toEpochDay() * 24 * 60 - 24 * 60;
+            long end = start + random.nextInt(3 * 24 * 60);
+            List<String> expected = describeAll(tree.getOverlapping(start, end));
+            assertEquals(expected, describeAll(index.getOverlapping(start, end)));
+            List<DateEvent> iterated = new ArrayList<>();
+            index.overlappingIterator(start, end).forEachRemaining(iterated::add);
+            assertEquals(expected, describeAll(iterated));
+        }
+        assertEquals(events.size(), index.getOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).size());
+        Iterator<DateEvent> empty = index.overlappingIterator(Long.MIN_VALUE, Long.MIN_VALUE);
+        assertFalse(empty.hasNext());
+    }
+}
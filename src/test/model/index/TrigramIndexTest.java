@@ -0,0 +1,109 @@
+package model.index;
+
+import model.DateEvent;
+import model.MultiEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramIndexTest {
+    private TrigramIndex<DateEvent> index;
+    private DateEvent lunch;
+    private DateEvent lunchMeeting;
+    private DateEvent teamLunch;
+    private DateEvent brunch;
+    private MultiEvent holiday;
+
+    @BeforeEach
+    void runBefore() {
+        index = new TrigramIndex<>();
+        lunch = new DateEvent("Lunch", LocalDate.of(2000, 5, 6), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        lunchMeeting = new DateEvent("Lunch meeting", LocalDate.of(2000, 5, 5), LocalTime.of(11, 0),
+                LocalTime.of(12, 0));
+        teamLunch = new DateEvent("Team LUNCH", LocalDate.of(2000, 5, 4), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        brunch = new DateEvent("Brunch", LocalDate.of(2000, 5, 3), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        holiday = new MultiEvent("Victoria Day", LocalDate.of(2000, 5, 2), LocalTime.of(0, 0), LocalTime.of(23, 59));
+        holiday.setOtherNames(new ArrayList<>(Collections.singletonList("Lunch Day")));
+        for (DateEvent event : Arrays.asList(lunch, lunchMeeting, teamLunch, brunch, holiday)) {
+            index.add(event);
+        }
+    }
+
+    @Test
+    void testSearchRanks() {
+        assertEquals(Arrays.asList(lunch, lunchMeeting, teamLunch, holiday), index.search("lunch"));
+        assertEquals(Arrays.asList(brunch, teamLunch, lunchMeeting, lunch, holiday), index.search("UNCH"));
+        assertEquals(Arrays.asList(lunchMeeting, lunch, teamLunch, holiday), index.search("lu"));
+        assertEquals(Collections.singletonList(holiday), index.search("day"));
+        assertEquals(Collections.emptyList(), index.search("dinner"));
+        assertEquals(Arrays.asList(brunch, teamLunch, holiday),
+                index.search("unch", event -> event.getDate().isBefore(LocalDate.of(2000, 5, 5))));
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(6, index.termCount());
+        assertTrue(index.remove(new DateEvent("Lunch", lunch.getDate(), lunch.getStartTime(), lunch.getEndTime())));
+        assertEquals(Arrays.asList(lunchMeeting, teamLunch, holiday), index.search("lunch"));
+        assertEquals(5, index.termCount());
+        assertTrue(index.remove(holiday));
+        assertFalse(index.remove(holiday));
+        assertEquals(3, index.termCount());
+        assertEquals(Collections.emptyList(), index.search("vic"));
+        index.clear();
+        assertEquals(0, index.termCount());
+        assertEquals(Collections.emptyList(), index.search("lunch"));
+    }
+
+    @Test
+    void testCopy() {
+        assertTrue(index.remove(teamLunch));
+        TrigramIndex<DateEvent> copy = new TrigramIndex<>(index);
+        assertTrue(copy.remove(lunch));
+        copy.add(teamLunch);
+        assertEquals(Arrays.asList(lunch, lunchMeeting, holiday), index.search("lunch"));
+        assertEquals(Arrays.asList(lunchMeeting, teamLunch, holiday), copy.search("lunch"));
+        assertEquals(index.termCount(), copy.termCount());
+        index.clear();
+        assertEquals(Arrays.asList(brunch), copy.search("bru"));
+    }
+
+    @Test
+    void testSearchMatchesRank() {
+        Random random = new Random(15);
+        List<DateEvent> events = new ArrayList<>();
+        index.clear();
+        for (int i = 0; i < 400; i++) {
+            DateEvent event = new DateEvent(randomText(random), LocalDate.of(2000, 1, 1).plusDays(i),
+                    LocalTime.of(random.nextInt(23), 0), LocalTime.of(23, 0));
+            if (random.nextInt(4) == 0 && !events.isEmpty()) {
+                assertTrue(index.remove(events.remove(random.nextInt(events.size()))));
+            }
+            events.add(event);
+            index.add(event);
+        }
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random).substring(0, 1 + random.nextInt(4));
+            assertEquals(TrigramIndex.rank(events, query), index.search(query), query);
+        }
+    }
+
+    // EFFECTS: returns a short text of a few letters and spaces
+    private static String randomText(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 4 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            builder.append(" abAB".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+}
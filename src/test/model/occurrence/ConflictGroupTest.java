@@ -0,0 +1,94 @@
+package model.occurrence;
+
+import model.DateEvent;
+import model.MonthlyEvent;
+import model.ScheduleContainer;
+import model.WeeklyEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConflictGroupTest {
+    private ScheduleContainer schedule;
+    private LocalDate monday;
+    private DateEvent long1;
+    private DateEvent inside1;
+    private DateEvent inside2;
+    private DateEvent apart;
+
+    @BeforeEach
+    void runBefore() {
+        schedule = new ScheduleContainer();
+        monday = LocalDate.of(2021, 3, 1);
+        long1 = new DateEvent("long", monday, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        inside1 = new DateEvent("inside1", monday, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        inside2 = new DateEvent("inside2", monday, LocalTime.of(12, 0), LocalTime.of(13, 0));
+        apart = new DateEvent("apart", monday, LocalTime.of(18, 0), LocalTime.of(19, 0));
+    }
+
+    @Test
+    void testGroupsFollowLatestEnd() {
+        schedule.addEvent(long1);
+        schedule.addEvent(inside1);
+        schedule.addEvent(inside2);
+        schedule.addEvent(apart);
+        List<ConflictGroup> groups = schedule.getConflicts(monday, monday);
+        assertEquals(1, groups.size());
+        ConflictGroup group = groups.get(0);
+        assertEquals(3, group.size());
+        assertEquals(long1, group.getOccurrences().get(0).getEvent());
+        assertEquals(inside2, group.getOccurrences().get(2).getEvent());
+        assertEquals(long1.getStartEpochMinute(), group.getStartEpochMinute());
+        assertEquals(long1.getEndEpochMinute(), group.getEndEpochMinute());
+    }
+
+    @Test
+    void testRepeatEventsInGroups() {
+        schedule.addEvent(apart);
+        schedule.addEvent(new WeeklyEvent("weekly", DayOfWeek.MONDAY, LocalTime.of(18, 30), LocalTime.of(20, 0)));
+        schedule.addEvent(new MonthlyEvent("monthly", 8, LocalTime.of(19, 0), LocalTime.of(21, 0)));
+        List<ConflictGroup> groups = schedule.getConflicts(monday, monday.plusDays(13));
+        assertEquals(2, groups.size());
+        assertEquals(2, groups.get(0).size());
+        assertEquals(monday, groups.get(0).getOccurrences().get(1).getDate());
+        assertEquals(2, groups.get(1).size());
+        assertEquals(monday.plusDays(7), groups.get(1).getOccurrences().get(0).getDate());
+        assertTrue(schedule.getConflicts(monday.plusDays(1), monday.plusDays(6)).isEmpty());
+    }
+
+    @Test
+    void testConflictsWithNewEvent() {
+        schedule.addEvent(long1);
+        schedule.addEvent(apart);
+        WeeklyEvent weekly = new WeeklyEvent("weekly", DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0));
+        schedule.addEvent(weekly);
+        DateEvent added = new DateEvent("new", monday, LocalTime.of(8, 30), LocalTime.of(9, 30));
+        List<Occurrence> conflicts = schedule.getConflictsWith(added, monday, monday);
+        assertEquals(2, conflicts.size());
+        assertEquals(weekly, conflicts.get(0).getEvent());
+        assertEquals(long1, conflicts.get(1).getEvent());
+        assertTrue(schedule.getConflictsWith(added, monday.plusDays(1), monday.plusDays(30)).isEmpty());
+        MonthlyEvent monthly = new MonthlyEvent("monthly", 1, LocalTime.of(18, 30), LocalTime.of(18, 45));
+        conflicts = schedule.getConflictsWith(monthly, monday, monday.plusMonths(3));
+        assertEquals(1, conflicts.size());
+        assertEquals(apart, conflicts.get(0).getEvent());
+        conflicts = schedule.getConflictsWith(weekly, monday, monday.plusDays(14));
+        assertEquals(1, conflicts.size());
+        assertEquals(long1, conflicts.get(0).getEvent());
+    }
+
+    @Test
+    void testOverlaps() {
+        Occurrence first = new Occurrence(inside1);
+        assertTrue(ConflictGroup.overlaps(first, new Occurrence(long1)));
+        assertTrue(ConflictGroup.overlaps(first, new Occurrence(new DateEvent("touch", monday,
+                LocalTime.of(11, 0), LocalTime.of(11, 30)))));
+        assertFalse(ConflictGroup.overlaps(first, new Occurrence(inside2)));
+    }
+}
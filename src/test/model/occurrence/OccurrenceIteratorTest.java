@@ -0,0 +1,135 @@
+package model.occurrence;
+
+import model.DateEvent;
+import model.MonthlyEvent;
+import model.RepeatEvent;
+import model.ScheduleContainer;
+import model.WeeklyEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OccurrenceIteratorTest {
+    private ScheduleContainer schedule;
+    private DateEvent d1;
+    private WeeklyEvent w1;
+    private MonthlyEvent m1;
+
+    @BeforeEach
+    void runBefore() {
+        schedule = new ScheduleContainer();
+        d1 = new DateEvent("d1", LocalDate.of(2021, 3, 1), LocalTime.of(9, 0), LocalTime.of(10, 0));
+        w1 = new WeeklyEvent("w1", DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(9, 30));
+        m1 = new MonthlyEvent("m1", 31, LocalTime.of(8, 0), LocalTime.of(8, 30));
+    }
+
+    // EFFECTS: returns "name date time" for every occurrence between startDate and endDate
+    //          by checking each event on each day
+    private static List<String> expandEachDay(List<DateEvent> dateEvents, List<RepeatEvent> repeatEvents,
+                                              LocalDate startDate, LocalDate endDate) {
+        List<String> retVal = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            List<Occurrence> day = new ArrayList<>();
+            for (DateEvent event : dateEvents) {
+                if (event.isOnDate(date)) {
+                    day.add(new Occurrence(event));
+                }
+            }
+            for (RepeatEvent event : repeatEvents) {
+                if (event.isOnDate(date)) {
+                    day.add(new Occurrence(event, date));
+                }
+            }
+            day.sort(null);
+            for (Occurrence occurrence : day) {
+                retVal.add(describe(occurrence));
+            }
+        }
+        return retVal;
+    }
+
+    private static String describe(Occurrence occurrence) {
+        return occurrence.getName() + " " + occurrence.getStartDateTime();
+    }
+
+    @Test
+    void testEmpty() {
+        OccurrenceIterator iterator = schedule.getOccurrencesBetweenDates(LocalDate.of(2021, 1, 1),
+                LocalDate.of(2021, 12, 31));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testMergedInOrder() {
+        schedule.addEvent(m1);
+        schedule.addEvent(w1);
+        schedule.addEvent(d1);
+        OccurrenceIterator iterator = schedule.getOccurrencesBetweenDates(LocalDate.of(2021, 2, 28),
+                LocalDate.of(2021, 3, 31));
+        Occurrence first = iterator.next();
+        assertEquals(d1, first.getEvent());
+        assertFalse(first.isRepeat());
+        Occurrence second = iterator.next();
+        assertEquals(w1, second.getEvent());
+        assertTrue(second.isRepeat());
+        assertEquals(LocalDate.of(2021, 3, 1), second.getDate());
+        assertEquals(LocalDate.of(2021, 3, 8), iterator.next().getDate());
+        assertEquals(LocalDate.of(2021, 3, 15), iterator.next().getDate());
+        assertEquals(LocalDate.of(2021, 3, 22), iterator.next().getDate());
+        assertEquals(LocalDate.of(2021, 3, 29), iterator.next().getDate());
+        Occurrence last = iterator.next();
+        assertEquals(m1, last.getEvent());
+        assertEquals(LocalDate.of(2021, 3, 31), last.getDate());
+        assertEquals(last.getStartEpochMinute() + 30, last.getEndEpochMinute());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testStreamIsLazy() {
+        schedule.addEvent(w1);
+        List<Occurrence> firstThree = schedule.getOccurrencesBetweenDates(LocalDate.of(2021, 1, 1), LocalDate.MAX)
+                .stream().limit(3).collect(Collectors.toList());
+        assertEquals(3, firstThree.size());
+        assertEquals(LocalDate.of(2021, 1, 4), firstThree.get(0).getDate());
+        assertEquals(LocalDate.of(2021, 1, 18), firstThree.get(2).getDate());
+    }
+
+    @Test
+    void testMatchesDayByDayExpansion() {
+        Random random = new Random(90);
+        List<DateEvent> dateEvents = new ArrayList<>();
+        List<RepeatEvent> repeatEvents = new ArrayList<>();
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+            dateEvents.add(new DateEvent("d" + i, base.plusDays(random.nextInt(400)), start, start));
+        }
+        for (int i = 0; i < 20; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+            repeatEvents.add(new WeeklyEvent("w" + i, DayOfWeek.of(1 + random.nextInt(7)), start, start));
+            repeatEvents.add(new MonthlyEvent("m" + i, 1 + random.nextInt(31), start, start));
+        }
+        schedule.addDateEvents(dateEvents);
+        schedule.addRepeatEvents(repeatEvents);
+        schedule.sort();
+        for (int i = 0; i < 20; i++) {
+            LocalDate startDate = base.plusDays(random.nextInt(400));
+            LocalDate endDate = startDate.plusDays(random.nextInt(90));
+            List<String> merged = schedule.getOccurrencesBetweenDates(startDate, endDate).stream()
+                    .map(OccurrenceIteratorTest::describe).collect(Collectors.toList());
+            assertEquals(expandEachDay(schedule.getDateEvents(), schedule.getRepeatEvents(), startDate, endDate),
+                    merged);
+        }
+    }
+}
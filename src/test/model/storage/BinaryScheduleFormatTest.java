@@ -0,0 +1,74 @@
+package model.storage;
+
+import model.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryScheduleFormatTest {
+
+    // EFFECTS: writes schedule into bytes and reads it back
+    private static ScheduleContainer roundTrip(ScheduleContainer schedule) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryScheduleFormat.write(schedule, outputStream);
+        return BinaryScheduleFormat.read(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @Test
+    void testEmpty() {
+        try {
+            ScheduleContainer loaded = roundTrip(new ScheduleContainer());
+            assertEquals(0, loaded.getDateEventsSize());
+            assertEquals(0, loaded.getRepeatEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testRoundTrip() {
+        ScheduleContainer s = new ScheduleContainer();
+        s.addEvent(new DateEvent("lunch", LocalDate.of(1850, 2, 28), LocalTime.of(12, 0), LocalTime.of(13, 0)));
+        s.addEvent(new DateEvent("lunch", LocalDate.of(2020, 2, 29), LocalTime.of(0, 0), LocalTime.of(23, 59)));
+        s.addEvent(new DateEvent("café 日本", LocalDate.of(2020, 2, 29), LocalTime.of(5, 7),
+                LocalTime.of(6, 8)));
+        s.addEvent(new WeeklyEvent("lunch", DayOfWeek.SUNDAY, LocalTime.of(12, 0), LocalTime.of(12, 30)));
+        s.addEvent(new MonthlyEvent("rent", 31, LocalTime.of(9, 0), LocalTime.of(9, 1)));
+        try {
+            ScheduleContainer loaded = roundTrip(s);
+            assertEquals(3, loaded.getDateEventsSize());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(s.getDateEvent(i).getName(), loaded.getDateEvent(i).getName());
+                assertEquals(s.getDateEvent(i).getStartDateTime(), loaded.getDateEvent(i).getStartDateTime());
+                assertEquals(s.getDateEvent(i).getEndDateTime(), loaded.getDateEvent(i).getEndDateTime());
+            }
+            assertSame(loaded.getDateEvent(0).getName(), loaded.getDateEvent(1).getName());
+            assertEquals(2, loaded.getRepeatEventsSize());
+            WeeklyEvent weekly = (WeeklyEvent) loaded.getRepeatEvent(0);
+            assertEquals(DayOfWeek.SUNDAY, weekly.getDayOfWeek());
+            assertEquals(LocalTime.of(12, 30), weekly.getEndTime());
+            MonthlyEvent monthly = (MonthlyEvent) loaded.getRepeatEvent(1);
+            assertEquals("rent", monthly.getName());
+            assertEquals(31, monthly.getDayOf());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testReadNotBinary() {
+        try {
+            BinaryScheduleFormat.read(new ByteArrayInputStream("{\"dateEvents\":[]}".getBytes()));
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
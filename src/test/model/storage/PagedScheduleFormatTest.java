@@ -0,0 +1,170 @@
+package model.storage;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PagedScheduleFormatTest {
+    private static final String TEST_PAGED_FILE = "data/testSchedule.paged";
+
+    private ScheduleContainer schedule;
+
+    @BeforeEach
+    void runBefore() {
+        schedule = new ScheduleContainer();
+        LocalDate base = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < 3 * 365; i++) {
+            schedule.addEvent(new DateEvent("event " + (i % 7), base.plusDays(i), LocalTime.of(i % 24, 0),
+                    LocalTime.of(i % 24, 30)));
+        }
+        schedule.addEvent(new WeeklyEvent("weekly", DayOfWeek.FRIDAY, LocalTime.of(18, 0)));
+        schedule.addEvent(new MonthlyEvent("monthly", 1, LocalTime.of(7, 0), LocalTime.of(7, 15)));
+    }
+
+    // EFFECTS: writes schedule to TEST_PAGED_FILE and opens it again
+    private ScheduleContainer writeAndOpen(ScheduleContainer schedule) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(TEST_PAGED_FILE))) {
+            PagedScheduleFormat.write(schedule, outputStream);
+        }
+        return PagedScheduleFormat.open(TEST_PAGED_FILE);
+    }
+
+    @Test
+    void testPagesInOnlyTouchedMonths() {
+        try {
+            ScheduleContainer opened = writeAndOpen(schedule);
+            YearMonth june = YearMonth.of(2016, 6);
+            assertEquals(schedule.getDateEventsSize(), opened.getDateEventsSize());
+            assertEquals(2, opened.getRepeatEventsSize());
+            assertFalse(opened.isLoaded(june));
+            assertFalse(opened.hasDateEventConflict());
+            assertFalse(opened.isLoaded(june));
+            List<DateEvent> expected = schedule.getDateEventsForYearMonth(june);
+            List<DateEvent> actual = opened.getDateEventsForYearMonth(june);
+            assertEquals(30, actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getName(), actual.get(i).getName());
+                assertEquals(expected.get(i).getStartDateTime(), actual.get(i).getStartDateTime());
+            }
+            assertTrue(opened.isLoaded(june));
+            assertFalse(opened.isLoaded(june.plusMonths(1)));
+            boolean[] hasEvents = opened.hasEvents(june.plusMonths(1), true, false);
+            assertTrue(hasEvents[0]);
+            assertTrue(opened.isLoaded(june.plusMonths(1)));
+            assertFalse(opened.isLoaded(june.minusMonths(1)));
+            assertEquals(schedule.getDateEventsSize(), opened.getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testEditAndGoThroughAll() {
+        try {
+            ScheduleContainer opened = writeAndOpen(schedule);
+            DateEvent added = new DateEvent("added", LocalDate.of(2017, 3, 3), LocalTime.of(1, 0),
+                    LocalTime.of(2, 0));
+            opened.addEvent(added);
+            assertTrue(opened.isLoaded(YearMonth.of(2017, 3)));
+            assertTrue(opened.removeEvent(opened.getDateEventsForYearMonth(YearMonth.of(2015, 2)).get(0)));
+            assertEquals(schedule.getDateEventsSize(), opened.getDateEventsSize());
+            List<DateEvent> all = opened.getDateEvents();
+            assertEquals(schedule.getDateEventsSize(), all.size());
+            assertTrue(all.contains(added));
+            for (int i = 1; i < all.size(); i++) {
+                assertTrue(all.get(i - 1).compareTo(all.get(i)) <= 0);
+            }
+            assertEquals(schedule.getDateEvent(10).getStartDateTime(), opened.getDateEvent(10).getStartDateTime());
+            assertFalse(opened.isLoaded(YearMonth.of(2015, 5)));
+            assertFalse(opened.isLoaded(YearMonth.of(2017, 12)));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testSaveOverOpenedFile() {
+        try {
+            ScheduleContainer opened = writeAndOpen(schedule);
+            SaveLoadSystem.saveSchedule(opened, TEST_PAGED_FILE, SaveFormat.PAGED);
+            assertEquals(SaveFormat.PAGED, SaveLoadSystem.detectFormat(TEST_PAGED_FILE));
+            YearMonth june = YearMonth.of(2016, 6);
+            assertFalse(opened.isLoaded(june));
+            assertEquals(30, opened.getDateEventsForYearMonth(june).size());
+            ScheduleContainer reopened = SaveLoadSystem.loadSchedule(TEST_PAGED_FILE);
+            assertEquals(schedule.getDateEventsSize(), reopened.getDateEventsSize());
+            for (int i = 0; i < schedule.getDateEventsSize(); i++) {
+                assertEquals(schedule.getDateEvent(i).getName(), reopened.getDateEvent(i).getName());
+                assertEquals(schedule.getDateEvent(i).getStartDateTime(),
+                        reopened.getDateEvent(i).getStartDateTime());
+                assertEquals(schedule.getDateEvent(i).getEndDateTime(), reopened.getDateEvent(i).getEndDateTime());
+            }
+            assertEquals("monthly", reopened.getRepeatEvent(1).getName());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testConflictsWithoutReadingIn() {
+        try {
+            LocalDate date = LocalDate.of(2016, 6, 10);
+            schedule.addEvent(new DateEvent("all day", date, LocalTime.of(0, 0), LocalTime.of(23, 59)));
+            ScheduleContainer opened = writeAndOpen(schedule);
+            assertTrue(opened.hasDateEventConflict());
+            assertFalse(opened.isLoaded(YearMonth.from(date)));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testNamesWithoutReadingIn() {
+        try {
+            LocalDate date = LocalDate.of(2016, 6, 10);
+            schedule.addEvent(new DateEvent("only once", date, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+            ScheduleContainer opened = writeAndOpen(schedule);
+            YearMonth june = YearMonth.from(date);
+            assertTrue(opened.dateEventsContains("only once"));
+            assertFalse(opened.dateEventsContains("event 7"));
+            assertFalse(opened.isLoaded(june));
+            List<DateEvent> named = opened.getDateEventsNamed("only once");
+            assertEquals(1, named.size());
+            assertEquals(date, named.get(0).getDate());
+            assertEquals(1, opened.findDateEventsByName("ONLY", false).size());
+            assertTrue(opened.isLoaded(june));
+            assertFalse(opened.isLoaded(june.minusMonths(1)));
+
+            assertTrue(opened.removeEvent(named.get(0)));
+            assertFalse(opened.dateEventsContains("only once"));
+            assertEquals(schedule.getDateEventsNamed("event 0", date.withDayOfMonth(1), date).size(),
+                    opened.getDateEventsNamed("event 0", date.withDayOfMonth(1), date).size());
+            assertFalse(opened.isLoaded(june.plusMonths(1)));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testOpenNotPaged() {
+        try {
+            SaveLoadSystem.saveSchedule(schedule, TEST_PAGED_FILE, SaveFormat.BINARY);
+            PagedScheduleFormat.open(TEST_PAGED_FILE);
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
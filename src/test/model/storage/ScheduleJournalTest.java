@@ -0,0 +1,217 @@
+package model.storage;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleJournalTest {
+    private static final String TEST_SNAPSHOT_FILE = "data/testJournaled.json";
+    private static final String TEST_JOURNAL_FILE = TEST_SNAPSHOT_FILE + ScheduleJournal.EXTENSION;
+
+    private ScheduleJournal journal;
+    private ScheduleContainer schedule;
+    private DateEvent d1;
+    private DateEvent d2;
+    private WeeklyEvent w1;
+
+    @BeforeEach
+    void runBefore() {
+        new File(TEST_SNAPSHOT_FILE).delete();
+        new File(TEST_JOURNAL_FILE).delete();
+        journal = new ScheduleJournal(TEST_SNAPSHOT_FILE);
+        schedule = new ScheduleContainer();
+        d1 = new DateEvent("d1", LocalDate.of(2021, 3, 4), LocalTime.of(9, 0), LocalTime.of(10, 0));
+        d2 = new DateEvent("d2", LocalDate.of(2021, 3, 4), LocalTime.of(9, 0), LocalTime.of(9, 30));
+        w1 = new WeeklyEvent("w1", DayOfWeek.WEDNESDAY, LocalTime.of(7, 0), LocalTime.of(8, 0));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds dateEvent to schedule and records it
+    private void add(DateEvent dateEvent) {
+        schedule.addEvent(dateEvent);
+        journal.recordAdd(dateEvent);
+    }
+
+    @Test
+    void testFirstFlushWritesSnapshot() {
+        add(d1);
+        try {
+            journal.flush(schedule, SaveFormat.JSON);
+            assertEquals(0, journal.getJournalRecords());
+            assertEquals(0, journal.getPendingRecords());
+            assertEquals(1, SaveLoadSystem.loadSchedule(TEST_SNAPSHOT_FILE).getDateEventsSize());
+            assertTrue(new File(TEST_JOURNAL_FILE).exists());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testFlushAppendsAndReplays() {
+        try {
+            journal.flush(schedule, SaveFormat.JSON);
+            long snapshotSize = Files.size(Paths.get(TEST_SNAPSHOT_FILE));
+            add(d1);
+            add(d2);
+            schedule.addEvent(w1);
+            journal.recordAdd(w1);
+            schedule.removeEvent(d1);
+            journal.recordRemove(d1);
+            journal.flush(schedule, SaveFormat.JSON);
+            assertEquals(4, journal.getJournalRecords());
+            assertEquals(snapshotSize, Files.size(Paths.get(TEST_SNAPSHOT_FILE)));
+            ScheduleJournal reopened = new ScheduleJournal(TEST_SNAPSHOT_FILE);
+            ScheduleContainer loaded = reopened.load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals("d2", loaded.getDateEvent(0).getName());
+            assertEquals(1, loaded.getRepeatEventsSize());
+            assertEquals("w1", loaded.getRepeatEvent(0).getName());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testUnflushedChangesAreDropped() {
+        try {
+            journal.flush(schedule, SaveFormat.BINARY);
+            add(d1);
+            journal.flush(schedule, SaveFormat.BINARY);
+            add(d2);
+            assertEquals(1, journal.getPendingRecords());
+            ScheduleContainer loaded = journal.load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals(0, journal.getPendingRecords());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testTornRecordIsCutOff() {
+        try {
+            journal.flush(schedule, SaveFormat.JSON);
+            add(d1);
+            add(d2);
+            journal.flush(schedule, SaveFormat.JSON);
+            long length = new File(TEST_JOURNAL_FILE).length();
+            try (RandomAccessFile file = new RandomAccessFile(TEST_JOURNAL_FILE, "rw")) {
+                file.setLength(length - 3);
+            }
+            ScheduleContainer loaded = journal.load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals("d1", loaded.getDateEvent(0).getName());
+            assertEquals(1, journal.getJournalRecords());
+            add(d2);
+            journal.flush(loaded, SaveFormat.JSON);
+            assertEquals(2, new ScheduleJournal(TEST_SNAPSHOT_FILE).load().getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testStaleJournalIsIgnored() {
+        try {
+            journal.flush(schedule, SaveFormat.JSON);
+            add(d1);
+            journal.flush(schedule, SaveFormat.JSON);
+            byte[] staleJournal = Files.readAllBytes(Paths.get(TEST_JOURNAL_FILE));
+            journal.writeSnapshot(schedule, SaveFormat.JSON);
+            try (FileOutputStream outputStream = new FileOutputStream(TEST_JOURNAL_FILE)) {
+                outputStream.write(staleJournal);
+            }
+            ScheduleContainer loaded = journal.load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertFalse(new File(TEST_JOURNAL_FILE).exists());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testFormatChangeWritesSnapshot() {
+        try {
+            journal.flush(schedule, SaveFormat.JSON);
+            add(d1);
+            journal.flush(schedule, SaveFormat.PAGED);
+            assertEquals(0, journal.getJournalRecords());
+            assertEquals(SaveFormat.PAGED, SaveLoadSystem.detectFormat(TEST_SNAPSHOT_FILE));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testRecordsAfterFailedSnapshotAreRefused() {
+        File blocker = new File(TEST_SNAPSHOT_FILE + SaveLoadSystem.TEMP_EXTENSION);
+        try {
+            add(d1);
+            journal.flush(schedule, SaveFormat.JSON);
+            schedule.removeEvent(d1);
+            journal.recordRemove(d1);
+            ScheduleJournal.Checkpoint snapshot = journal.checkpoint(schedule, SaveFormat.BINARY);
+            add(d2);
+            ScheduleJournal.Checkpoint records = journal.checkpoint(schedule, SaveFormat.JSON);
+            assertTrue(snapshot.isSnapshot());
+            assertFalse(records.isSnapshot());
+
+            // a directory in the way of the temporary file makes the snapshot fail
+            assertTrue(blocker.mkdir());
+            assertThrows(IOException.class, snapshot::write);
+            assertThrows(IOException.class, records::write);
+            ScheduleContainer loaded = new ScheduleJournal(TEST_SNAPSHOT_FILE).load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals("d1", loaded.getDateEvent(0).getName());
+
+            blocker.delete();
+            assertTrue(journal.checkpoint(schedule, SaveFormat.JSON).isSnapshot());
+            journal.writeSnapshot(schedule, SaveFormat.JSON);
+            loaded = new ScheduleJournal(TEST_SNAPSHOT_FILE).load();
+            assertEquals(1, loaded.getDateEventsSize());
+            assertEquals("d2", loaded.getDateEvent(0).getName());
+        } catch (IOException e) {
+            fail();
+        } finally {
+            blocker.delete();
+        }
+    }
+
+    @Test
+    void testCompaction() {
+        try {
+            journal.flush(schedule, SaveFormat.BINARY);
+            LocalDate base = LocalDate.of(2022, 1, 1);
+            for (int i = 0; i < 1500; i++) {
+                add(new DateEvent("e" + i, base.plusDays(i % 300).atTime(i % 24, 0)));
+                if (i % 500 == 499) {
+                    journal.flush(schedule, SaveFormat.BINARY);
+                }
+                if (i == 999) {
+                    assertEquals(1000, journal.getJournalRecords());
+                }
+            }
+            assertEquals(0, journal.getJournalRecords());
+            add(d1);
+            journal.flush(schedule, SaveFormat.BINARY);
+            assertEquals(1, journal.getJournalRecords());
+            assertEquals(1500, SaveLoadSystem.loadSchedule(TEST_SNAPSHOT_FILE).getDateEventsSize());
+            ScheduleContainer loaded = new ScheduleJournal(TEST_SNAPSHOT_FILE).load();
+            assertEquals(1501, loaded.getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package model.storage;
+
+import model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleSaverTest {
+    private static final String TEST_SAVE_FILE = "data/testSaver.json";
+
+    private ScheduleSaver saver;
+    private AtomicInteger succeeded;
+    private AtomicInteger failed;
+
+    @BeforeEach
+    void runBefore() {
+        new File(TEST_SAVE_FILE).delete();
+        new File(TEST_SAVE_FILE + ScheduleJournal.EXTENSION).delete();
+        succeeded = new AtomicInteger();
+        failed = new AtomicInteger();
+        saver = new ScheduleSaver(new ScheduleSaver.Listener() {
+            @Override
+            public void saveSucceeded(ScheduleJournal.Checkpoint checkpoint) {
+                succeeded.incrementAndGet();
+            }
+
+            @Override
+            public void saveFailed(ScheduleJournal.Checkpoint checkpoint, IOException e) {
+                failed.incrementAndGet();
+            }
+        });
+    }
+
+    @AfterEach
+    void runAfter() {
+        saver.close();
+    }
+
+    @Test
+    void testBurstOfSaves() {
+        ScheduleJournal journal = new ScheduleJournal(TEST_SAVE_FILE);
+        ScheduleContainer schedule = new ScheduleContainer();
+        for (int i = 0; i < 200; i++) {
+            DateEvent dateEvent = new DateEvent("e" + i, LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i * 7));
+            schedule.addEvent(dateEvent);
+            journal.recordAdd(dateEvent);
+            saver.save(journal.checkpoint(schedule, SaveFormat.JSON));
+        }
+        saver.awaitIdle();
+        assertEquals(0, failed.get());
+        assertFalse(saver.lastWriteFailed());
+        assertTrue(succeeded.get() >= 1 && succeeded.get() <= 200);
+        try {
+            assertEquals(200, new ScheduleJournal(TEST_SAVE_FILE).load().getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testMerge() {
+        ScheduleJournal journal = new ScheduleJournal(TEST_SAVE_FILE);
+        ScheduleContainer schedule = new ScheduleContainer();
+        ScheduleJournal.Checkpoint first = journal.checkpoint(schedule, SaveFormat.BINARY);
+        assertTrue(first.isSnapshot());
+        DateEvent dateEvent = new DateEvent("d", LocalDateTime.of(2020, 5, 5, 5, 5));
+        schedule.addEvent(dateEvent);
+        journal.recordAdd(dateEvent);
+        ScheduleJournal.Checkpoint second = journal.checkpoint(schedule, SaveFormat.BINARY);
+        assertTrue(second.isSnapshot());
+        assertSame(second, first.then(second));
+        try {
+            first.then(second).write();
+            schedule.removeEvent(dateEvent);
+            journal.recordRemove(dateEvent);
+            ScheduleJournal.Checkpoint third = journal.checkpoint(schedule, SaveFormat.BINARY);
+            assertFalse(third.isSnapshot());
+            schedule.addEvent(dateEvent);
+            journal.recordAdd(dateEvent);
+            ScheduleJournal.Checkpoint merged = third.then(journal.checkpoint(schedule, SaveFormat.BINARY));
+            merged.write();
+            assertEquals(2, journal.getJournalRecords());
+            assertEquals(1, new ScheduleJournal(TEST_SAVE_FILE).load().getDateEventsSize());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void testFailureIsReported() {
+        ScheduleJournal journal = new ScheduleJournal("");
+        saver.save(journal.checkpoint(new ScheduleContainer(), SaveFormat.JSON));
+        saver.awaitIdle();
+        assertEquals(0, succeeded.get());
+        assertEquals(1, failed.get());
+        assertTrue(saver.lastWriteFailed());
+
+        saver.save(new ScheduleJournal(TEST_SAVE_FILE).checkpoint(new ScheduleContainer(), SaveFormat.JSON));
+        saver.close();
+        assertEquals(1, succeeded.get());
+        assertFalse(saver.lastWriteFailed());
+    }
+}
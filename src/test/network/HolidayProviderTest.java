@@ -0,0 +1,118 @@
+package network;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayProviderTest {
+    private static final long TTL = 1000;
+    private static final String COUNTRY = "CA";
+    private static final String PAGE_2019 = "[{\"name\" : \"New Year's Day\",\"date\" : \"2019-01-01\"}]";
+    private static final String PAGE_2019_CHANGED = "[{\"name\" : \"New Year's Day\",\"date\" : \"2019-01-01\"},"
+            + "{\"name\" : \"Canada Day\",\"date\" : \"2019-07-01\"}]";
+
+    private HolidayStandIn standIn;
+    private AtomicLong time;
+    private HolidayProvider provider;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        standIn = new HolidayStandIn();
+        time = new AtomicLong(0);
+        provider = new HolidayProvider(standIn.getBaseUrl(), TTL, time::get);
+    }
+
+    @AfterEach
+    void runAfter() {
+        standIn.stop();
+    }
+
+    @Test
+    void testFetchIsCachedUntilTtl() throws IOException {
+        standIn.setPage(2019, COUNTRY, PAGE_2019);
+        assertEquals(PAGE_2019, provider.fetch(COUNTRY, 2019, false));
+        assertTrue(provider.isFresh(COUNTRY, 2019));
+        time.set(TTL - 1);
+        assertNull(provider.fetch(COUNTRY, 2019, true));
+        assertEquals(1, standIn.getRequests());
+        // without a copy the caller always gets the page
+        assertEquals(PAGE_2019, provider.fetch(COUNTRY, 2019, false));
+        assertEquals(2, standIn.getRequests());
+    }
+
+    @Test
+    void testRevalidate() throws IOException {
+        standIn.setPage(2019, COUNTRY, PAGE_2019);
+        provider.fetch(COUNTRY, 2019, false);
+        time.set(TTL);
+        assertFalse(provider.isFresh(COUNTRY, 2019));
+        assertNull(provider.fetch(COUNTRY, 2019, true));
+        assertEquals(2, standIn.getRequests());
+        assertEquals(1, standIn.getNotModified());
+        assertTrue(provider.isFresh(COUNTRY, 2019));
+
+        standIn.setPage(2019, COUNTRY, PAGE_2019_CHANGED);
+        time.set(3 * TTL);
+        assertEquals(PAGE_2019_CHANGED, provider.fetch(COUNTRY, 2019, true));
+        assertEquals(1, standIn.getNotModified());
+    }
+
+    @Test
+    void testRecordsRestored() throws IOException {
+        standIn.setPage(2019, COUNTRY, PAGE_2019);
+        provider.fetch(COUNTRY, 2019, false);
+        HolidayProvider restarted = new HolidayProvider(standIn.getBaseUrl(), TTL, time::get);
+        restarted.setRecords(provider.getRecords());
+        assertNull(restarted.fetch(COUNTRY, 2019, true));
+        time.set(TTL);
+        assertNull(restarted.fetch(COUNTRY, 2019, true));
+        assertEquals(2, standIn.getRequests());
+        assertEquals(1, standIn.getNotModified());
+    }
+
+    @Test
+    void testFailure() throws IOException {
+        standIn.setPage(2019, COUNTRY, PAGE_2019);
+        provider.fetch(COUNTRY, 2019, false);
+        standIn.setFailing(2019, COUNTRY);
+        time.set(TTL);
+        assertThrows(IOException.class, () -> provider.fetch(COUNTRY, 2019, true));
+        // the copy is kept for a while before trying again
+        assertNull(provider.fetch(COUNTRY, 2019, true));
+        assertEquals(2, standIn.getRequests());
+        assertThrows(IOException.class, () -> provider.fetch(COUNTRY, 2000, false));
+    }
+
+    @Test
+    void testFetchAll() {
+        List<Integer> years = new ArrayList<>();
+        for (int year = 2015; year < 2023; year++) {
+            standIn.setPage(year, COUNTRY, "[" + year + "]");
+            standIn.setPage(year, "US", "[" + year + ", 1]");
+            years.add(year);
+        }
+        standIn.setFailing(2016, COUNTRY);
+        standIn.setDelay(50);
+        List<String> countries = Arrays.asList(COUNTRY, "US");
+        Map<String, String> pages = provider.fetchAll(countries, years, key -> false);
+        assertEquals(2 * years.size() - 1, pages.size());
+        assertFalse(pages.containsKey(HolidayProvider.key(COUNTRY, 2016)));
+        assertEquals("[2020]", pages.get(HolidayProvider.key(COUNTRY, 2020)));
+        assertEquals("[2020, 1]", pages.get(HolidayProvider.key("US", 2020)));
+        assertTrue(standIn.getMostRunning() > 1);
+        assertTrue(standIn.getMostRunning() <= HolidayProvider.PARALLEL_FETCHES);
+
+        int requests = standIn.getRequests();
+        String us2020 = HolidayProvider.key("US", 2020);
+        pages = provider.fetchAll(countries, years, key -> !key.equals(us2020));
+        assertEquals(Collections.singleton(us2020), pages.keySet());
+        assertEquals(requests + 2, standIn.getRequests());
+        assertTrue(provider.fetchAll(Collections.emptyList(), years, key -> false).isEmpty());
+    }
+}
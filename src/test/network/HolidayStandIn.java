@@ -0,0 +1,120 @@
+package network;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local stand-in for the holiday web API, serving /{year}/{country} from pages set by the test with an ETag for
+// each version of a page, answering 304 when asked with the current ETag and 500 for years set to fail
+public class HolidayStandIn {
+    private final HttpServer server;
+    private final Map<String, String> pages;
+    private final Map<String, Integer> versions;
+    private final Map<String, Boolean> failing;
+    private final AtomicInteger requests;
+    private final AtomicInteger notModified;
+    private final AtomicInteger running;
+    private final AtomicInteger mostRunning;
+    private volatile long delayMillis;
+
+    public HolidayStandIn() throws IOException {
+        pages = new ConcurrentHashMap<>();
+        versions = new ConcurrentHashMap<>();
+        failing = new ConcurrentHashMap<>();
+        requests = new AtomicInteger();
+        notModified = new AtomicInteger();
+        running = new AtomicInteger();
+        mostRunning = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    // EFFECTS: returns the base URL to give to a HolidayProvider
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    // MODIFIES: this
+    // EFFECTS: serves json for year of country as a new version of its page
+    public void setPage(int year, String country, String json) {
+        String path = "/" + year + "/" + country;
+        pages.put(path, json);
+        versions.merge(path, 1, Integer::sum);
+        failing.remove(path);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes requests for year of country fail
+    public void setFailing(int year, String country) {
+        failing.put("/" + year + "/" + country, true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes each request take delayMillis before it is answered
+    public void setDelay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public int getNotModified() {
+        return notModified.get();
+    }
+
+    // EFFECTS: returns the most requests that were being answered at the same time
+    public int getMostRunning() {
+        return mostRunning.get();
+    }
+
+    // EFFECTS: stops the server
+    public void stop() {
+        server.stop(0);
+    }
+
+    // EFFECTS: answers exchange
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            String path = exchange.getRequestURI().getPath();
+            String page = pages.get(path);
+            if (page == null || failing.containsKey(path)) {
+                exchange.sendResponseHeaders(page == null ? 404 : 500, -1);
+                return;
+            }
+            String etag = "\"" + versions.get(path) + "\"";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] body = page.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonthCacheTest {
+    private static final YearMonth JAN = YearMonth.of(2021, 1);
+    private static final YearMonth FEB = YearMonth.of(2021, 2);
+    private static final YearMonth MAR = YearMonth.of(2021, 3);
+
+    private MonthCache cache;
+
+    @BeforeEach
+    void runBefore() {
+        cache = new MonthCache(2);
+    }
+
+    @Test
+    void testGetAndPut() {
+        assertNull(cache.get(JAN, true, true, true));
+        cache.put(JAN, true, true, true, new int[]{5, 1}, cache.getGeneration());
+        assertArrayEquals(new int[]{5, 1}, cache.get(JAN, true, true, true));
+        assertTrue(cache.contains(JAN, true, true, true));
+        assertNull(cache.get(JAN, true, false, true));
+        assertNull(cache.get(JAN, true, true, false));
+        assertNull(cache.get(FEB, true, true, true));
+
+        cache.get(JAN, true, true, true)[0] = 0;
+        assertArrayEquals(new int[]{5, 1}, cache.get(JAN, true, true, true));
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsDropped() {
+        cache.put(JAN, true, true, true, new int[]{1, 0}, cache.getGeneration());
+        cache.put(FEB, true, true, true, new int[]{2, 0}, cache.getGeneration());
+        assertNotNull(cache.get(JAN, true, true, true));
+        cache.put(MAR, true, true, true, new int[]{3, 0}, cache.getGeneration());
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(JAN, true, true, true));
+        assertNull(cache.get(FEB, true, true, true));
+        assertNotNull(cache.get(MAR, true, true, true));
+    }
+
+    @Test
+    void testInvalidate() {
+        cache.put(JAN, true, true, true, new int[]{1, 0}, cache.getGeneration());
+        int generation = cache.getGeneration();
+        cache.invalidate();
+        assertEquals(0, cache.size());
+        cache.put(FEB, true, true, true, new int[]{2, 0}, generation);
+        assertNull(cache.get(FEB, true, true, true));
+        cache.put(FEB, true, true, true, new int[]{2, 0}, cache.getGeneration());
+        assertArrayEquals(new int[]{2, 0}, cache.get(FEB, true, true, true));
+    }
+}
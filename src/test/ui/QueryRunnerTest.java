@@ -0,0 +1,103 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryRunnerTest {
+    private static final int RESULT_DELAY_MS = 300;
+
+    private QueryRunner runner;
+    private List<String> results;
+
+    @BeforeEach
+    void runBefore() {
+        runner = new QueryRunner();
+        results = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    void runAfter() {
+        runner.close();
+    }
+
+    // EFFECTS: waits until every result of requests already made has reached the event dispatch thread;
+    //          SwingWorker hands results over on a timer, so this also waits out a few of its ticks
+    private void awaitResults() throws Exception {
+        CountDownLatch idle = new CountDownLatch(1);
+        runner.execute(idle::countDown);
+        assertTrue(idle.await(5, TimeUnit.SECONDS));
+        Thread.sleep(RESULT_DELAY_MS);
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    @Test
+    void testOnlyLatestResultIsGiven() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean skippedRan = new AtomicBoolean(false);
+        SwingUtilities.invokeAndWait(() -> runner.submit(() -> {
+            started.countDown();
+            release.await();
+            return "stale";
+        }, results::add));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> {
+            runner.submit(() -> {
+                skippedRan.set(true);
+                return "skipped";
+            }, results::add);
+            runner.submit(() -> "latest", result -> {
+                assertTrue(SwingUtilities.isEventDispatchThread());
+                results.add(result);
+            });
+        });
+        release.countDown();
+        awaitResults();
+        assertEquals(Collections.singletonList("latest"), results);
+        assertFalse(skippedRan.get());
+    }
+
+    @Test
+    void testExecuteIsNeverCancelled() throws Exception {
+        List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+        SwingUtilities.invokeAndWait(() -> {
+            runner.execute(() -> "kept", results::add, failures::add);
+            runner.submit(() -> "latest", results::add);
+            runner.cancel();
+            runner.<String>execute(() -> {
+                throw new IOException("failed");
+            }, results::add, failures::add);
+        });
+        awaitResults();
+        assertEquals(Collections.singletonList("kept"), results);
+        assertEquals(1, failures.size());
+        assertEquals("failed", failures.get(0).getMessage());
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(() -> {
+            runner.submit(() -> {
+                release.await();
+                return "cancelled";
+            }, results::add);
+            runner.cancel();
+        });
+        release.countDown();
+        awaitResults();
+        assertTrue(results.isEmpty());
+    }
+}
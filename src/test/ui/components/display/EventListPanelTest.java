@@ -0,0 +1,74 @@
+package ui.components.display;
+
+import model.DateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventListPanelTest {
+    private static final int EVENT_COUNT = 100000;
+
+    private EventListPanel listPanel;
+    private JViewport viewport;
+
+    @BeforeEach
+    void runBefore() {
+        listPanel = new EventListPanel(null, LocalDate.of(2000, 1, 1), true, true);
+        listPanel.addRow(new TitleLabel("Date Events", false));
+        List<DateEvent> events = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new DateEvent("Event " + i, LocalDate.of(2000, 1, 1).plusDays(i / 8),
+                    LocalTime.of(i % 8, 0), LocalTime.of(i % 8, 30)));
+        }
+        listPanel.addEventRows(events);
+        viewport = new JViewport();
+        viewport.setView(listPanel);
+        viewport.setSize(400, 600);
+        listPanel.setSize(400, listPanel.getPreferredSize().height);
+    }
+
+    // EFFECTS: returns the names of the event panels made in listPanel, in order
+    private List<String> shownNames() {
+        List<String> retVal = new ArrayList<>();
+        for (Component component : listPanel.getComponents()) {
+            if (component instanceof EventPanel) {
+                retVal.add(((EventPanel) component).getScheduleEvent().getName());
+            }
+        }
+        return retVal;
+    }
+
+    @Test
+    void testOnlyRowsInViewAreMade() {
+        listPanel.doLayout();
+        assertEquals(EVENT_COUNT + 1, listPanel.getRowCount());
+        assertTrue(listPanel.getComponentCount() < 50);
+        assertEquals("Event 0", shownNames().get(0));
+        int rowHeight = listPanel.getScrollableUnitIncrement(new Rectangle(0, 1000, 400, 600),
+                SwingConstants.VERTICAL, 1);
+        assertTrue(listPanel.getPreferredSize().height > EVENT_COUNT * rowHeight);
+        viewport.setViewPosition(new Point(0, listPanel.getPreferredSize().height - 600));
+        assertTrue(listPanel.getComponentCount() < 50);
+        List<String> names = shownNames();
+        assertEquals("Event " + (EVENT_COUNT - 1), names.get(names.size() - 1));
+    }
+
+    @Test
+    void testRemoveShownRow() {
+        listPanel.doLayout();
+        EventPanel first = (EventPanel) listPanel.getComponent(1);
+        assertEquals("Event 0", first.getScheduleEvent().getName());
+        listPanel.remove(first);
+        listPanel.doLayout();
+        assertEquals(EVENT_COUNT, listPanel.getRowCount());
+        assertEquals("Event 1", shownNames().get(0));
+    }
+}
@@ -0,0 +1,105 @@
+package ui.components.display;
+
+import org.junit.jupiter.api.Test;
+import ui.VisualEditor;
+import utilities.TimeUtility;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonthGridTest {
+    // May 2021 starts on a Saturday, so its first day is in the last column of the first row
+    private static final YearMonth MAY = YearMonth.of(2021, 5);
+    private static final YearMonth JUNE = YearMonth.of(2021, 6);
+
+    private final List<LocalDate> picked = new ArrayList<>();
+
+    @Test
+    void testButtonGridShowsMonth() {
+        ButtonMonthGrid grid = new ButtonMonthGrid(picked::add);
+        int eventDays = TimeUtility.dayMask(3);
+        grid.setMonth(MAY, eventDays, TimeUtility.dayMask(1), 2, Color.RED, true);
+        assertFalse(grid.getButton(5).isVisible());
+        assertTrue(grid.getButton(6).isVisible());
+        assertEquals("<html>&nbsp;1*</html>", grid.getButton(6).getText());
+        assertEquals(VisualEditor.ELEMENT_COLOR, grid.getButton(6).getBackground());
+        assertEquals(VisualEditor.TODAY_HL_COLOR, grid.getButton(7).getBackground());
+        assertEquals(Color.WHITE, grid.getButton(7).getForeground());
+        assertEquals(Color.RED, grid.getButton(8).getBackground());
+        assertEquals("<html>&nbsp;31</html>", grid.getButton(36).getText());
+        assertFalse(grid.getButton(37).isVisible());
+
+        grid.getButton(8).doClick();
+        assertEquals(Arrays.asList(LocalDate.of(2021, 5, 3)), picked);
+    }
+
+    @Test
+    void testButtonGridReusesCells() {
+        ButtonMonthGrid grid = new ButtonMonthGrid(picked::add);
+        grid.setMonth(MAY, 0, 0, -1, Color.RED, false);
+        Component[] before = grid.getComponents();
+        JButton button = grid.getButton(6);
+        grid.setMonth(JUNE, TimeUtility.dayMask(1), 0, -1, Color.RED, false);
+        assertArrayEquals(before, grid.getComponents());
+        assertSame(button, grid.getButton(6));
+        assertEquals(MonthGrid.CELLS, grid.getComponentCount());
+        // June 2021 starts on a Tuesday
+        assertFalse(grid.getButton(1).isVisible());
+        assertEquals("<html>&nbsp;1</html>", grid.getButton(2).getText());
+        assertEquals(Color.RED, grid.getButton(2).getBackground());
+        assertEquals("<html>&nbsp;5</html>", grid.getButton(6).getText());
+
+        button.doClick();
+        assertEquals(Arrays.asList(LocalDate.of(2021, 6, 5)), picked);
+    }
+
+    @Test
+    void testPaintedGridCellAt() {
+        PaintedMonthGrid grid = new PaintedMonthGrid(picked::add);
+        grid.setSize(700, 600);
+        assertEquals(0, grid.cellAt(0, 0));
+        assertEquals(8, grid.cellAt(150, 150));
+        assertEquals(MonthGrid.CELLS - 1, grid.cellAt(699, 599));
+        assertEquals(-1, grid.cellAt(700, 0));
+        assertEquals(-1, grid.cellAt(0, -1));
+
+        grid.setSize(10, 10);
+        for (int x = 0; x < 10; x++) {
+            int cell = grid.cellAt(x, 0);
+            assertTrue(cell >= 0 && cell < MonthGrid.COLUMNS);
+            assertTrue(x == 0 || cell >= grid.cellAt(x - 1, 0));
+        }
+    }
+
+    @Test
+    void testPaintedGridClick() {
+        PaintedMonthGrid grid = new PaintedMonthGrid(picked::add);
+        grid.setSize(700, 600);
+        grid.setMonth(MAY, 0, 0, -1, Color.RED, false);
+        click(grid, 50, 50);
+        assertTrue(picked.isEmpty());
+        click(grid, 650, 50);
+        click(grid, 150, 150);
+        assertEquals(Arrays.asList(LocalDate.of(2021, 5, 1), LocalDate.of(2021, 5, 3)), picked);
+
+        grid.setMonth(JUNE, 0, 0, -1, Color.RED, false);
+        click(grid, 650, 50);
+        assertEquals(LocalDate.of(2021, 6, 5), picked.get(2));
+    }
+
+    // MODIFIES: grid
+    // EFFECTS: clicks grid at x, y with the left mouse button
+    private static void click(JComponent grid, int x, int y) {
+        grid.dispatchEvent(new MouseEvent(grid, MouseEvent.MOUSE_CLICKED, System.currentTimeMillis(),
+                InputEvent.BUTTON1_DOWN_MASK, x, y, 1, false, MouseEvent.BUTTON1));
+    }
+}
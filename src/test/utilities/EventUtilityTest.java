@@ -176,4 +176,53 @@ public class EventUtilityTest {
                 LocalDate.of(2000,1,1), dateEvents);
         listEquals(EventUtility.trimList(4, 11, dateEvents), returnValue);
     }
+
+    @Test
+    void testBounds() {
+        List<DateEvent> dateEvents = new ArrayList<>();
+        addLotsDateEvents(dateEvents);
+        DateEvent same = createDateEvent("same", LocalDate.of(2014, 6, 5));
+        assertEquals(12, EventUtility.lowerBound(dateEvents, same));
+        assertEquals(15, EventUtility.upperBound(dateEvents, same));
+        DateEvent before = createDateEvent("before", LocalDate.of(1900, 1, 1));
+        assertEquals(0, EventUtility.lowerBound(dateEvents, before));
+        assertEquals(0, EventUtility.upperBound(dateEvents, before));
+        DateEvent after = createDateEvent("after", LocalDate.of(2100, 1, 1));
+        assertEquals(16, EventUtility.lowerBound(dateEvents, after));
+        assertEquals(16, EventUtility.upperBound(dateEvents, after));
+    }
+
+    @Test
+    void testIndexOfSorted() {
+        List<DateEvent> dateEvents = new ArrayList<>();
+        addLotsDateEvents(dateEvents);
+        assertEquals(13, EventUtility.indexOfSorted(dateEvents, dateEvents.get(13)));
+        assertEquals(3, EventUtility.indexOfSorted(dateEvents, dateEvents.get(3)));
+        assertEquals(12, EventUtility.indexOfSorted(dateEvents,
+                createDateEvent("other", LocalDate.of(2014, 6, 5))));
+        assertEquals(-1, EventUtility.indexOfSorted(dateEvents,
+                createDateEvent("missing", LocalDate.of(2014, 6, 6))));
+    }
+
+    @Test
+    void testMergeSorted() {
+        List<Integer> listA = new ArrayList<>();
+        addNumbersToList(listA);
+        List<Integer> listB = new ArrayList<>();
+        listB.add(0);
+        listB.add(3);
+        listB.add(6);
+        listEqualsArray(new Integer[]{0, 1, 2, 3, 3, 4, 5, 6}, EventUtility.mergeSorted(listA, listB));
+        listEqualsArray(new Integer[]{1, 2, 3, 4, 5}, EventUtility.mergeSorted(listA, new ArrayList<>()));
+        listEqualsArray(new Integer[]{0, 3, 6}, EventUtility.mergeSorted(new ArrayList<>(), listB));
+
+        List<DateEvent> dateEvents = new ArrayList<>();
+        addLotsDateEvents(dateEvents);
+        List<DateEvent> additions = new ArrayList<>();
+        DateEvent same = createDateEvent("same", LocalDate.of(1967, 12, 20));
+        additions.add(same);
+        List<DateEvent> merged = EventUtility.mergeSorted(dateEvents, additions);
+        assertEquals(17, merged.size());
+        assertEquals(same, merged.get(4));
+    }
 }
@@ -78,6 +78,23 @@ public class TimeUtilityTest {
         assertEquals(LocalTime.of(1,51), diffLocalTimes(t3, t2));
     }
 
+    @Test
+    void testTimeArithmeticMatchesLocalTimeChains() {
+        LocalTime[] times = {LocalTime.MIDNIGHT, LocalTime.of(0, 59), LocalTime.of(11, 30, 15), LocalTime.NOON,
+                LocalTime.of(22, 1), LocalTime.of(23, 58, 59), LocalTime.of(23, 59), LocalTime.of(23, 59, 30)};
+        for (LocalTime time1 : times) {
+            for (LocalTime time2 : times) {
+                LocalTime earlier = time1.isAfter(time2) ? time2 : time1;
+                LocalTime later = time1.isAfter(time2) ? time1 : time2;
+                LocalTime diff = later.minusHours(earlier.getHour()).minusMinutes(earlier.getMinute());
+                assertEquals(diff, diffLocalTimes(time1, time2));
+                LocalTime sum = time1.plusHours(time2.getHour()).plusMinutes(time2.getMinute());
+                boolean fits = diffLocalTimes(time1, LocalTime.of(23, 59)).isAfter(time2);
+                assertEquals(fits ? sum : LocalTime.of(23, 59), addLocalTimesLimit(time1, time2));
+            }
+        }
+    }
+
     @Test
     void testIsBetweenTime() {
         assertTrue(isBetweenTime(t2, t1, t3));
@@ -254,4 +271,23 @@ public class TimeUtilityTest {
             assertFalse(isWeek(date, date.plusDays((7 * i) + 6)));
         }
     }
+
+    @Test
+    void testDayMasks() {
+        YearMonth february = YearMonth.of(2021, 2);
+        assertEquals(1, dayMask(1));
+        assertEquals(1 << 30, dayMask(31));
+        assertTrue(isDaySet(dayMask(5) | dayMask(9), 9));
+        assertFalse(isDaySet(dayMask(5) | dayMask(9), 8));
+        assertEquals((1 << 28) - 1, fullMonthMask(february));
+        assertEquals(-1 >>> 1, fullMonthMask(YearMonth.of(2021, 1)));
+        // 2021-02-01 is a Monday
+        assertEquals(dayMask(1) | dayMask(8) | dayMask(15) | dayMask(22), dayOfWeekMask(february, DayOfWeek.MONDAY));
+        assertEquals(dayMask(7) | dayMask(14) | dayMask(21) | dayMask(28), dayOfWeekMask(february, DayOfWeek.SUNDAY));
+        boolean[] days = toDayArray(dayMask(2) | dayMask(28), february);
+        assertEquals(28, days.length);
+        assertTrue(days[1]);
+        assertTrue(days[27]);
+        assertFalse(days[0]);
+    }
 }